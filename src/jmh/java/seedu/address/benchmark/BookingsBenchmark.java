@@ -0,0 +1,81 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.room.Room;
+import seedu.address.model.room.RoomNumber;
+import seedu.address.model.room.booking.Booking;
+import seedu.address.model.room.booking.Bookings;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures adding and removing a booking as the number of bookings in a room grows. A room is booked about once
+ * every five days, so the booking horizons give rooms of roughly 10, 100 and 1000 bookings.
+ * {@code Bookings} is immutable, so every invocation starts from the same set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingsBenchmark {
+
+    private static final long SEED = 20181101L;
+
+    @Param({"50", "500", "5000"})
+    private int bookingHorizonDays;
+
+    private Bookings bookings;
+    private Booking bookingAfterLast;
+    private Booking middleBooking;
+
+    /**
+     * Generates a single room booked back-to-back up to the booking horizon.
+     */
+    @Setup
+    public void setUp() {
+        RoomNumber.setMaxRoomNumber(1);
+        List<Room> rooms = new ArrayList<>();
+        new SyntheticDataGenerator(SEED).withGuestCount(100).withBookingHorizonDays(bookingHorizonDays)
+                .withCheckedInPercent(0).generate(guest -> { }, rooms::add);
+        bookings = rooms.get(0).getBookings();
+        List<Booking> bookingList = new ArrayList<>(bookings.getSortedBookingsSet());
+        middleBooking = bookingList.get(bookingList.size() / 2);
+
+        LocalDate lastEndDate = bookings.getSortedBookingsSet().last().getBookingPeriod().getEndDate();
+        bookingAfterLast = new Booking(SyntheticDataGenerator.getGuest(0),
+                SyntheticDataGenerator.getBookingPeriod(lastEndDate, 1));
+    }
+
+    /**
+     * Adds a booking after the last one.
+     */
+    @Benchmark
+    public Bookings add() {
+        return bookings.add(bookingAfterLast);
+    }
+
+    /**
+     * Removes the booking in the middle.
+     */
+    @Benchmark
+    public Bookings remove() {
+        return bookings.remove(middleBooking);
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.room.Room;
+import seedu.address.model.room.RoomNumber;
+import seedu.address.model.room.booking.Booking;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures the latency of the {@code find}, {@code checkin} and {@code service} commands, from parsing the input
+ * to committing the change, on a hotel with bookings in every room.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandBenchmark {
+
+    private static final long SEED = 20181101L;
+
+    @Param({"100", "1000"})
+    private int roomCount;
+
+    @Param({"1000", "10000"})
+    private int guestCount;
+
+    @Param({"5", "150"})
+    private int bookingHorizonDays;
+
+    private Model model;
+    private Logic logic;
+    /** A room that {@code checkin} checks in, after it is checked out and booked again before every invocation */
+    private RoomNumber checkInRoomNumber;
+    /** A checked-in room that {@code service} charges */
+    private RoomNumber serviceRoomNumber;
+
+    /**
+     * Builds a signed-in model of the generated hotel. Rebuilt every iteration so that the expenses charged by
+     * {@code service} do not pile up.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() throws Exception {
+        // Keep per-command INFO logging out of the measurements
+        Logger.getLogger("").setLevel(java.util.logging.Level.WARNING);
+
+        RoomNumber.setMaxRoomNumber(roomCount);
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SEED).withGuestCount(guestCount)
+                .withBookingHorizonDays(bookingHorizonDays);
+        model = new ModelManager(generator.generateConcierge(), new UserPrefs(),
+                SampleDataUtil.getDefaultPasswordHashList());
+        logic = new LogicManager(model);
+        logic.execute("login user/admin pw/passw0rd");
+
+        List<RoomNumber> checkedInRoomNumbers = model.getConcierge().getRoomList().stream()
+                .filter(CommandBenchmark::isCheckedIn)
+                .map(Room::getRoomNumber)
+                .limit(2)
+                .collect(Collectors.toList());
+        checkInRoomNumber = checkedInRoomNumbers.get(0);
+        serviceRoomNumber = checkedInRoomNumbers.get(1);
+    }
+
+    private static boolean isCheckedIn(Room room) {
+        return !room.getBookings().getSortedBookingsSet().isEmpty()
+                && room.getBookings().getFirstBooking().getIsCheckedIn();
+    }
+
+    /**
+     * Finds the suites, i.e. one in ten rooms.
+     */
+    @Benchmark
+    public CommandResult findRooms() throws Exception {
+        return logic.execute("find -r c/5");
+    }
+
+    /**
+     * Finds an archived guest by phone number.
+     */
+    @Benchmark
+    public CommandResult findGuest() throws Exception {
+        return logic.execute("find -g p/" + SyntheticDataGenerator.getGuest(guestCount / 2).getPhone());
+    }
+
+    /**
+     * Checks in a room whose first booking starts today.
+     */
+    @Benchmark
+    public CommandResult checkin(CheckInState state) throws Exception {
+        return logic.execute("checkin r/" + checkInRoomNumber);
+    }
+
+    /**
+     * Charges a checked-in room for a menu item.
+     */
+    @Benchmark
+    public CommandResult service() throws Exception {
+        return logic.execute("service r/" + serviceRoomNumber + " no/"
+                + SampleDataUtil.getSampleExpenseTypes()[0].getItemNumber());
+    }
+
+    /**
+     * Puts an unchecked-in booking starting today back into the room to check in before every {@code checkin}.
+     * The room's generated checked-in booking also starts today, and its next booking starts a night or more later.
+     */
+    @State(Scope.Thread)
+    public static class CheckInState {
+        private final Booking booking = new Booking(SyntheticDataGenerator.getGuest(0),
+                SyntheticDataGenerator.getBookingPeriod(LocalDate.now(), 1));
+
+        /**
+         * Checks out the booking checked in by the previous invocation, or by the generator, and books the room again.
+         */
+        @Setup(Level.Invocation)
+        public void resetBooking(CommandBenchmark benchmark) {
+            Model model = benchmark.model;
+            RoomNumber roomNumber = benchmark.checkInRoomNumber;
+            Room room = model.getConcierge().getRoomList().get(roomNumber.getValue() - 1);
+            if (room.getBookings().getFirstBooking().getIsCheckedIn()) {
+                model.checkoutRoom(roomNumber);
+                model.addBooking(roomNumber, booking);
+            }
+            // Drop the snapshot committed by the previous checkin so that history does not grow unbounded
+            model.resetUndoRedoHistory();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Measures what making a save crash-safe costs, against overwriting the data file in place, for data files of
+ * different sizes. Most of the cost is forcing the data to the disk, so results depend heavily on the disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DurableWriteBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    private int fileSize;
+
+    private byte[] content;
+    private Path directory;
+    private Path file;
+    private Path previousFile;
+
+    /**
+     * Creates the content to write, and the directory to write it in.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        content = new byte[fileSize];
+        new Random(0).nextBytes(content);
+        directory = Files.createTempDirectory("concierge-write");
+        file = directory.resolve("concierge.xml");
+        previousFile = directory.resolve("concierge.xml.bak1");
+    }
+
+    /**
+     * Removes the directory and the files written in it.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(previousFile);
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Overwrites the file in place, as saves did before they were made crash-safe.
+     */
+    @Benchmark
+    public Path writeInPlace() throws IOException {
+        return Files.write(file, content);
+    }
+
+    /**
+     * Writes to a temporary file, forces it to the disk, and renames it over the file.
+     */
+    @Benchmark
+    public Path writeAtomically() throws IOException {
+        FileUtil.writeAtomically(file, null, out -> out.write(content));
+        return file;
+    }
+
+    /**
+     * As {@link #writeAtomically()}, but also keeps the file that is replaced, as saves of the data file do.
+     */
+    @Benchmark
+    public Path writeAtomicallyKeepingPrevious() throws IOException {
+        FileUtil.writeAtomically(file, previousFile, out -> out.write(content));
+        return file;
+    }
+}
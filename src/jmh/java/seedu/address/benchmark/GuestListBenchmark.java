@@ -0,0 +1,82 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.guest.Guest;
+import seedu.address.model.guest.UniqueGuestList;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures duplicate detection in the guest list as the number of archived guests grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GuestListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int guestCount;
+
+    private List<Guest> guestList;
+    private UniqueGuestList guests;
+    private Guest presentGuest;
+    private Guest absentGuest;
+
+    /**
+     * Fills the guest list with {@code guestCount} distinct guests.
+     */
+    @Setup
+    public void setUp() {
+        guestList = IntStream.range(0, guestCount)
+                .mapToObj(SyntheticDataGenerator::getGuest)
+                .collect(Collectors.toList());
+        guests = new UniqueGuestList();
+        guests.setGuests(guestList);
+        presentGuest = guestList.get(guestCount / 2);
+        absentGuest = SyntheticDataGenerator.getGuest(guestCount);
+    }
+
+    /**
+     * Looks up a guest that is in the list.
+     */
+    @Benchmark
+    public boolean containsPresent() {
+        return guests.contains(presentGuest);
+    }
+
+    /**
+     * Looks up a guest that is not in the list.
+     */
+    @Benchmark
+    public boolean containsAbsent() {
+        return guests.contains(absentGuest);
+    }
+
+    /**
+     * Replaces the whole list, checking every guest for duplicates.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public UniqueGuestList setGuests() {
+        guests.setGuests(guestList);
+        return guests;
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.room.RoomNumber;
+import seedu.address.model.room.booking.Booking;
+import seedu.address.model.room.booking.BookingPeriod;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Measures the latency of the {@code list}, {@code find} and {@code checkin} commands as the
+ * room inventory grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoomInventoryBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int roomCount;
+
+    private Model model;
+    private Logic logic;
+    private RoomNumber lastRoomNumber;
+    private String checkInCommand;
+
+    /**
+     * Builds a signed-in model with {@code roomCount} empty rooms.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        // Keep per-command INFO logging out of the measurements
+        Logger.getLogger("").setLevel(Level.WARNING);
+
+        RoomNumber.setMaxRoomNumber(roomCount);
+        model = new ModelManager(SampleDataUtil.getEmptyConcierge(), new UserPrefs(),
+                SampleDataUtil.getDefaultPasswordHashList());
+        logic = new LogicManager(model);
+        logic.execute("login user/admin pw/passw0rd");
+        lastRoomNumber = new RoomNumber(roomCount);
+        checkInCommand = "checkin r/" + lastRoomNumber;
+    }
+
+    /**
+     * Lists every room.
+     */
+    @Benchmark
+    public CommandResult list() throws Exception {
+        return logic.execute("list -r");
+    }
+
+    /**
+     * Finds the suites, i.e. one in ten rooms.
+     */
+    @Benchmark
+    public CommandResult find() throws Exception {
+        return logic.execute("find -r c/5");
+    }
+
+    /**
+     * Checks in the last room of the inventory.
+     */
+    @Benchmark
+    public CommandResult checkin(CheckInState state) throws Exception {
+        return logic.execute(checkInCommand);
+    }
+
+    /**
+     * Gives the last room a fresh booking before every {@code checkin} invocation.
+     * JMH cannot hand the benchmark to more than one setup method of a state, so there is only the one.
+     */
+    @State(Scope.Thread)
+    public static class CheckInState {
+        private final Booking booking = new Booking(SampleDataUtil.getSampleGuests()[0], new BookingPeriod(
+                LocalDate.now().format(BookingPeriod.DATE_TO_STRING_FORMAT),
+                LocalDate.now().plusDays(1).format(BookingPeriod.DATE_TO_STRING_FORMAT)));
+
+        /**
+         * Checks out the previously checked-in booking and adds it again, unchecked.
+         */
+        @Setup(org.openjdk.jmh.annotations.Level.Invocation)
+        public void resetBooking(RoomInventoryBenchmark benchmark) {
+            Model model = benchmark.model;
+            if (model.getConcierge().getRoomList().get(benchmark.roomCount - 1).hasBookings()) {
+                model.checkoutRoom(benchmark.lastRoomNumber);
+            }
+            model.addBooking(benchmark.lastRoomNumber, booking);
+            // Drop the snapshot committed by the previous checkin so that history does not grow unbounded
+            model.resetUndoRedoHistory();
+        }
+    }
+}
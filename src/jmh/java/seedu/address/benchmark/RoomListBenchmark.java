@@ -0,0 +1,85 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.room.Room;
+import seedu.address.model.room.RoomNumber;
+import seedu.address.model.room.UniqueRoomList;
+import seedu.address.model.room.booking.Booking;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures looking up and replacing a room as the room inventory grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoomListBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int roomCount;
+
+    private UniqueRoomList rooms;
+    private RoomNumber lastRoomNumber;
+    private Room currentRoom;
+    private Room otherRoom;
+    private List<Booking> currentRoomOnlyBookings;
+    private List<Booking> otherRoomOnlyBookings;
+
+    /**
+     * Builds an inventory of {@code roomCount} empty rooms, and a booked copy of the last room to swap in.
+     */
+    @Setup
+    public void setUp() {
+        RoomNumber.setMaxRoomNumber(roomCount);
+        rooms = new UniqueRoomList();
+        lastRoomNumber = new RoomNumber(roomCount);
+        currentRoom = rooms.getRoom(lastRoomNumber);
+        Booking booking = new Booking(SyntheticDataGenerator.getGuest(0),
+                SyntheticDataGenerator.getBookingPeriod(LocalDate.now(), 3));
+        otherRoom = currentRoom.addBooking(booking);
+        currentRoomOnlyBookings = Collections.emptyList();
+        otherRoomOnlyBookings = Collections.singletonList(booking);
+    }
+
+    /**
+     * Looks up the last room.
+     */
+    @Benchmark
+    public Room getRoom() {
+        return rooms.getRoom(lastRoomNumber);
+    }
+
+    /**
+     * Replaces the last room, alternating between its booked and unbooked versions.
+     */
+    @Benchmark
+    public Room setRoom() {
+        rooms.setRoom(currentRoom, otherRoom, currentRoomOnlyBookings, otherRoomOnlyBookings);
+        Room replacedRoom = currentRoom;
+        currentRoom = otherRoom;
+        otherRoom = replacedRoom;
+        List<Booking> replacedRoomOnlyBookings = currentRoomOnlyBookings;
+        currentRoomOnlyBookings = otherRoomOnlyBookings;
+        otherRoomOnlyBookings = replacedRoomOnlyBookings;
+        return currentRoom;
+    }
+}
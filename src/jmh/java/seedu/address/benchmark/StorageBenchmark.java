@@ -0,0 +1,124 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Concierge;
+import seedu.address.model.ReadOnlyConcierge;
+import seedu.address.model.room.RoomNumber;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.BinaryConciergeStorage;
+import seedu.address.storage.ConciergeStorage;
+import seedu.address.storage.XmlConciergeStorage;
+
+/**
+ * Measures saving and loading the concierge data file as the hotel grows, in each file format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageBenchmark {
+
+    private static final long SEED = 20181101L;
+
+    @Param({"100", "1000"})
+    private int roomCount;
+
+    @Param({"1000", "10000"})
+    private int guestCount;
+
+    @Param({"90"})
+    private int bookingHorizonDays;
+
+    @Param({"xml", "binary"})
+    private String format;
+
+    private Concierge concierge;
+    private Path saveFile;
+    private Path loadFile;
+    private long loadFileSize;
+    private ConciergeStorage storage;
+
+    /**
+     * Generates the hotel, and writes it out once for {@code load} to read.
+     * The storage's data file is {@code saveFile}, so that {@code save} also keeps earlier versions of it, as saving
+     * the app's data file does.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        RoomNumber.setMaxRoomNumber(roomCount);
+        concierge = new SyntheticDataGenerator(SEED).withGuestCount(guestCount)
+                .withBookingHorizonDays(bookingHorizonDays).generateConcierge();
+        saveFile = Files.createTempFile("concierge-save", "." + format);
+        loadFile = Files.createTempFile("concierge-load", "." + format);
+        storage = format.equals("binary") ? new BinaryConciergeStorage(saveFile) : new XmlConciergeStorage(saveFile);
+        storage.saveConcierge(concierge, loadFile);
+        loadFileSize = Files.size(loadFile);
+    }
+
+    /**
+     * Removes the data files, and the earlier versions of them that saving keeps.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        for (Path file : new Path[] {saveFile, loadFile}) {
+            try (DirectoryStream<Path> generations =
+                    Files.newDirectoryStream(file.getParent(), file.getFileName() + ".bak*")) {
+                for (Path generation : generations) {
+                    Files.delete(generation);
+                }
+            }
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Saves the whole hotel.
+     */
+    @Benchmark
+    public Path save() throws IOException {
+        storage.saveConcierge(concierge, saveFile);
+        return saveFile;
+    }
+
+    /**
+     * Loads the whole hotel, reporting the size of the file read as {@code load:dataFileBytes}.
+     */
+    @Benchmark
+    public Optional<ReadOnlyConcierge> load(DataFile dataFile) throws DataConversionException, IOException {
+        dataFile.dataFileBytes = loadFileSize;
+        return storage.readConcierge(loadFile);
+    }
+
+    /**
+     * Reports the size of the data file alongside the time taken to load it, so that load times can be compared
+     * against file size.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class DataFile {
+        public long dataFileBytes;
+    }
+}
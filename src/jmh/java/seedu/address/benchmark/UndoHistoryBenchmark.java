@@ -0,0 +1,99 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.VersionedConcierge;
+import seedu.address.model.expenses.Expense;
+import seedu.address.model.room.Room;
+import seedu.address.model.room.RoomNumber;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures committing, undoing and redoing a room service charge as the hotel grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UndoHistoryBenchmark {
+
+    private static final long SEED = 20181101L;
+
+    @Param({"100", "1000"})
+    private int roomCount;
+
+    @Param({"1000", "10000"})
+    private int guestCount;
+
+    private VersionedConcierge versionedConcierge;
+    private RoomNumber checkedInRoomNumber;
+    private Expense expense;
+
+    /**
+     * Builds a hotel with a few bookings in every room, and commits one charge so that there is a state to undo.
+     */
+    @Setup
+    public void setUp() {
+        RoomNumber.setMaxRoomNumber(roomCount);
+        versionedConcierge = new VersionedConcierge(new SyntheticDataGenerator(SEED).withGuestCount(guestCount)
+                .withBookingHorizonDays(50).generateConcierge());
+        checkedInRoomNumber = versionedConcierge.getRoomList().stream()
+                .filter(room -> room.getBookings().getFirstBooking().getIsCheckedIn())
+                .map(Room::getRoomNumber)
+                .findFirst()
+                .get();
+        expense = new Expense(SampleDataUtil.getSampleExpenseTypes()[0]);
+        versionedConcierge.addExpense(checkedInRoomNumber, expense);
+        versionedConcierge.commit();
+    }
+
+    /**
+     * Commits a charge made to the checked-in room. The oldest states are dropped once the history is full.
+     */
+    @Benchmark
+    public VersionedConcierge commit(ChargeState state) {
+        versionedConcierge.commit();
+        return versionedConcierge;
+    }
+
+    /**
+     * Undoes and redoes the last committed charge.
+     */
+    @Benchmark
+    public VersionedConcierge undoRedo() {
+        versionedConcierge.undo();
+        versionedConcierge.redo();
+        return versionedConcierge;
+    }
+
+    /**
+     * Makes an uncommitted charge before every {@code commit} invocation.
+     */
+    @State(Scope.Thread)
+    public static class ChargeState {
+
+        /**
+         * Charges the checked-in room for the sample expense.
+         */
+        @Setup(Level.Invocation)
+        public void charge(UndoHistoryBenchmark benchmark) {
+            benchmark.versionedConcierge.addExpense(benchmark.checkedInRoomNumber, benchmark.expense);
+        }
+    }
+}
@@ -4,11 +4,13 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.model.util.SyntheticDataGenerator;
 
 /**
  * Represents the parsed command-line parameters given to the application.
@@ -17,6 +19,8 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Long generatorSeed;
+    private int generatorGuestCount = SyntheticDataGenerator.DEFAULT_GUEST_COUNT;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,6 +30,24 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the generator of the synthetic hotel to start with instead of the data file, if one was requested.
+     */
+    public Optional<SyntheticDataGenerator> getSyntheticDataGenerator() {
+        if (generatorSeed == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new SyntheticDataGenerator(generatorSeed).withGuestCount(generatorGuestCount));
+    }
+
+    public void setGeneratorSeed(Long generatorSeed) {
+        this.generatorSeed = generatorSeed;
+    }
+
+    public void setGeneratorGuestCount(int generatorGuestCount) {
+        this.generatorGuestCount = generatorGuestCount;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -40,6 +62,29 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String generateParameter = namedParameters.get("generate");
+        if (generateParameter != null) {
+            try {
+                appParameters.setGeneratorSeed(Long.parseLong(generateParameter));
+            } catch (NumberFormatException e) {
+                logger.warning("Invalid generator seed " + generateParameter + ". Not generating data.");
+            }
+        }
+
+        String guestsParameter = namedParameters.get("guests");
+        if (guestsParameter != null) {
+            try {
+                int guestCount = Integer.parseInt(guestsParameter);
+                if (guestCount < 0) {
+                    throw new NumberFormatException();
+                }
+                appParameters.setGeneratorGuestCount(guestCount);
+            } catch (NumberFormatException e) {
+                logger.warning("Invalid guest count " + guestsParameter + ". Using default guest count of "
+                        + SyntheticDataGenerator.DEFAULT_GUEST_COUNT);
+            }
+        }
+
         return appParameters;
     }
 
@@ -54,11 +99,13 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(generatorSeed, otherAppParameters.generatorSeed)
+                && generatorGuestCount == otherAppParameters.generatorGuestCount;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, generatorSeed, generatorGuestCount);
     }
 }
@@ -4,7 +4,10 @@ import static seedu.address.model.util.SampleDataUtil.getDefaultPasswordHashList
 import static seedu.address.model.util.SampleDataUtil.getSampleConcierge;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -14,13 +17,17 @@ import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.EventLane;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SubscribeOn;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandStatistics;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.Model;
@@ -28,11 +35,16 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyConcierge;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.login.PasswordHashList;
+import seedu.address.model.room.RoomNumber;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.BinaryConciergeStorage;
 import seedu.address.storage.ConciergeStorage;
+import seedu.address.storage.JournalConciergeStorage;
 import seedu.address.storage.JsonPasswordsStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.PasswordsStorage;
+import seedu.address.storage.ShardedConciergeStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -43,10 +55,15 @@ import seedu.address.ui.UiManager;
 /**
  * The main entry point to the application.
  */
+@SubscribeOn(EventLane.UI)
 public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 4, 0, true);
 
+    /** How long to wait on exit for changes to finish saving. */
+    private static final Duration SHUTDOWN_SAVE_TIMEOUT = Duration.ofSeconds(10);
+    private static final String GENERATED_DATA_FILE_SUFFIX = ".generated";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -64,16 +81,34 @@ public class MainApp extends Application {
 
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
+        initRoomInventory(config);
+        if (config.isEventDeliveryAsync()) {
+            // before any component registers its subscribers
+            EventsCenter.getInstance().enableAsyncDelivery();
+        }
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        ConciergeStorage conciergeStorage = new XmlConciergeStorage(userPrefs.getConciergeFilePath());
+        Optional<SyntheticDataGenerator> generator = appParameters.getSyntheticDataGenerator();
+        Path conciergeFilePath = userPrefs.getConciergeFilePath();
+        if (generator.isPresent()) {
+            // Generated data must never overwrite the real data file
+            conciergeFilePath = getGeneratedDataFilePath(conciergeFilePath);
+        }
+        ConciergeStorage conciergeStorage = initConciergeStorage(conciergeFilePath, userPrefs);
+        if (userPrefs.getJournalMaxEntries() > 0 && !(conciergeStorage instanceof ShardedConciergeStorage)) {
+            conciergeStorage = new JournalConciergeStorage(conciergeStorage, userPrefs.getJournalMaxEntries());
+        }
         PasswordsStorage passwordsStorage = new JsonPasswordsStorage(userPrefs.getPasswordsFilePath());
         storage = new StorageManager(conciergeStorage, userPrefsStorage, passwordsStorage);
 
         initLogging(config);
+        if (config.getStatisticsLogIntervalMinutes() > 0) {
+            EventsCenter.getInstance().startStatisticsLogging(
+                    Duration.ofMinutes(config.getStatisticsLogIntervalMinutes()));
+        }
 
-        model = initModelManager(storage, userPrefs);
+        model = initModelManager(storage, userPrefs, generator);
 
         logic = new LogicManager(model);
 
@@ -82,16 +117,47 @@ public class MainApp extends Application {
         initEventsCenter();
     }
 
+    /**
+     * Returns a {@code ConciergeStorage} that saves in the format of the existing data file, or in xml if there is
+     * no data file yet. A data file path that is a directory holds sharded data, which is saved without a journal as
+     * only the changed shards are rewritten.
+     */
+    private ConciergeStorage initConciergeStorage(Path conciergeFilePath, UserPrefs userPrefs) {
+        if (Files.isDirectory(conciergeFilePath)) {
+            logger.info("Using sharded data directory " + conciergeFilePath);
+            return new ShardedConciergeStorage(conciergeFilePath);
+        }
+        if (BinaryConciergeStorage.isBinaryFile(conciergeFilePath)) {
+            logger.info("Using binary data file " + conciergeFilePath);
+            return new BinaryConciergeStorage(conciergeFilePath);
+        }
+        return new XmlConciergeStorage(conciergeFilePath, userPrefs.isConciergeFileFormatted());
+    }
+
+    /**
+     * Returns the path that generated data is saved to instead of the data file at {@code conciergeFilePath}.
+     */
+    static Path getGeneratedDataFilePath(Path conciergeFilePath) {
+        return Paths.get(conciergeFilePath + GENERATED_DATA_FILE_SUFFIX);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s Concierge and {@code userPrefs}. <br>
      * The data from the sample Concierge will be used instead if {@code storage}'s Concierge is not found,
      * or an empty Concierge will be used instead if errors occur when reading {@code storage}'s Concierge.
+     * If {@code generator} is present, the hotel it generates is used instead, and {@code storage} is not read.
      */
-    private Model initModelManager(Storage storage, UserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, UserPrefs userPrefs, Optional<SyntheticDataGenerator> generator) {
         Optional<ReadOnlyConcierge> conciergeOptional;
         ReadOnlyConcierge initialData;
         PasswordHashList passwordRef = initPasswordStorage(storage);
 
+        if (generator.isPresent()) {
+            logger.warning("Starting with generated data, which is saved to " + storage.getConciergeFilePath()
+                    + " instead of the data file.");
+            return new ModelManager(generator.get().generateConcierge(), userPrefs, passwordRef);
+        }
+
         try {
             conciergeOptional = storage.readConcierge();
             if (!conciergeOptional.isPresent()) {
@@ -112,6 +178,19 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs, passwordRef);
     }
 
+    /**
+     * Sets the number of rooms in the hotel from {@code config}. <br>
+     * The default room count will be used instead if the configured value is not a positive number.
+     */
+    private void initRoomInventory(Config config) {
+        try {
+            RoomNumber.setMaxRoomNumber(config.getRoomCount());
+        } catch (IllegalArgumentException e) {
+            logger.warning("Room count " + config.getRoomCount() + " in config file is invalid. "
+                    + "Using default room count of " + RoomNumber.DEFAULT_MAX_ROOM_NUMBER);
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -234,12 +313,35 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Concierge ] =============================");
-        ui.stop();
+        boolean isCommandsStopped = ui.stop();
+        try {
+            if (!EventsCenter.getInstance().flush(SHUTDOWN_SAVE_TIMEOUT)
+                    || !storage.flushConcierge(SHUTDOWN_SAVE_TIMEOUT)) {
+                logger.severe("Changes are still being saved to the data file, and may be lost");
+            }
+            if (isCommandsStopped) {
+                storage.compactConcierge(model.getConcierge());
+            } else {
+                // a command may still be changing the model, so it cannot be read safely here
+                logger.warning("Commands are still running, so the data file is not compacted");
+            }
+            logger.info(EventsCenter.getInstance().getStatistics().getReport());
+        } catch (InterruptedException e) {
+            logger.severe("Interrupted while saving changes to the data file " + StringUtil.getDetails(e));
+        } catch (IOException e) {
+            logger.severe("Failed to compact data file " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            JsonUtil.saveJsonFile(CommandStatistics.getInstance().getMetrics(), config.getMetricsFilePath());
+        } catch (IOException e) {
+            logger.warning("Failed to save command metrics " + StringUtil.getDetails(e));
+        }
+        LogsCenter.close();
         Platform.exit();
         System.exit(0);
     }
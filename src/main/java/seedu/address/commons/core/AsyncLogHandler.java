@@ -0,0 +1,248 @@
+package seedu.address.commons.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A log handler that hands records to other handlers on a drain thread, so that logging does not wait for records to
+ * be formatted and written.
+ *
+ * Records wait in a bounded buffer. When the buffer is full, the {@link OverflowPolicy} decides whether the logging
+ * thread waits for space or a record is dropped; the number of dropped records is logged once there is space again.
+ * Records are formatted by the target handlers on the drain thread, so message parameters are only turned into text
+ * there. The caller of each record is found before it is queued, as it cannot be found from the drain thread.
+ */
+public class AsyncLogHandler extends Handler {
+
+    private static final String DRAIN_THREAD_NAME = "concierge-logging";
+    private static final String MESSAGE_DROPPED_RECORDS = "%d log records were dropped as the log buffer was full";
+    private static final int DRAIN_BATCH_SIZE = 64;
+
+    /**
+     * What to do with a record that is logged while the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait for space in the buffer. No records are lost, but logging can hold up the logging thread. */
+        BLOCK,
+        /** Drop the record being logged. */
+        DROP_NEWEST,
+        /** Drop the oldest record in the buffer to make space. */
+        DROP_OLDEST
+    }
+
+    private final Handler[] targets;
+    private final BlockingQueue<LogRecord> buffer;
+    private final LongAdder droppedCount = new LongAdder();
+    /** The number of records in the buffer or being handed to the targets, and of dropped records not yet reported */
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final Thread drainThread;
+
+    private volatile OverflowPolicy overflowPolicy;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that buffers up to {@code capacity} records, and hands them to {@code targets} in the order
+     * they were logged.
+     */
+    public AsyncLogHandler(int capacity, OverflowPolicy overflowPolicy, Handler... targets) {
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.targets = targets.clone();
+        drainThread = new Thread(this::drain, DRAIN_THREAD_NAME);
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Sets the level of this handler and of its targets.
+     */
+    @Override
+    public synchronized void setLevel(Level level) {
+        super.setLevel(level);
+        for (Handler target : targets) {
+            target.setLevel(level);
+        }
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        // finds the caller while it is still on the stack
+        record.getSourceClassName();
+        if (isClosed) {
+            publishToTargets(record);
+            return;
+        }
+
+        pendingCount.incrementAndGet();
+        switch (overflowPolicy) {
+        case BLOCK:
+            try {
+                buffer.put(record);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                drop();
+            }
+            break;
+        case DROP_NEWEST:
+            if (!buffer.offer(record)) {
+                drop();
+            }
+            break;
+        case DROP_OLDEST:
+            while (!buffer.offer(record)) {
+                if (buffer.poll() != null) {
+                    drop();
+                }
+            }
+            break;
+        default:
+            throw new AssertionError("Unknown overflow policy " + overflowPolicy);
+        }
+    }
+
+    /**
+     * Waits until the records logged so far have been handed to the targets, or until {@code timeout} passes, and
+     * then flushes the targets. Returns true if all the records were handed to the targets.
+     */
+    public boolean flush(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        boolean isFlushed = true;
+        synchronized (this) {
+            while (!isClosed && pendingCount.get() > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    isFlushed = false;
+                    break;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    isFlushed = false;
+                    break;
+                }
+            }
+        }
+        for (Handler target : targets) {
+            target.flush();
+        }
+        return isFlushed;
+    }
+
+    /**
+     * Waits for up to a second for the records logged so far to be handed to the targets, then flushes them.
+     */
+    @Override
+    public void flush() {
+        flush(Duration.ofSeconds(1));
+    }
+
+    /**
+     * Stops the drain thread, hands the remaining records to the targets and closes them. Records logged after this
+     * are handed to the targets on the logging thread.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        drainThread.interrupt();
+        try {
+            drainThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        publishBuffered();
+        for (Handler target : targets) {
+            target.close();
+        }
+    }
+
+    /**
+     * Hands records to the targets until the handler is closed.
+     */
+    private void drain() {
+        while (!isClosed) {
+            try {
+                publishFrom(buffer.take());
+            } catch (InterruptedException e) {
+                // closed
+            }
+        }
+    }
+
+    /**
+     * Hands {@code first} and then the records in the buffer to the targets, followed by the number of records
+     * dropped, if any.
+     */
+    private void publishFrom(LogRecord first) {
+        publishToTargets(first);
+        released(1);
+        publishBuffered();
+    }
+
+    /**
+     * Hands the records in the buffer to the targets, followed by the number of records dropped, if any.
+     */
+    private void publishBuffered() {
+        List<LogRecord> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+        while (buffer.drainTo(batch, DRAIN_BATCH_SIZE) > 0) {
+            batch.forEach(this::publishToTargets);
+            released(batch.size());
+            batch.clear();
+        }
+        long dropped = droppedCount.sumThenReset();
+        if (dropped > 0) {
+            LogRecord record = new LogRecord(Level.WARNING, String.format(MESSAGE_DROPPED_RECORDS, dropped));
+            record.setLoggerName(AsyncLogHandler.class.getSimpleName());
+            record.setSourceClassName(AsyncLogHandler.class.getName());
+            record.setSourceMethodName("publish");
+            publishToTargets(record);
+            released(dropped);
+        }
+    }
+
+    private void drop() {
+        droppedCount.increment();
+    }
+
+    /**
+     * Records that {@code count} records have left the buffer, and wakes threads waiting in {@link #flush(Duration)}
+     * once none are left.
+     */
+    private void released(long count) {
+        if (pendingCount.addAndGet(-count) == 0) {
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+    }
+
+    private void publishToTargets(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException e) {
+                reportError("Failed to publish log record", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+}
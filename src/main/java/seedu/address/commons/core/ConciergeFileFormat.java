@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats that Concierge data can be saved in.
+ */
+public enum ConciergeFileFormat {
+    /** Indented xml, which can be edited by hand. */
+    XML,
+    /** A compact binary format, which is smaller and quicker to save and load. */
+    BINARY,
+    /** A directory with a json file for each room, so that a change to one room only rewrites that room's file. */
+    SHARDED
+}
@@ -15,7 +15,12 @@ public class Config {
     // Config values customizable through config file
     private String appTitle = "Concierge";
     private Level logLevel = Level.INFO;
+    private AsyncLogHandler.OverflowPolicy logOverflowPolicy = AsyncLogHandler.OverflowPolicy.DROP_OLDEST;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int roomCount = 100;
+    private boolean eventDeliveryAsync = true;
+    private int statisticsLogIntervalMinutes = 10;
+    private Path metricsFilePath = Paths.get("metrics.json");
 
     public String getAppTitle() {
         return appTitle;
@@ -33,6 +38,17 @@ public class Config {
         this.logLevel = logLevel;
     }
 
+    /**
+     * Returns what is done with log records logged while the log buffer is full.
+     */
+    public AsyncLogHandler.OverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(AsyncLogHandler.OverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
     public Path getUserPrefsFilePath() {
         return userPrefsFilePath;
     }
@@ -41,6 +57,48 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getRoomCount() {
+        return roomCount;
+    }
+
+    public void setRoomCount(int roomCount) {
+        this.roomCount = roomCount;
+    }
+
+    /**
+     * Returns true if events are delivered to subscribers on their declared lanes, rather than on the thread that
+     * posts them (see {@link EventsCenter#enableAsyncDelivery()}).
+     */
+    public boolean isEventDeliveryAsync() {
+        return eventDeliveryAsync;
+    }
+
+    public void setEventDeliveryAsync(boolean eventDeliveryAsync) {
+        this.eventDeliveryAsync = eventDeliveryAsync;
+    }
+
+    /**
+     * Returns how often, in minutes, the event statistics are written to the log, or 0 if they are never written.
+     */
+    public int getStatisticsLogIntervalMinutes() {
+        return statisticsLogIntervalMinutes;
+    }
+
+    public void setStatisticsLogIntervalMinutes(int statisticsLogIntervalMinutes) {
+        this.statisticsLogIntervalMinutes = statisticsLogIntervalMinutes;
+    }
+
+    /**
+     * Returns the file that the command statistics are written to when the app exits.
+     */
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,12 +112,18 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && logOverflowPolicy == o.logOverflowPolicy
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && roomCount == o.roomCount
+                && eventDeliveryAsync == o.eventDeliveryAsync
+                && statisticsLogIntervalMinutes == o.statisticsLogIntervalMinutes
+                && Objects.equals(metricsFilePath, o.metricsFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, logOverflowPolicy, userPrefsFilePath, roomCount, eventDeliveryAsync,
+                statisticsLogIntervalMinutes, metricsFilePath);
     }
 
     @Override
@@ -0,0 +1,16 @@
+package seedu.address.commons.core;
+
+/**
+ * The threads that events can be delivered to subscribers on, when {@link EventsCenter} delivers events
+ * asynchronously. Events are delivered to each subscriber in the order they were posted.
+ */
+public enum EventLane {
+    /** The thread that posted the event, before {@code post} returns. This is the lane of unannotated subscribers. */
+    POSTER,
+    /** The JavaFX application thread, for subscribers that change the UI. */
+    UI,
+    /** A single thread shared by storage subscribers, so that their file operations never overlap. */
+    STORAGE,
+    /** A pool of threads, for subscribers that do other slow work. */
+    BACKGROUND
+}
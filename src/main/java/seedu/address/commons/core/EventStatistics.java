@@ -0,0 +1,110 @@
+package seedu.address.commons.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts and times the events posted through {@link EventsCenter}, by event type and by subscriber.
+ * All counters can be updated from many threads at once without locking.
+ */
+public class EventStatistics {
+
+    private static final String EVENT_TYPE_FORMAT = "\n  %s: %d posted, %d with no subscribers. Dispatch: %s";
+    private static final String SUBSCRIBER_FORMAT = "\n  %s: %d handled, %d failed. Handler: %s. Wait: %s";
+
+    private final Map<String, EventTypeStatistics> eventTypes = new ConcurrentSkipListMap<>();
+    private final Map<String, SubscriberStatistics> subscribers = new ConcurrentSkipListMap<>();
+
+    /**
+     * Returns the statistics of the events of type {@code eventType}.
+     */
+    EventTypeStatistics getEventType(Class<?> eventType) {
+        return eventTypes.computeIfAbsent(eventType.getSimpleName(), unused -> new EventTypeStatistics());
+    }
+
+    /**
+     * Returns the statistics of the subscribers named {@code name}.
+     */
+    SubscriberStatistics getSubscriber(String name) {
+        return subscribers.computeIfAbsent(name, unused -> new SubscriberStatistics());
+    }
+
+    /**
+     * Returns a report of the statistics, with a line for each event type and each subscriber.
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder("Events:");
+        if (eventTypes.isEmpty()) {
+            report.append(" none");
+        }
+        eventTypes.forEach((name, statistics) -> report.append(String.format(EVENT_TYPE_FORMAT, name,
+                statistics.getPostCount(), statistics.getUnsubscribedCount(),
+                statistics.dispatchTime.getSummary())));
+
+        report.append("\nSubscribers:");
+        if (subscribers.isEmpty()) {
+            report.append(" none");
+        }
+        subscribers.forEach((name, statistics) -> report.append(String.format(SUBSCRIBER_FORMAT, name,
+                statistics.getHandledCount(), statistics.getFailureCount(), statistics.handlerTime.getSummary(),
+                statistics.waitTime.getSummary())));
+        return report.toString();
+    }
+
+    /**
+     * Statistics of the events of one type.
+     */
+    static class EventTypeStatistics {
+        private final LongAdder unsubscribedCount = new LongAdder();
+        private final LatencyHistogram dispatchTime = new LatencyHistogram();
+
+        /**
+         * Records an event that took {@code nanos} to hand to its subscribers, which may be none.
+         */
+        void recordPost(long nanos, boolean hasSubscribers) {
+            dispatchTime.record(nanos);
+            if (!hasSubscribers) {
+                unsubscribedCount.increment();
+            }
+        }
+
+        long getPostCount() {
+            return dispatchTime.getCount();
+        }
+
+        long getUnsubscribedCount() {
+            return unsubscribedCount.sum();
+        }
+    }
+
+    /**
+     * Statistics of the subscribers of one class.
+     */
+    static class SubscriberStatistics {
+        private final LongAdder failureCount = new LongAdder();
+        private final LatencyHistogram handlerTime = new LatencyHistogram();
+        private final LatencyHistogram waitTime = new LatencyHistogram();
+
+        /**
+         * Records an event that waited {@code waitNanos} to be handled on the subscriber's lane, and was then handled
+         * in {@code handlerNanos}.
+         */
+        void recordHandled(long waitNanos, long handlerNanos) {
+            waitTime.record(waitNanos);
+            handlerTime.record(handlerNanos);
+        }
+
+        void recordFailure() {
+            failureCount.increment();
+        }
+
+        long getHandledCount() {
+            return handlerTime.getCount();
+        }
+
+        long getFailureCount() {
+            return failureCount.sum();
+        }
+    }
+}
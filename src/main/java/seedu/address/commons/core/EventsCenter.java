@@ -1,22 +1,64 @@
 package seedu.address.commons.core;
 
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.google.common.eventbus.AsyncEventBus;
 import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import com.google.common.eventbus.SubscriberExceptionHandler;
 
+import javafx.application.Platform;
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * Manages the event dispatching of the app.
+ *
+ * By default, every event is delivered to its subscribers on the thread that posts it, before {@code post} returns.
+ * Once {@link #enableAsyncDelivery()} is called, handlers registered after that are delivered to on the lane that
+ * their class declares with {@link SubscribeOn}, so that posting an event does not wait for their work.
+ *
+ * Each handler has its own bus, so that the time spent in each handler can be measured (see {@link EventStatistics}).
+ * Events posted by a handler while an event is being delivered on the same thread are delivered once that event has
+ * reached all its subscribers, as with a single bus. Handlers on other lanes receive events one at a time, in the
+ * order they were posted.
  */
 public class EventsCenter {
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
+    private static final String STORAGE_LANE_THREAD_NAME = "concierge-storage-events";
+    private static final String BACKGROUND_LANE_THREAD_NAME = "concierge-background-events";
+    private static final String STATISTICS_THREAD_NAME = "concierge-event-statistics";
     private static EventsCenter instance;
-    private final EventBus eventBus;
 
-    private EventsCenter() {
-        eventBus = new EventBus();
-    }
+    private final EventStatistics statistics = new EventStatistics();
+    private final List<HandlerBus> handlerBuses = new CopyOnWriteArrayList<>();
+    /** The buses of the handlers that subscribe to each event type, replaced whenever a handler is registered */
+    private volatile Map<Class<?>, List<HandlerBus>> busesByEventType = new ConcurrentHashMap<>();
+    /** The events posted on each thread that are waiting to be delivered, or null if none are being delivered */
+    private final ThreadLocal<Queue<BaseEvent>> pendingEvents = new ThreadLocal<>();
+
+    private boolean isAsyncDelivery;
+    private ExecutorService storageLane;
+    private ExecutorService backgroundLane;
+    private ScheduledExecutorService statisticsLogger;
+
+    private EventsCenter() {}
 
     public static EventsCenter getInstance() {
         if (instance == null) {
@@ -25,21 +67,301 @@ public class EventsCenter {
         return instance;
     }
 
+    /**
+     * Removes all handlers, and stops the threads of the storage and background lanes once their events are delivered.
+     */
     public static void clearSubscribers() {
+        if (instance != null) {
+            instance.shutdownLanes();
+        }
         instance = null;
     }
 
-    public void registerHandler(Object handler) {
-        eventBus.register(handler);
+    /**
+     * Delivers events to handlers registered from now on, on the lane that their class declares.
+     */
+    public synchronized void enableAsyncDelivery() {
+        if (isAsyncDelivery) {
+            return;
+        }
+        isAsyncDelivery = true;
+        storageLane = Executors.newSingleThreadExecutor(runnable -> createDaemonThread(runnable,
+                STORAGE_LANE_THREAD_NAME));
+        backgroundLane = Executors.newCachedThreadPool(runnable -> createDaemonThread(runnable,
+                BACKGROUND_LANE_THREAD_NAME));
+        logger.info("Delivering events to subscribers on their declared lanes");
+    }
+
+    /**
+     * Registers the subscribers of {@code handler}, on the lane that its class declares if delivery is asynchronous.
+     * Registering a handler again has no effect.
+     */
+    public synchronized void registerHandler(Object handler) {
+        for (HandlerBus handlerBus : handlerBuses) {
+            if (handlerBus.handler == handler) {
+                return;
+            }
+        }
+
+        EventLane lane = isAsyncDelivery ? getLane(handler) : EventLane.POSTER;
+        EventStatistics.SubscriberStatistics subscriberStatistics = statistics.getSubscriber(getName(handler));
+        SubscriberExceptionHandler exceptionHandler = (exception, context) -> {
+            subscriberStatistics.recordFailure();
+            logger.log(Level.SEVERE, "Exception thrown by subscriber " + context.getSubscriberMethod() + " when"
+                    + " handling " + context.getEvent(), exception);
+        };
+        HandlerBus handlerBus;
+        if (lane == EventLane.POSTER) {
+            handlerBus = new HandlerBus(handler, new EventBus(exceptionHandler), subscriberStatistics, null);
+        } else {
+            SerialExecutor executor = new SerialExecutor(getLaneExecutor(lane), subscriberStatistics);
+            handlerBus = new HandlerBus(handler, new AsyncEventBus(executor, exceptionHandler), subscriberStatistics,
+                    lane == EventLane.UI ? null : executor);
+        }
+        handlerBus.bus.register(handler);
+        handlerBuses.add(handlerBus);
+        busesByEventType = new ConcurrentHashMap<>();
     }
 
     /**
      * Posts an event to the event bus.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "------[Event Posted] {0}: {1}",
+                    new Object[] {event.getClass().getCanonicalName(), event});
+        }
+        if (pendingEvents.get() != null) {
+            // an event is being delivered on this thread, and this one is delivered after it
+            pendingEvents.get().add(event);
+            return this;
+        }
+
+        Queue<BaseEvent> queue = new ArrayDeque<>();
+        pendingEvents.set(queue);
+        try {
+            for (BaseEvent next = event; next != null; next = queue.poll()) {
+                dispatch(next);
+            }
+        } finally {
+            pendingEvents.remove();
+        }
         return this;
     }
 
+    /**
+     * Returns the counts and times of the events posted so far.
+     */
+    public EventStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Writes the event statistics to the log every {@code interval}, until the subscribers are cleared.
+     */
+    public synchronized void startStatisticsLogging(Duration interval) {
+        if (statisticsLogger != null) {
+            statisticsLogger.shutdown();
+        }
+        statisticsLogger = Executors.newSingleThreadScheduledExecutor(runnable -> createDaemonThread(runnable,
+                STATISTICS_THREAD_NAME));
+        statisticsLogger.scheduleAtFixedRate(() -> logger.info(statistics.getReport()), interval.toNanos(),
+                interval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Hands {@code event} to the bus of each handler that subscribes to it.
+     */
+    private void dispatch(BaseEvent event) {
+        long start = System.nanoTime();
+        List<HandlerBus> buses = busesByEventType.computeIfAbsent(event.getClass(), this::findBuses);
+        for (HandlerBus handlerBus : buses) {
+            handlerBus.post(event);
+        }
+        if (buses.isEmpty()) {
+            logger.log(Level.FINE, "No subscribers for {0}", event.getClass().getSimpleName());
+        }
+        statistics.getEventType(event.getClass()).recordPost(System.nanoTime() - start, !buses.isEmpty());
+    }
+
+    private List<HandlerBus> findBuses(Class<?> eventType) {
+        List<HandlerBus> buses = new ArrayList<>();
+        for (HandlerBus handlerBus : handlerBuses) {
+            if (handlerBus.subscribesTo(eventType)) {
+                buses.add(handlerBus);
+            }
+        }
+        return buses;
+    }
+
+    /**
+     * Waits until the events posted so far have been delivered to the subscribers on the storage and background
+     * lanes, or until {@code timeout} passes. Returns true if they were all delivered.
+     * Events on the UI lane are not waited for, as this may be called from the UI thread.
+     */
+    public boolean flush(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        for (HandlerBus handlerBus : handlerBuses) {
+            if (handlerBus.flushableExecutor != null && !handlerBus.flushableExecutor.awaitIdle(deadline)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static EventLane getLane(Object handler) {
+        SubscribeOn subscribeOn = handler.getClass().getAnnotation(SubscribeOn.class);
+        return subscribeOn == null ? EventLane.POSTER : subscribeOn.value();
+    }
+
+    /**
+     * Returns the name that the statistics of {@code handler} are kept under: the simple name of its class, or the
+     * full name for anonymous classes.
+     */
+    private static String getName(Object handler) {
+        String name = handler.getClass().getSimpleName();
+        return name.isEmpty() ? handler.getClass().getName() : name;
+    }
+
+    private Executor getLaneExecutor(EventLane lane) {
+        switch (lane) {
+        case UI:
+            return Platform::runLater;
+        case STORAGE:
+            return storageLane;
+        case BACKGROUND:
+            return backgroundLane;
+        default:
+            throw new AssertionError("Unknown lane " + lane);
+        }
+    }
+
+    private synchronized void shutdownLanes() {
+        if (storageLane != null) {
+            storageLane.shutdown();
+            backgroundLane.shutdown();
+        }
+        if (statisticsLogger != null) {
+            statisticsLogger.shutdown();
+        }
+    }
+
+    private static Thread createDaemonThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * The bus of one handler, and the event types that the handler subscribes to.
+     */
+    private static class HandlerBus {
+        private final Object handler;
+        private final EventBus bus;
+        private final EventStatistics.SubscriberStatistics statistics;
+        /** The executor that delivers events to the handler, if it is on a lane that can be waited for */
+        private final SerialExecutor flushableExecutor;
+        private final Set<Class<?>> eventTypes = new HashSet<>();
+
+        HandlerBus(Object handler, EventBus bus, EventStatistics.SubscriberStatistics statistics,
+                SerialExecutor flushableExecutor) {
+            this.handler = handler;
+            this.bus = bus;
+            this.statistics = statistics;
+            this.flushableExecutor = flushableExecutor;
+            for (Class<?> type = handler.getClass(); type != null; type = type.getSuperclass()) {
+                for (Method method : type.getDeclaredMethods()) {
+                    if (method.isAnnotationPresent(Subscribe.class) && method.getParameterCount() == 1) {
+                        eventTypes.add(method.getParameterTypes()[0]);
+                    }
+                }
+            }
+        }
+
+        boolean subscribesTo(Class<?> eventType) {
+            return eventTypes.stream().anyMatch(type -> type.isAssignableFrom(eventType));
+        }
+
+        /**
+         * Hands {@code event} to the handler's bus. Events for handlers on the posting thread are handled, and timed,
+         * before this returns; the executors of other lanes time their own events.
+         */
+        void post(BaseEvent event) {
+            if (bus instanceof AsyncEventBus) {
+                bus.post(event);
+                return;
+            }
+            long start = System.nanoTime();
+            bus.post(event);
+            statistics.recordHandled(0, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Runs tasks one at a time, in the order they were given, on an executor that may run tasks concurrently, and
+     * records how long each task waited and ran.
+     * Each task is handed to the executor separately, so a busy handler does not hold up other work on its lane.
+     */
+    private static class SerialExecutor implements Executor {
+        private final Executor executor;
+        private final EventStatistics.SubscriberStatistics statistics;
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean isRunning;
+
+        SerialExecutor(Executor executor, EventStatistics.SubscriberStatistics statistics) {
+            this.executor = executor;
+            this.statistics = statistics;
+        }
+
+        @Override
+        public synchronized void execute(Runnable task) {
+            long queued = System.nanoTime();
+            tasks.add(() -> {
+                long start = System.nanoTime();
+                try {
+                    task.run();
+                } finally {
+                    statistics.recordHandled(start - queued, System.nanoTime() - start);
+                }
+            });
+            if (!isRunning) {
+                isRunning = true;
+                executor.execute(this::runNext);
+            }
+        }
+
+        private void runNext() {
+            Runnable task;
+            synchronized (this) {
+                task = tasks.poll();
+            }
+            try {
+                task.run();
+            } finally {
+                synchronized (this) {
+                    if (tasks.isEmpty()) {
+                        isRunning = false;
+                        notifyAll();
+                    } else {
+                        executor.execute(this::runNext);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Waits until no task is waiting or running, or until {@code System.nanoTime()} reaches {@code deadline}.
+         * Returns true if no task is waiting or running.
+         */
+        synchronized boolean awaitIdle(long deadline) throws InterruptedException {
+            while (isRunning) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return true;
+        }
+    }
 }
@@ -0,0 +1,138 @@
+package seedu.address.commons.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations, which many threads can record to at once without locking.
+ * Durations are counted in buckets a quarter of a power of two wide, so percentiles are accurate to within 25%.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records a duration of {@code nanos} nanoseconds. Negative durations are recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        bucketCounts.incrementAndGet(getBucket(value));
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the mean of the recorded durations in nanoseconds, or 0 if none were recorded.
+     */
+    public long getMeanNanos() {
+        long recorded = count.sum();
+        return recorded == 0 ? 0 : totalNanos.sum() / recorded;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns the duration in nanoseconds that {@code percentile} percent of the recorded durations are at most, or 0
+     * if none were recorded.
+     */
+    public long getPercentileNanos(double percentile) {
+        assert percentile > 0 && percentile <= 100;
+        long[] counts = new long[BUCKET_COUNT];
+        long recorded = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = bucketCounts.get(i);
+            recorded += counts[i];
+        }
+        long rank = (long) Math.ceil(recorded * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank && seen > 0) {
+                return Math.min(getBucketUpperBound(i), getMaxNanos());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns a one-line summary of the recorded durations: their mean, median, 99th percentile and maximum.
+     */
+    public String getSummary() {
+        return String.format("mean %s, p50 %s, p99 %s, max %s", formatNanos(getMeanNanos()),
+                formatNanos(getPercentileNanos(50)), formatNanos(getPercentileNanos(99)), formatNanos(getMaxNanos()));
+    }
+
+    /**
+     * Returns the count, mean, median, 99th percentile and maximum of the recorded durations, in a form that can be
+     * saved as json.
+     */
+    public Metrics getMetrics() {
+        return new Metrics(this);
+    }
+
+    /**
+     * Returns {@code nanos} in milliseconds, for display.
+     */
+    public static String formatNanos(long nanos) {
+        return String.format("%.3f ms", nanos / 1e6);
+    }
+
+    /**
+     * Returns the bucket that {@code value} is counted in. Values below {@code SUB_BUCKET_COUNT} have a bucket each;
+     * larger values are split by their highest set bit, and then by the {@code SUB_BUCKET_BITS} bits below it.
+     */
+    static int getBucket(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the largest value that is counted in {@code bucket}.
+     */
+    static long getBucketUpperBound(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + bucket % SUB_BUCKET_COUNT) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    /**
+     * Jackson-friendly summary of the durations recorded in a {@code LatencyHistogram}, in nanoseconds.
+     */
+    public static class Metrics {
+        private final long count;
+        private final long meanNanos;
+        private final long p50Nanos;
+        private final long p99Nanos;
+        private final long maxNanos;
+
+        private Metrics(LatencyHistogram histogram) {
+            count = histogram.getCount();
+            meanNanos = histogram.getMeanNanos();
+            p50Nanos = histogram.getPercentileNanos(50);
+            p99Nanos = histogram.getPercentileNanos(99);
+            maxNanos = histogram.getMaxNanos();
+        }
+    }
+}
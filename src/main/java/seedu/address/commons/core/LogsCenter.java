@@ -1,10 +1,15 @@
 package seedu.address.commons.core;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
@@ -16,15 +21,19 @@ import seedu.address.commons.events.BaseEvent;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Records are written on a separate thread by an {@link AsyncLogHandler}, so that logging does not hold up the
+ *   thread that logs. Messages that are logged often should be passed as parameters or suppliers, so that they are
+ *   only built if they are logged.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "concierge.log";
+    private static final int LOG_BUFFER_CAPACITY = 4096;
     private static Level currentLogLevel = Level.INFO;
+    private static AsyncLogHandler.OverflowPolicy currentOverflowPolicy = AsyncLogHandler.OverflowPolicy.DROP_OLDEST;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
@@ -34,9 +43,31 @@ public class LogsCenter {
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        currentOverflowPolicy = config.getLogOverflowPolicy();
+        if (asyncHandler != null) {
+            asyncHandler.setOverflowPolicy(currentOverflowPolicy);
+        }
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
+    /**
+     * Waits until the records logged so far have been written, or until {@code timeout} passes.
+     * Returns true if they were all written.
+     */
+    public static boolean flush(Duration timeout) {
+        return asyncHandler == null || asyncHandler.flush(timeout);
+    }
+
+    /**
+     * Writes the records logged so far and closes the log file. Records logged after this are only written to the
+     * console.
+     */
+    public static void close() {
+        if (asyncHandler != null) {
+            asyncHandler.close();
+        }
+    }
+
     /**
      * Creates a logger with the given name.
      */
@@ -45,8 +76,7 @@ public class LogsCenter {
         logger.setUseParentHandlers(false);
 
         removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        addAsyncHandler(logger);
 
         return Logger.getLogger(name);
     }
@@ -62,14 +92,14 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Adds the {@code asyncHandler} to the {@code logger}. <br>
+     * Creates the {@code asyncHandler}, which writes to the console and the log file, if it is null.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
+    private static synchronized void addAsyncHandler(Logger logger) {
+        if (asyncHandler == null) {
+            asyncHandler = createAsyncHandler();
         }
-        logger.addHandler(consoleHandler);
+        logger.addHandler(asyncHandler);
     }
 
     /**
@@ -81,18 +111,25 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Creates an {@code AsyncLogHandler} that writes to the console and, if it can be opened, the log file.
      */
-    private static void addFileHandler(Logger logger) {
+    private static AsyncLogHandler createAsyncHandler() {
+        List<Handler> targets = new ArrayList<>();
+        targets.add(createConsoleHandler());
+        boolean hasFileHandler = true;
         try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
+            targets.add(createFileHandler());
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            hasFileHandler = false;
+        }
+
+        AsyncLogHandler handler = new AsyncLogHandler(LOG_BUFFER_CAPACITY, currentOverflowPolicy,
+                targets.toArray(new Handler[0]));
+        handler.setLevel(currentLogLevel);
+        if (!hasFileHandler) {
+            handler.publish(new LogRecord(Level.WARNING, "Error adding file handler for logger."));
         }
+        return handler;
     }
 
     /**
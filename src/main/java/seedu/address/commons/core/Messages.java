@@ -1,7 +1,5 @@
 package seedu.address.commons.core;
 
-import seedu.address.model.room.RoomNumber;
-
 /**
  * Container for user visible messages.
  */
@@ -18,8 +16,8 @@ public class Messages {
     public static final String MESSAGE_ROOMS_LISTED_OVERVIEW = "%1$d rooms listed";
 
     public static final String MESSAGE_VALID_ROOM =
-            "The room number provided must be a 3-digit positive integer from 001 to "
-            + RoomNumber.MAX_ROOM_NUMBER + "\n";
+            "The room number provided must be a positive integer of at least 3 digits (e.g. 001), "
+            + "up to the number of rooms in the hotel\n";
     public static final String MESSAGE_VALID_DATE =
             "The date provided must be in d/M/y format and valid according to the Gregorian calendar. "
             + "Day and Month can be 1 or 2 digits, Year can be 2 or 4 digits.\n";
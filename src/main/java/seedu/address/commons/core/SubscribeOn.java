@@ -0,0 +1,18 @@
+package seedu.address.commons.core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the lane that {@link EventsCenter} delivers events to the annotated class' subscribers on.
+ * Classes that are not annotated are delivered to on {@link EventLane#POSTER}.
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface SubscribeOn {
+    EventLane value();
+}
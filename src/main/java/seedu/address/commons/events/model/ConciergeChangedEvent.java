@@ -1,15 +1,19 @@
 package seedu.address.commons.events.model;
 
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.ConciergeSnapshot;
 import seedu.address.model.ReadOnlyConcierge;
 
-/** Indicates the Concierge in the model has changed*/
+/**
+ * Indicates the Concierge in the model has changed. The event holds a snapshot of the data as it was when the event
+ * was raised, so that it can be read by subscribers on other threads.
+ */
 public class ConciergeChangedEvent extends BaseEvent {
 
     public final ReadOnlyConcierge data;
 
     public ConciergeChangedEvent(ReadOnlyConcierge data) {
-        this.data = data;
+        this.data = new ConciergeSnapshot(data);
     }
 
     @Override
@@ -0,0 +1,26 @@
+package seedu.address.commons.events.storage;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates that changes to Concierge have been written to the data file
+ */
+public class DataSavedEvent extends BaseEvent {
+
+    public final Path filePath;
+    /** How long the changes took to write, in nanoseconds */
+    public final long saveNanos;
+
+    public DataSavedEvent(Path filePath, long saveNanos) {
+        this.filePath = filePath;
+        this.saveNanos = saveNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "saved to " + filePath;
+    }
+
+}
@@ -0,0 +1,31 @@
+package seedu.address.commons.events.storage;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.core.ConciergeFileFormat;
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.ConciergeSnapshot;
+import seedu.address.model.ReadOnlyConcierge;
+
+/**
+ * Indicates a request to save a copy of Concierge to another file.
+ * The event holds a snapshot of the data as it was when the event was raised.
+ */
+public class ExportConciergeRequestEvent extends BaseEvent {
+
+    public final ReadOnlyConcierge data;
+    public final Path filePath;
+    public final ConciergeFileFormat format;
+
+    public ExportConciergeRequestEvent(ReadOnlyConcierge data, Path filePath, ConciergeFileFormat format) {
+        this.data = new ConciergeSnapshot(data);
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    @Override
+    public String toString() {
+        return "export " + format + " to " + filePath;
+    }
+
+}
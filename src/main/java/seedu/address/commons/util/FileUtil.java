@@ -1,10 +1,16 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +18,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +87,54 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Replaces {@code file} with the content that {@code writer} writes, so that a crash while writing never leaves
+     * the file partly written. The content is written to a temporary file next to {@code file} and forced to the
+     * disk, and the temporary file is then renamed to {@code file}.
+     * If {@code previousFile} is not null and {@code file} exists, {@code file} is first renamed to
+     * {@code previousFile}, replacing it, so that the content being replaced is kept.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static <E extends Exception> void writeAtomically(Path file, Path previousFile, ContentWriter<E> writer)
+            throws IOException, E {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                writer.write(out);
+                out.flush();
+                channel.force(true);
+            }
+            if (previousFile != null && Files.exists(file)) {
+                Files.move(file, previousFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        forceDirectory(directory);
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a file that was just renamed into it, to the disk.
+     * Does nothing on platforms where directories cannot be opened, such as Windows, which do not need this.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ioe) {
+            // directories cannot be opened on this platform
+        }
+    }
+
+    /**
+     * Writes the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter<E extends Exception> {
+        void write(OutputStream out) throws IOException, E;
+    }
+
 }
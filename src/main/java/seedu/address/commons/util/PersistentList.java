@@ -0,0 +1,215 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSequentialList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * An immutable singly-linked list of non-null elements.
+ * {@link #plusFirst(Object)} returns a new list that shares all of this list's nodes, so prepending takes constant
+ * time and space. Operations that would mutate the list in place throw {@code UnsupportedOperationException}.
+ *
+ * @param <E> the type of elements in the list
+ */
+public final class PersistentList<E> extends AbstractSequentialList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null, 0);
+
+    private final Node<E> head;
+    private final int size;
+
+    private PersistentList(Node<E> head, int size) {
+        this.head = head;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list containing the elements of {@code elements}, in the same order.
+     */
+    public static <E> PersistentList<E> copyOf(List<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentList) {
+            @SuppressWarnings("unchecked")
+            PersistentList<E> list = (PersistentList<E>) elements;
+            return list;
+        }
+
+        Node<E> head = null;
+        ListIterator<? extends E> iterator = elements.listIterator(elements.size());
+        while (iterator.hasPrevious()) {
+            head = new Node<>(requireNonNull(iterator.previous()), head);
+        }
+        return new PersistentList<>(head, elements.size());
+    }
+
+    /**
+     * Returns a list with {@code element} in front of the elements of this list.
+     */
+    public PersistentList<E> plusFirst(E element) {
+        requireNonNull(element);
+        return new PersistentList<>(new Node<>(element, head), size + 1);
+    }
+
+    /**
+     * Returns the elements in front of {@code tail}, in order, if this list was built by prepending them to
+     * {@code tail}, or {@code Optional.empty()} otherwise. The lists are compared by their shared nodes, so only
+     * the elements in front of {@code tail} are visited.
+     */
+    public Optional<List<E>> getElementsInFrontOf(PersistentList<E> tail) {
+        requireNonNull(tail);
+        int frontSize = size - tail.size;
+        if (frontSize < 0) {
+            return Optional.empty();
+        }
+
+        List<E> front = new ArrayList<>(frontSize);
+        Node<E> node = head;
+        for (int i = 0; i < frontSize; i++) {
+            front.add(node.value);
+            node = node.next;
+        }
+        return node == tail.head ? Optional.of(front) : Optional.empty();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Node<E> next = head;
+        for (int i = 0; i < index; i++) {
+            next = next.next;
+        }
+        return new NodeIterator<>(head, next, index);
+    }
+
+    /**
+     * Returns the index of the last occurrence of {@code o}, scanning forwards as walking back records every node.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        int lastIndex = -1;
+        int index = 0;
+        for (Node<E> node = head; node != null; node = node.next, index++) {
+            if (node.value.equals(o)) {
+                lastIndex = index;
+            }
+        }
+        return lastIndex;
+    }
+
+    /**
+     * An immutable list node. Nodes are never modified once built, so they can be shared between lists.
+     */
+    private static final class Node<E> {
+        private final E value;
+        private final Node<E> next;
+
+        private Node(E value, Node<E> next) {
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /**
+     * A read-only iterator. Nodes do not link back to their predecessors, so the first time it moves backwards it
+     * records the nodes from the head of the list up to its position, and keeps recording the nodes it passes after
+     * that. Iterating forwards only costs nothing extra.
+     */
+    private static final class NodeIterator<E> implements ListIterator<E> {
+        private final Node<E> head;
+        private Node<E> next;
+        private int nextIndex;
+        /** The nodes from the head of the list, at least up to the cursor, or null until it first moves backwards */
+        private List<Node<E>> passedNodes;
+
+        private NodeIterator(Node<E> head, Node<E> next, int nextIndex) {
+            this.head = head;
+            this.next = next;
+            this.nextIndex = nextIndex;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public E next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            if (passedNodes != null && passedNodes.size() == nextIndex) {
+                passedNodes.add(next);
+            }
+            E value = next.value;
+            next = next.next;
+            nextIndex++;
+            return value;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            if (nextIndex == 0) {
+                throw new NoSuchElementException();
+            }
+            if (passedNodes == null) {
+                passedNodes = new ArrayList<>(nextIndex);
+                for (Node<E> node = head; passedNodes.size() < nextIndex; node = node.next) {
+                    passedNodes.add(node);
+                }
+            }
+            nextIndex--;
+            next = passedNodes.get(nextIndex);
+            return next.value;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(E e) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(E e) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * An immutable sorted set of non-null elements in their natural ordering, backed by an AVL tree.
+ * {@link #plus(Comparable)} and {@link #minus(Object)} return a new set that shares all untouched subtrees with
+ * this one, so each change only allocates the O(log n) nodes on the path to the changed element.
+ * Operations that would mutate the set in place throw {@code UnsupportedOperationException}.
+ *
+ * @param <E> the type of elements in the set
+ */
+public final class PersistentSortedSet<E extends Comparable<? super E>> extends AbstractSet<E>
+        implements SortedSet<E> {
+
+    private static final PersistentSortedSet<?> EMPTY = new PersistentSortedSet<>(null, 0);
+
+    private final Node<E> root;
+    private final int size;
+
+    private PersistentSortedSet(Node<E> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty set.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Comparable<? super E>> PersistentSortedSet<E> empty() {
+        return (PersistentSortedSet<E>) EMPTY;
+    }
+
+    /**
+     * Returns a set containing the elements of {@code elements}, built in linear time if they are already sorted.
+     */
+    public static <E extends Comparable<? super E>> PersistentSortedSet<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentSortedSet) {
+            @SuppressWarnings("unchecked")
+            PersistentSortedSet<E> set = (PersistentSortedSet<E>) elements;
+            return set;
+        }
+
+        List<E> sorted = new ArrayList<>(elements);
+        sorted.forEach(Objects::requireNonNull);
+        if (!(elements instanceof SortedSet && ((SortedSet<?>) elements).comparator() == null)) {
+            sorted.sort(Comparator.naturalOrder());
+        }
+        List<E> distinct = new ArrayList<>(sorted.size());
+        for (E element : sorted) {
+            if (distinct.isEmpty() || distinct.get(distinct.size() - 1).compareTo(element) != 0) {
+                distinct.add(element);
+            }
+        }
+        return new PersistentSortedSet<>(buildBalanced(distinct, 0, distinct.size()), distinct.size());
+    }
+
+    //=========== Persistent operations ======================================================
+
+    /**
+     * Returns a set with {@code element} added, or this set if it already contains an equal element.
+     */
+    public PersistentSortedSet<E> plus(E element) {
+        requireNonNull(element);
+        Node<E> newRoot = insert(root, element);
+        return newRoot == root ? this : new PersistentSortedSet<>(newRoot, size + 1);
+    }
+
+    /**
+     * Returns a set with {@code element} removed, or this set if it does not contain the element.
+     */
+    public PersistentSortedSet<E> minus(Object element) {
+        if (!contains(element)) {
+            return this;
+        }
+        return new PersistentSortedSet<>(delete(root, asElement(element)), size - 1);
+    }
+
+    //=========== Navigation =================================================================
+
+    /**
+     * Returns the greatest element less than or equal to {@code element}, or null if there is none.
+     */
+    public E floor(E element) {
+        return closest(element, true, true);
+    }
+
+    /**
+     * Returns the greatest element strictly less than {@code element}, or null if there is none.
+     */
+    public E lower(E element) {
+        return closest(element, true, false);
+    }
+
+    /**
+     * Returns the least element greater than or equal to {@code element}, or null if there is none.
+     */
+    public E ceiling(E element) {
+        return closest(element, false, true);
+    }
+
+    /**
+     * Returns the least element strictly greater than {@code element}, or null if there is none.
+     */
+    public E higher(E element) {
+        return closest(element, false, false);
+    }
+
+    /**
+     * Walks down the tree towards {@code element}, remembering the closest candidate on the requested side.
+     */
+    private E closest(E element, boolean below, boolean inclusive) {
+        requireNonNull(element);
+        E candidate = null;
+        Node<E> node = root;
+        while (node != null) {
+            int cmp = element.compareTo(node.value);
+            if (cmp == 0 && inclusive) {
+                return node.value;
+            }
+            if (below ? cmp > 0 : cmp < 0) {
+                candidate = node.value;
+                node = below ? node.right : node.left;
+            } else {
+                node = below ? node.left : node.right;
+            }
+        }
+        return candidate;
+    }
+
+    //=========== Set and SortedSet ==========================================================
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o == null) {
+            return false;
+        }
+        try {
+            E key = asElement(o);
+            E floor = floor(key);
+            return floor != null && floor.compareTo(key) == 0;
+        } catch (ClassCastException cce) {
+            return false;
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Comparator<? super E> comparator() {
+        return null;
+    }
+
+    @Override
+    public E first() {
+        if (root == null) {
+            throw new NoSuchElementException();
+        }
+        Node<E> node = root;
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.value;
+    }
+
+    @Override
+    public E last() {
+        if (root == null) {
+            throw new NoSuchElementException();
+        }
+        Node<E> node = root;
+        while (node.right != null) {
+            node = node.right;
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns an unmodifiable copy of the given range. Unlike the persistent operations, this takes linear time.
+     */
+    @Override
+    public SortedSet<E> subSet(E fromElement, E toElement) {
+        return Collections.unmodifiableSortedSet(new TreeSet<>(this).subSet(fromElement, toElement));
+    }
+
+    /**
+     * Returns an unmodifiable copy of the given range. Unlike the persistent operations, this takes linear time.
+     */
+    @Override
+    public SortedSet<E> headSet(E toElement) {
+        return Collections.unmodifiableSortedSet(new TreeSet<>(this).headSet(toElement));
+    }
+
+    /**
+     * Returns an unmodifiable copy of the given range. Unlike the persistent operations, this takes linear time.
+     */
+    @Override
+    public SortedSet<E> tailSet(E fromElement) {
+        return Collections.unmodifiableSortedSet(new TreeSet<>(this).tailSet(fromElement));
+    }
+
+    /**
+     * Casts {@code o} to the element type. Comparing the result throws {@code ClassCastException} if it is not one.
+     */
+    @SuppressWarnings("unchecked")
+    private E asElement(Object o) {
+        return (E) o;
+    }
+
+    //=========== AVL tree ===================================================================
+
+    /**
+     * An immutable tree node. Nodes are never modified once built, so they can be shared between sets.
+     */
+    private static final class Node<E> {
+        private final E value;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int height;
+
+        private Node(E value, Node<E> left, Node<E> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Builds a perfectly balanced tree out of {@code sorted[from, to)}.
+     */
+    private static <E> Node<E> buildBalanced(List<E> sorted, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(sorted.get(mid), buildBalanced(sorted, from, mid), buildBalanced(sorted, mid + 1, to));
+    }
+
+    /**
+     * Returns a copy of the path to {@code element} with it inserted, or {@code node} itself if already present.
+     */
+    private static <E extends Comparable<? super E>> Node<E> insert(Node<E> node, E element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int cmp = element.compareTo(node.value);
+        if (cmp < 0) {
+            Node<E> left = insert(node.left, element);
+            return left == node.left ? node : balance(node.value, left, node.right);
+        } else if (cmp > 0) {
+            Node<E> right = insert(node.right, element);
+            return right == node.right ? node : balance(node.value, node.left, right);
+        }
+        return node;
+    }
+
+    /**
+     * Returns a copy of the path to {@code element} with it removed, or {@code node} itself if absent.
+     */
+    private static <E extends Comparable<? super E>> Node<E> delete(Node<E> node, E element) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = element.compareTo(node.value);
+        if (cmp < 0) {
+            Node<E> left = delete(node.left, element);
+            return left == node.left ? node : balance(node.value, left, node.right);
+        } else if (cmp > 0) {
+            Node<E> right = delete(node.right, element);
+            return right == node.right ? node : balance(node.value, node.left, right);
+        }
+
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node<E> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.value, node.left, delete(node.right, successor.value));
+    }
+
+    /**
+     * Builds a node out of the given parts, rotating once or twice to restore the AVL balance if needed.
+     */
+    private static <E> Node<E> balance(E value, Node<E> left, Node<E> right) {
+        int diff = height(left) - height(right);
+        if (diff > 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            return new Node<>(left.right.value, new Node<>(left.value, left.left, left.right.left),
+                    new Node<>(value, left.right.right, right));
+        }
+        if (diff < -1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            return new Node<>(right.left.value, new Node<>(value, left, right.left.left),
+                    new Node<>(right.value, right.left.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    /**
+     * Iterates over a tree in order, keeping only the current path on a stack.
+     */
+    private static final class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+
+        private InOrderIterator(Node<E> root) {
+            pushLeftSpine(root);
+        }
+
+        private void pushLeftSpine(Node<E> node) {
+            for (Node<E> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = path.pop();
+            pushLeftSpine(node.right);
+            return node.value;
+        }
+    }
+}
@@ -4,8 +4,13 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -14,9 +19,17 @@ import javax.xml.bind.Unmarshaller;
 
 /**
  * Helps with reading from and writing to XML files.
+ *
+ * The JAXB context of each class is built once and kept, as building one reflects over the whole class.
+ * Marshallers and unmarshallers are not thread-safe, so each is used by one thread at a time: idle ones are kept in
+ * a pool for each class, and are only returned to it after a successful conversion.
  */
 public class XmlUtil {
 
+    private static final ConcurrentMap<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, Queue<Marshaller>> idleMarshallers = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, Queue<Unmarshaller>> idleUnmarshallers = new ConcurrentHashMap<>();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -38,22 +51,41 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Queue<Unmarshaller> idle = idleUnmarshallers.computeIfAbsent(classToConvert,
+                unused -> new ConcurrentLinkedQueue<>());
+        Unmarshaller um = idle.poll();
+        if (um == null) {
+            um = getContext(classToConvert).createUnmarshaller();
+        }
 
-        return ((T) um.unmarshal(file.toFile()));
+        T data = (T) um.unmarshal(file.toFile());
+        idle.offer(um);
+        return data;
     }
 
     /**
-     * Saves the data in the file in xml format.
+     * Saves the data in the file in xml format. The file is replaced in one step once the data has been written in
+     * full, so it is never left partly written.
      *
      * @param file Points to a valid xml file containing data that match the {@code classToConvert}.
      *             Cannot be null.
      * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws IOException           Thrown if there is an error writing to the file.
      * @throws JAXBException         Thrown if there is an error during converting the data
-     *                               into xml and writing to the file.
+     *                               into xml.
+     */
+    public static <T> void saveDataToFile(Path file, T data) throws IOException, JAXBException {
+        saveDataToFile(file, data, true);
+    }
+
+    /**
+     * Saves the data in the file in xml format, indented if {@code isFormatted}.
+     * Leaving out the indentation makes the file smaller and quicker to write, but harder to edit by hand.
+     *
+     * @see #saveDataToFile(Path, Object)
      */
-    public static <T> void saveDataToFile(Path file, T data) throws FileNotFoundException, JAXBException {
+    public static <T> void saveDataToFile(Path file, T data, boolean isFormatted)
+            throws IOException, JAXBException {
 
         requireNonNull(file);
         requireNonNull(data);
@@ -62,11 +94,19 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        FileUtil.writeAtomically(file, null, out -> marshal(out, data, isFormatted));
+    }
+
+    /**
+     * Writes the data to {@code out} in xml format, indented if {@code isFormatted}. {@code out} is not closed.
+     *
+     * @throws JAXBException Thrown if there is an error during converting the data into xml and writing it.
+     */
+    public static <T> void saveDataToStream(OutputStream out, T data, boolean isFormatted) throws JAXBException {
+        requireNonNull(out);
+        requireNonNull(data);
 
-        m.marshal(data, file.toFile());
+        marshal(out, data, isFormatted);
     }
 
     /**
@@ -85,11 +125,38 @@ public class XmlUtil {
 
         FileUtil.createIfMissing(file);
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        FileUtil.writeAtomically(file, null, out -> marshal(out, data, true));
+    }
+
+    /**
+     * Writes {@code data} to {@code out} with a pooled marshaller.
+     */
+    private static void marshal(OutputStream out, Object data, boolean isFormatted) throws JAXBException {
+        Queue<Marshaller> idle = idleMarshallers.computeIfAbsent(data.getClass(),
+                unused -> new ConcurrentLinkedQueue<>());
+        Marshaller m = idle.poll();
+        if (m == null) {
+            m = getContext(data.getClass()).createMarshaller();
+        }
+
+        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, isFormatted);
+        m.marshal(data, out);
+        idle.offer(m);
+    }
 
-        m.marshal(data, file.toFile());
+    /**
+     * Returns the JAXB context for {@code type}, building it the first time it is needed.
+     */
+    private static JAXBContext getContext(Class<?> type) throws JAXBException {
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            JAXBContext existingContext = contexts.putIfAbsent(type, context);
+            if (existingContext != null) {
+                context = existingContext;
+            }
+        }
+        return context;
     }
 
 }
@@ -0,0 +1,118 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs commands through {@link Logic} one at a time, in the order they were submitted, and hands their results to a
+ * callback executor.
+ *
+ * Commands run either on the submitting thread, or on a single worker thread, so that the submitting thread (the
+ * JavaFX application thread) is not held up by a slow command. As there is only one worker thread, the model is never
+ * used by two commands at once. Unexpected exceptions and errors thrown by a command are handed to the failure callback
+ * as a {@link CommandException}, and then rethrown on the callback executor.
+ */
+public class CommandExecutor {
+
+    public static final String MESSAGE_UNEXPECTED_FAILURE = "The command could not be completed: %1$s";
+
+    private static final String WORKER_THREAD_NAME = "concierge-commands";
+
+    private final Logic logic;
+    /** The thread that commands run on, or null if they run on the submitting thread */
+    private final ExecutorService worker;
+    private final Executor callbackExecutor;
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    /**
+     * Creates an executor that runs commands, and their callbacks, on the submitting thread.
+     */
+    public CommandExecutor(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+        this.worker = null;
+        this.callbackExecutor = Runnable::run;
+    }
+
+    /**
+     * Creates an executor that runs commands on a worker thread, and their callbacks on {@code callbackExecutor}.
+     */
+    public CommandExecutor(Logic logic, Executor callbackExecutor) {
+        requireNonNull(logic);
+        requireNonNull(callbackExecutor);
+        this.logic = logic;
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, WORKER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    /**
+     * Runs {@code commandText} once the commands submitted before it have finished. Its result is handed to
+     * {@code onResult}, or the exception explaining why it could not be run to {@code onFailure}. Exactly one of them
+     * is called for every command, even one that fails unexpectedly.
+     */
+    public void execute(String commandText, Consumer<CommandResult> onResult, Consumer<Exception> onFailure) {
+        requireNonNull(commandText);
+        pendingCount.incrementAndGet();
+        Runnable task = () -> run(commandText, onResult, onFailure);
+        if (worker == null) {
+            task.run();
+        } else {
+            worker.execute(task);
+        }
+    }
+
+    /**
+     * Returns the number of commands that have been submitted but whose callbacks have not yet been run.
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Stops accepting commands, and waits until the commands already submitted have run, or until {@code timeout}
+     * passes. Returns true if they have all run.
+     */
+    public boolean shutdown(Duration timeout) throws InterruptedException {
+        if (worker == null) {
+            return true;
+        }
+        worker.shutdown();
+        return worker.awaitTermination(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void run(String commandText, Consumer<CommandResult> onResult, Consumer<Exception> onFailure) {
+        try {
+            CommandResult result = logic.execute(commandText);
+            callbackExecutor.execute(() -> {
+                pendingCount.decrementAndGet();
+                onResult.accept(result);
+            });
+        } catch (CommandException | ParseException e) {
+            callbackExecutor.execute(() -> {
+                pendingCount.decrementAndGet();
+                onFailure.accept(e);
+            });
+        } catch (RuntimeException | Error e) {
+            callbackExecutor.execute(() -> {
+                pendingCount.decrementAndGet();
+                onFailure.accept(new CommandException(String.format(MESSAGE_UNEXPECTED_FAILURE, e), e));
+                throw e;
+            });
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.logic;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.logic.commands.Command;
+
+/**
+ * Times each phase of the commands run since the app was launched, by command word.
+ * Recording a time allocates nothing once a command has been run, so that timing a command does not change how long
+ * it takes.
+ */
+public class CommandStatistics {
+
+    private static final String COMMAND_FORMAT = "\n  %s: %d run";
+    private static final String PHASE_FORMAT = "\n    %s: %s";
+    private static final String SAVE_FORMAT = "\n    %s (%d): %s";
+
+    private static CommandStatistics instance;
+
+    /**
+     * The phases of a command.
+     */
+    public enum Phase {
+        /** Turning the command text into a command. */
+        PARSE,
+        /** Running the command, apart from committing its changes. */
+        EXECUTE,
+        /** Committing the command's changes for undo and redo, and announcing them so that they are saved. */
+        COMMIT,
+        /** Writing the changes to the data file, which happens after the command returns. */
+        SAVE;
+
+        private String getName() {
+            return name().charAt(0) + name().substring(1).toLowerCase();
+        }
+    }
+
+    private final Map<Class<? extends Command>, CommandTimes> commands = new ConcurrentHashMap<>();
+
+    private CommandStatistics() {}
+
+    public static synchronized CommandStatistics getInstance() {
+        if (instance == null) {
+            instance = new CommandStatistics();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the times of the commands of type {@code commandType}.
+     */
+    public CommandTimes getCommand(Class<? extends Command> commandType) {
+        return commands.computeIfAbsent(commandType, CommandTimes::new);
+    }
+
+    /**
+     * Returns a report of the times of each command that has been run, in order of command word.
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder("Commands:");
+        if (commands.isEmpty()) {
+            report.append(" none");
+        }
+        getCommandsByWord().forEach((word, times) -> {
+            report.append(String.format(COMMAND_FORMAT, word, times.getRunCount()));
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = times.phaseTimes.get(phase);
+                if (phase == Phase.SAVE) {
+                    report.append(String.format(SAVE_FORMAT, phase.getName(), histogram.getCount(),
+                            histogram.getSummary()));
+                } else {
+                    report.append(String.format(PHASE_FORMAT, phase.getName(), histogram.getSummary()));
+                }
+            }
+        });
+        return report.toString();
+    }
+
+    /**
+     * Returns the metrics of each phase of each command that has been run, by command word, in a form that can be
+     * saved as json.
+     */
+    public Map<String, Map<Phase, LatencyHistogram.Metrics>> getMetrics() {
+        Map<String, Map<Phase, LatencyHistogram.Metrics>> metrics = new TreeMap<>();
+        getCommandsByWord().forEach((word, times) -> {
+            Map<Phase, LatencyHistogram.Metrics> phaseMetrics = new EnumMap<>(Phase.class);
+            times.phaseTimes.forEach((phase, histogram) -> phaseMetrics.put(phase, histogram.getMetrics()));
+            metrics.put(word, phaseMetrics);
+        });
+        return metrics;
+    }
+
+    private Map<String, CommandTimes> getCommandsByWord() {
+        Map<String, CommandTimes> commandsByWord = new TreeMap<>();
+        commands.values().forEach(times -> commandsByWord.put(times.commandWord, times));
+        return commandsByWord;
+    }
+
+    /**
+     * The times of the phases of the commands of one type.
+     */
+    public static class CommandTimes {
+        private final String commandWord;
+        private final Map<Phase, LatencyHistogram> phaseTimes = new EnumMap<>(Phase.class);
+
+        private CommandTimes(Class<? extends Command> commandType) {
+            commandWord = getCommandWord(commandType);
+            for (Phase phase : Phase.values()) {
+                phaseTimes.put(phase, new LatencyHistogram());
+            }
+        }
+
+        /**
+         * Records that {@code phase} of a command took {@code nanos}.
+         */
+        public void record(Phase phase, long nanos) {
+            phaseTimes.get(phase).record(nanos);
+        }
+
+        public long getRunCount() {
+            return phaseTimes.get(Phase.EXECUTE).getCount();
+        }
+
+        public LatencyHistogram getPhaseTimes(Phase phase) {
+            return phaseTimes.get(phase);
+        }
+
+        /**
+         * Returns the {@code COMMAND_WORD} of {@code commandType}, or its simple name if it does not have one.
+         */
+        private static String getCommandWord(Class<? extends Command> commandType) {
+            try {
+                return (String) commandType.getField("COMMAND_WORD").get(null);
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                return commandType.getSimpleName();
+            }
+        }
+    }
+}
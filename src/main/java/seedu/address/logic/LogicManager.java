@@ -1,11 +1,17 @@
 package seedu.address.logic;
 
 import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.google.common.eventbus.Subscribe;
+
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.storage.DataSavedEvent;
+import seedu.address.logic.CommandStatistics.CommandTimes;
+import seedu.address.logic.CommandStatistics.Phase;
 import seedu.address.logic.autocomplete.AutoCompleteManager;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
@@ -19,6 +25,9 @@ import seedu.address.model.room.Room;
 
 /**
  * The main LogicManager of the app.
+ *
+ * Each command is timed in {@link CommandStatistics}. The time taken to save a change is counted against the last
+ * command that changed the data, as changes made while a save is in progress are saved together.
  */
 public class LogicManager extends ComponentManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
@@ -29,6 +38,10 @@ public class LogicManager extends ComponentManager implements Logic {
 
     private final AutoCompleteManager autoCompleteManager;
 
+    private final CommandStatistics statistics = CommandStatistics.getInstance();
+    /** The times of the last command that changed the data, or null if none has */
+    private volatile CommandTimes lastChangingCommandTimes;
+
     public LogicManager(Model model) {
         this.model = model;
         history = new CommandHistory();
@@ -38,18 +51,41 @@ public class LogicManager extends ComponentManager implements Logic {
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.log(Level.INFO, "----------------[USER COMMAND][{0}]", commandText);
         try {
+            long start = System.nanoTime();
             Command command = conciergeParser.parseCommand(commandText);
+            long parsed = System.nanoTime();
+            CommandTimes times = statistics.getCommand(command.getClass());
+            times.record(Phase.PARSE, parsed - start);
+
             if (command.requiresSignIn() && !model.isSignedIn()) {
                 throw new UnauthorisedCommandException();
             }
-            return command.execute(model, history);
+            model.takeCommitNanos();
+            try {
+                return command.execute(model, history);
+            } finally {
+                long commitNanos = model.takeCommitNanos();
+                times.record(Phase.EXECUTE, System.nanoTime() - parsed - commitNanos);
+                if (commitNanos > 0) {
+                    times.record(Phase.COMMIT, commitNanos);
+                    lastChangingCommandTimes = times;
+                }
+            }
         } finally {
             history.add(commandText);
         }
     }
 
+    @Subscribe
+    public void handleDataSavedEvent(DataSavedEvent event) {
+        CommandTimes times = lastChangingCommandTimes;
+        if (times != null) {
+            times.record(Phase.SAVE, event.saveNanos);
+        }
+    }
+
     @Override
     public ObservableList<Guest> getFilteredGuestList() {
         return model.getFilteredGuestList();
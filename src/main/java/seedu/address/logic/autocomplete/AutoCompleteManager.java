@@ -2,6 +2,7 @@ package seedu.address.logic.autocomplete;
 
 import static java.util.Objects.requireNonNull;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_START;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROOM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_USERNAME;
@@ -12,10 +13,12 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AvailableCommand;
 import seedu.address.logic.commands.CheckInCommand;
 import seedu.address.logic.commands.CheckoutCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
@@ -26,6 +29,7 @@ import seedu.address.logic.commands.ReassignCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SelectCommand;
 import seedu.address.logic.commands.ServiceCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.Prefix;
 
@@ -51,6 +55,7 @@ public class AutoCompleteManager {
     private void initCommandKeyWords() {
         commandTrie.insertWord(ClearCommand.COMMAND_WORD);
         commandTrie.insertWord(ExitCommand.COMMAND_WORD);
+        commandTrie.insertWord(ExportCommand.COMMAND_WORD);
         commandTrie.insertWord(FindCommand.COMMAND_WORD);
         commandTrie.insertWord(HelpCommand.COMMAND_WORD);
         commandTrie.insertWord(HistoryCommand.COMMAND_WORD);
@@ -61,11 +66,14 @@ public class AutoCompleteManager {
         commandTrie.insertWord(UndoCommand.COMMAND_WORD);
 
         commandTrie.insertWord(AddCommand.COMMAND_WORD + " " + PREFIX_NAME);
+        commandTrie.insertWord(AvailableCommand.COMMAND_WORD + " " + PREFIX_DATE_START);
         commandTrie.insertWord(CheckInCommand.COMMAND_WORD + " " + PREFIX_ROOM);
         commandTrie.insertWord(CheckoutCommand.COMMAND_WORD + " " + PREFIX_ROOM);
         commandTrie.insertWord(LogInCommand.COMMAND_WORD + " " + PREFIX_USERNAME);
         commandTrie.insertWord(ReassignCommand.COMMAND_WORD + " " + PREFIX_ROOM);
         commandTrie.insertWord(ServiceCommand.COMMAND_WORD + " " + PREFIX_ROOM);
+        commandTrie.insertWord(StatsCommand.COMMAND_WORD + " commands");
+        commandTrie.insertWord(StatsCommand.COMMAND_WORD + " events");
 
     }
 
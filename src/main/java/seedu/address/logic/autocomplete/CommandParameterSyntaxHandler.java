@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AvailableCommand;
 import seedu.address.logic.commands.CheckInCommand;
 import seedu.address.logic.commands.CheckoutCommand;
 import seedu.address.logic.commands.LogInCommand;
@@ -31,6 +32,9 @@ public class CommandParameterSyntaxHandler {
     public static final ArrayList<Prefix> ADD_COMMAND_PREFIXES = getListOfPrefix(PREFIX_NAME,
         PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ROOM, PREFIX_DATE_START, PREFIX_DATE_END, PREFIX_TAG);
 
+    public static final ArrayList<Prefix> AVAILABLE_COMMAND_PREFIXES = getListOfPrefix(PREFIX_DATE_START,
+        PREFIX_DATE_END);
+
     public static final ArrayList<Prefix> CHECKIN_COMMAND_PREFIXES = getListOfPrefix(PREFIX_ROOM);
 
     public static final ArrayList<Prefix> CHECKOUT_COMMAND_PREFIXES = getListOfPrefix(PREFIX_ROOM,
@@ -68,6 +72,14 @@ public class CommandParameterSyntaxHandler {
             });
             break;
 
+        case AvailableCommand.COMMAND_WORD:
+            AVAILABLE_COMMAND_PREFIXES.forEach(prefix -> {
+                if (!input.contains(prefix.getPrefix())) {
+                    missingPrefixes.add(prefix);
+                }
+            });
+            break;
+
         case CheckInCommand.COMMAND_WORD:
             CHECKIN_COMMAND_PREFIXES.forEach(prefix -> {
                 if (!input.contains(prefix.getPrefix())) {
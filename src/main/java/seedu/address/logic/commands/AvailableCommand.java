@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.FLAG_ROOM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_START;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.events.ui.ListingChangedEvent;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.room.Room;
+import seedu.address.model.room.RoomNumber;
+import seedu.address.model.room.RoomNumberInSetPredicate;
+import seedu.address.model.room.booking.BookingPeriod;
+
+/**
+ * Lists all rooms in Concierge that have no bookings overlapping the given booking period.
+ */
+public class AvailableCommand extends Command {
+
+    public static final String COMMAND_WORD = "available";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all rooms that are free for the whole of the "
+            + "specified booking period.\n"
+            + "Parameters: " + PREFIX_DATE_START + "START_DATE " + PREFIX_DATE_END + "END_DATE\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_DATE_START + "01/11/2018 " + PREFIX_DATE_END + "03/11/2018";
+
+    private final BookingPeriod bookingPeriod;
+
+    public AvailableCommand(BookingPeriod bookingPeriod) {
+        requireNonNull(bookingPeriod);
+        this.bookingPeriod = bookingPeriod;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+
+        List<RoomNumber> availableRoomNumbers = model.getAvailableRooms(bookingPeriod).stream()
+                .map(Room::getRoomNumber)
+                .collect(Collectors.toList());
+        model.updateFilteredRoomList(new RoomNumberInSetPredicate(availableRoomNumbers));
+        model.setDisplayedListFlag(FLAG_ROOM);
+        EventsCenter.getInstance().post(new ListingChangedEvent(FLAG_ROOM));
+
+        return new CommandResult(
+                String.format(Messages.MESSAGE_ROOMS_LISTED_OVERVIEW, model.getFilteredRoomList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AvailableCommand // instanceof handles nulls
+                && bookingPeriod.equals(((AvailableCommand) other).bookingPeriod)); // state check
+    }
+}
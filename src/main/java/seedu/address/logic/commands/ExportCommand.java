@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.core.ConciergeFileFormat;
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.storage.ExportConciergeRequestEvent;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+
+/**
+ * Saves a copy of Concierge's data to a file, in xml or in the compact binary format, or to a sharded directory.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Saves a copy of all the data to a file, as xml or in a smaller binary format, "
+            + "or to a directory with a file for each room.\n"
+            + "Parameters: FORMAT (xml, binary or sharded) FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " binary data/concierge.bin";
+
+    public static final String MESSAGE_SUCCESS = "Exporting data to %1$s as %2$s.";
+
+    private final Path filePath;
+    private final ConciergeFileFormat format;
+
+    /**
+     * Creates an ExportCommand to save the data to {@code filePath} in {@code format}.
+     */
+    public ExportCommand(Path filePath, ConciergeFileFormat format) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        EventsCenter.getInstance().post(new ExportConciergeRequestEvent(model.getConcierge(), filePath, format));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, filePath, format.name().toLowerCase()));
+    }
+
+    @Override
+    public boolean requiresSignIn() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && filePath.equals(((ExportCommand) other).filePath)
+                && format.equals(((ExportCommand) other).format)); // state check
+    }
+}
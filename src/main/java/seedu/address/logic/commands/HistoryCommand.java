@@ -1,33 +1,63 @@
 package seedu.address.logic.commands;
 
-import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.List;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
+import seedu.address.model.UndoHistoryUsage;
 
 /**
- * Lists all the commands entered by user from the start of app launch.
+ * Lists all the commands entered by user from the start of app launch, and how much of its limits the undo history
+ * is using.
  */
 public class HistoryCommand extends Command {
 
     public static final String COMMAND_WORD = "history";
     public static final String MESSAGE_SUCCESS = "Entered commands (from most recent to earliest):\n%1$s";
     public static final String MESSAGE_NO_HISTORY = "You have not yet entered any commands.";
+    public static final String MESSAGE_UNDO_HISTORY =
+            "\n\nUndo history: %1$d of %2$d states, using about %3$s of %4$s.";
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
-        requireNonNull(history);
+        requireAllNonNull(model, history);
         List<String> previousCommands = history.getHistory();
+        String undoHistory = getUndoHistoryMessage(model.getUndoHistoryUsage());
 
         if (previousCommands.isEmpty()) {
-            return new CommandResult(MESSAGE_NO_HISTORY);
+            return new CommandResult(MESSAGE_NO_HISTORY + undoHistory);
         }
 
         Collections.reverse(previousCommands);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, String.join("\n", previousCommands)));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, String.join("\n", previousCommands)) + undoHistory);
+    }
+
+    /**
+     * Returns the message describing {@code usage}.
+     */
+    public static String getUndoHistoryMessage(UndoHistoryUsage usage) {
+        return String.format(MESSAGE_UNDO_HISTORY, usage.getStateCount(), usage.getMaxStateCount(),
+                formatBytes(usage.getEstimatedBytes()), formatBytes(usage.getMaxBytes()));
+    }
+
+    /**
+     * Formats a number of bytes in the largest unit that keeps it at least 1, e.g. "1.5 MB".
+     */
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        String[] units = {"KB", "MB", "GB"};
+        double value = bytes;
+        int unit = -1;
+        while (value >= 1024 && unit < units.length - 1) {
+            value /= 1024;
+            unit++;
+        }
+        return String.format("%.1f %s", value, units[unit]);
     }
 
 }
@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.CommandStatistics;
+import seedu.address.model.Model;
+
+/**
+ * Shows performance statistics gathered since the app was launched.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows performance statistics gathered since the app was launched.\n"
+            + "Parameters: events (counts and times of events, and of the time each subscriber spent on them)"
+            + " or commands (times of each phase of each command)\n"
+            + "Example: " + COMMAND_WORD + " commands";
+
+    public static final String MESSAGE_EVENT_STATISTICS = "Event statistics since launch:\n%1$s";
+    public static final String MESSAGE_COMMAND_STATISTICS = "Command statistics since launch:\n%1$s";
+
+    /**
+     * The statistics that can be shown.
+     */
+    public enum Subject {
+        EVENTS,
+        COMMANDS
+    }
+
+    private final Subject subject;
+
+    public StatsCommand(Subject subject) {
+        requireNonNull(subject);
+        this.subject = subject;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        switch (subject) {
+        case EVENTS:
+            return new CommandResult(String.format(MESSAGE_EVENT_STATISTICS,
+                    EventsCenter.getInstance().getStatistics().getReport()));
+        case COMMANDS:
+            return new CommandResult(String.format(MESSAGE_COMMAND_STATISTICS,
+                    CommandStatistics.getInstance().getReport()));
+        default:
+            throw new AssertionError("Unknown statistics " + subject);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && subject.equals(((StatsCommand) other).subject)); // state check
+    }
+}
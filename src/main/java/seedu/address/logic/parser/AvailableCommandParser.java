@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_START;
+
+import seedu.address.logic.commands.AvailableCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.room.booking.BookingPeriod;
+
+/**
+ * Parses input arguments and creates a new AvailableCommand object
+ */
+public class AvailableCommandParser implements Parser<AvailableCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AvailableCommand
+     * and returns an AvailableCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AvailableCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE_START, PREFIX_DATE_END);
+        if (!ParserUtil.arePrefixesPresent(argMultimap, PREFIX_DATE_START, PREFIX_DATE_END)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AvailableCommand.MESSAGE_USAGE));
+        }
+        BookingPeriod bookingPeriod = ParserUtil.parseBookingPeriod(argMultimap.getValue(PREFIX_DATE_START).get(),
+                argMultimap.getValue(PREFIX_DATE_END).get());
+        return new AvailableCommand(bookingPeriod);
+    }
+
+}
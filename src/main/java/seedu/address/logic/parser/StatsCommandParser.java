@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new StatsCommand object
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StatsCommand
+     * and returns a StatsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public StatsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        try {
+            return new StatsCommand(StatsCommand.Subject.valueOf(args.trim().toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE), e);
+        }
+    }
+
+}
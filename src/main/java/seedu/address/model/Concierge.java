@@ -3,6 +3,9 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -16,6 +19,7 @@ import seedu.address.model.room.Room;
 import seedu.address.model.room.RoomNumber;
 import seedu.address.model.room.UniqueRoomList;
 import seedu.address.model.room.booking.Booking;
+import seedu.address.model.room.booking.BookingPeriod;
 import seedu.address.model.room.booking.exceptions.ExpiredBookingException;
 import seedu.address.model.room.booking.exceptions.NewBookingStartsBeforeOldBookingCheckedIn;
 import seedu.address.model.room.booking.exceptions.OldBookingStartsBeforeNewBookingCheckedIn;
@@ -91,7 +95,11 @@ public class Concierge implements ReadOnlyConcierge {
      * {@code guests} must not contain duplicate guests.
      */
     public void setGuests(List<Guest> guests) {
-        this.guests.setGuests(guests);
+        List<Guest> previousGuests = new ArrayList<>(this.guests.asUnmodifiableObservableList());
+        List<Guest> newGuests = new ArrayList<>(guests);
+        this.guests.setGuests(newGuests);
+        recordChange(() -> this.guests.setGuests(previousGuests), () -> this.guests.setGuests(newGuests),
+                previousGuests.size() + newGuests.size());
     }
 
     /**
@@ -99,7 +107,11 @@ public class Concierge implements ReadOnlyConcierge {
      * {@code guests} must not contain duplicate guests.
      */
     public void setCheckedInGuests(List<Guest> guests) {
-        this.checkedInGuests.setGuests(guests);
+        List<Guest> previousGuests = new ArrayList<>(checkedInGuests.asUnmodifiableObservableList());
+        List<Guest> newGuests = new ArrayList<>(guests);
+        checkedInGuests.setGuests(newGuests);
+        recordChange(() -> checkedInGuests.setGuests(previousGuests), () -> checkedInGuests.setGuests(newGuests),
+                previousGuests.size() + newGuests.size());
     }
 
     /**
@@ -108,6 +120,7 @@ public class Concierge implements ReadOnlyConcierge {
      */
     public void addGuest(Guest g) {
         guests.add(g);
+        recordChange(() -> guests.remove(g), () -> guests.add(g), 1);
     }
 
     /**
@@ -121,6 +134,7 @@ public class Concierge implements ReadOnlyConcierge {
             return;
         }
         checkedInGuests.add(g);
+        recordChange(() -> checkedInGuests.remove(g), () -> checkedInGuests.add(g), 1);
     }
 
     /**
@@ -128,7 +142,9 @@ public class Concierge implements ReadOnlyConcierge {
      * {@code key} must exist in Concierge's guest list.
      */
     public void removeGuest(Guest key) {
+        int index = guests.indexOf(key);
         guests.remove(key);
+        recordChange(() -> guests.add(index, key), () -> guests.remove(key), 1);
     }
 
     /**
@@ -136,18 +152,27 @@ public class Concierge implements ReadOnlyConcierge {
      * {@code key} must exist in Concierge's checked-in guest list.
      */
     public void removeCheckedInGuest(Guest key) {
+        int index = checkedInGuests.indexOf(key);
         checkedInGuests.remove(key);
+        recordChange(() -> checkedInGuests.add(index, key), () -> checkedInGuests.remove(key), 1);
     }
 
     //=========== Room operations =============================================================
 
+    /**
+     * Returns the rooms that have no booking overlapping {@code bookingPeriod}, in room number order.
+     */
+    public List<Room> getAvailableRooms(BookingPeriod bookingPeriod) {
+        return rooms.getAvailableRooms(bookingPeriod);
+    }
+
     /**
      * Adds given tags to the specified room
      */
     public void addRoomTags(RoomNumber roomNumber, Tag... tags) {
         Room room = rooms.getRoom(roomNumber);
         Room editedRoom = room.addTags(tags);
-        rooms.setRoom(room, editedRoom);
+        setRoom(room, editedRoom);
     }
 
     /**
@@ -155,7 +180,28 @@ public class Concierge implements ReadOnlyConcierge {
      * {@code rooms} must not contain duplicate rooms.
      */
     public void setRooms(List<Room> rooms) {
-        this.rooms.setRooms(rooms);
+        List<Room> previousRooms = new ArrayList<>(this.rooms.asUnmodifiableObservableList());
+        List<Room> newRooms = new ArrayList<>(rooms);
+        this.rooms.setRooms(newRooms);
+        recordChange(() -> this.rooms.setRooms(previousRooms), () -> this.rooms.setRooms(newRooms),
+                previousRooms.size() + newRooms.size());
+    }
+
+    /**
+     * Replaces the room {@code target} in the room list with {@code editedRoom}, which has the same bookings.
+     */
+    private void setRoom(Room target, Room editedRoom) {
+        setRoom(target, editedRoom, Collections.emptyList(), Collections.emptyList());
+    }
+
+    /**
+     * Replaces the room {@code target} in the room list with {@code editedRoom}, whose bookings are those of
+     * {@code target} without {@code removedBookings} and with {@code addedBookings}.
+     */
+    private void setRoom(Room target, Room editedRoom, List<Booking> removedBookings, List<Booking> addedBookings) {
+        rooms.setRoom(target, editedRoom, removedBookings, addedBookings);
+        recordChange(() -> rooms.setRoom(editedRoom, target, addedBookings, removedBookings),
+                () -> rooms.setRoom(target, editedRoom, removedBookings, addedBookings), 2);
     }
 
     /**
@@ -209,10 +255,10 @@ public class Concierge implements ReadOnlyConcierge {
         for (Expense expense : room.getExpenses().getExpensesList()) {
             editedNewRoom = editedNewRoom.addExpense(expense);
         }
-        rooms.setRoom(newRoom, editedNewRoom);
+        setRoom(newRoom, editedNewRoom, Collections.emptyList(), Collections.singletonList(bookingToReassign));
 
         Room editedRoom = room.checkout(bookingToReassign);
-        rooms.setRoom(room, editedRoom);
+        setRoom(room, editedRoom, Collections.singletonList(bookingToReassign), Collections.emptyList());
     }
 
     /**
@@ -221,7 +267,7 @@ public class Concierge implements ReadOnlyConcierge {
     public void addBooking(RoomNumber roomNumber, Booking booking) {
         Room room = rooms.getRoom(roomNumber);
         Room editedRoom = room.addBooking(booking);
-        rooms.setRoom(room, editedRoom);
+        setRoom(room, editedRoom, Collections.emptyList(), Collections.singletonList(booking));
     }
 
     /**
@@ -230,7 +276,8 @@ public class Concierge implements ReadOnlyConcierge {
     public void checkInRoom(RoomNumber roomNumber) {
         Room room = rooms.getRoom(roomNumber);
         Room checkedInRoom = room.checkIn();
-        rooms.setRoom(room, checkedInRoom);
+        setRoom(room, checkedInRoom, Collections.singletonList(room.getBookings().getFirstBooking()),
+                Collections.singletonList(checkedInRoom.getBookings().getFirstBooking()));
 
         // First booking is guaranteed to be present after executing room.checkIn() above
         Guest guestToCheckIn = checkedInRoom.getBookings().getFirstBooking().getGuest();
@@ -268,15 +315,13 @@ public class Concierge implements ReadOnlyConcierge {
      * Reason for 2): Guests may have stayed in the hotel before, and would thus already be in the archived guest list.
      */
     private void checkoutRoom(Room room, Booking bookingToCheckout) {
-        rooms.setRoom(room, room.checkout(bookingToCheckout));
+        setRoom(room, room.checkout(bookingToCheckout), Collections.singletonList(bookingToCheckout),
+                Collections.emptyList());
 
         Guest guestToCheckout = bookingToCheckout.getGuest();
 
         if (hasCheckedInGuest(guestToCheckout)) {
-            boolean guestHasOtherBookings = rooms.asUnmodifiableObservableList()
-                    .stream().anyMatch(r -> r.getBookings().getSortedBookingsSet()
-                        .stream().anyMatch(b -> b.getIsCheckedIn() && b.getGuest().equals(guestToCheckout)));
-            if (!guestHasOtherBookings) {
+            if (!rooms.hasCheckedInBooking(guestToCheckout)) {
                 removeCheckedInGuest(guestToCheckout);
             }
 
@@ -287,8 +332,15 @@ public class Concierge implements ReadOnlyConcierge {
 
     }
 
+    /**
+     * Adds the items in {@code menu} to the menu, replacing any existing items with the same item numbers.
+     */
     public void setMenu(Map<String, ExpenseType> menu) {
+        Map<String, ExpenseType> previousMenu = new HashMap<>(this.menu.asUnmodifiableMap());
         this.menu.setMenu(menu);
+        Map<String, ExpenseType> newMenu = new HashMap<>(this.menu.asUnmodifiableMap());
+        recordChange(() -> this.menu.replaceMenu(previousMenu), () -> this.menu.replaceMenu(newMenu),
+                previousMenu.size() + newMenu.size());
     }
 
     /**
@@ -297,7 +349,19 @@ public class Concierge implements ReadOnlyConcierge {
     public void addExpense(RoomNumber roomNumber, Expense expense) {
         Room room = rooms.getRoom(roomNumber);
         Room editedRoom = room.addExpense(expense);
-        rooms.setRoom(room, editedRoom);
+        setRoom(room, editedRoom);
+    }
+
+    //=========== Change tracking =============================================================
+
+    /**
+     * Called after every change to the data in this {@code Concierge}, with the operations that revert and
+     * reapply it, and the number of guests, rooms or menu items that the operations refer to. The operations act on
+     * the underlying lists directly, so running them does not record any further changes.
+     * Does nothing by default; {@code VersionedConcierge} overrides it to keep its undo/redo history.
+     */
+    void recordChange(Runnable undo, Runnable redo, int elementCount) {
+        // changes are not tracked by default
     }
 
     //=========== Reset data =============================================================
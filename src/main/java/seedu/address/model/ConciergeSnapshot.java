@@ -0,0 +1,60 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.expenses.ExpenseType;
+import seedu.address.model.guest.Guest;
+import seedu.address.model.room.Room;
+
+/**
+ * An unchanging copy of the data in a {@code ReadOnlyConcierge}, which can be read on another thread while the
+ * original keeps changing. Guests, rooms and menu items are immutable, so only the lists that hold them are copied.
+ */
+public class ConciergeSnapshot implements ReadOnlyConcierge {
+
+    private final ObservableList<Guest> guests;
+    private final ObservableList<Guest> checkedInGuests;
+    private final ObservableList<Room> rooms;
+    private final Menu menu;
+
+    public ConciergeSnapshot(ReadOnlyConcierge source) {
+        requireNonNull(source);
+        guests = copyOf(source.getGuestList());
+        checkedInGuests = copyOf(source.getCheckedInGuestList());
+        rooms = copyOf(source.getRoomList());
+        menu = new Menu(source.getMenu());
+    }
+
+    private static <T> ObservableList<T> copyOf(ObservableList<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+    }
+
+    @Override
+    public ObservableList<Guest> getGuestList() {
+        return guests;
+    }
+
+    @Override
+    public ObservableList<Guest> getCheckedInGuestList() {
+        return checkedInGuests;
+    }
+
+    @Override
+    public ObservableList<Room> getRoomList() {
+        return rooms;
+    }
+
+    @Override
+    public Menu getMenu() {
+        return menu;
+    }
+
+    @Override
+    public Map<String, ExpenseType> getMenuMap() {
+        return menu.asUnmodifiableMap();
+    }
+}
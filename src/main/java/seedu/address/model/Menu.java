@@ -31,6 +31,15 @@ public class Menu {
         numberToType.putAll(other);
     }
 
+    /**
+     * Replaces all the items in the menu with the items in {@code other}.
+     */
+    public void replaceMenu(Map<String, ExpenseType> other) {
+        requireNonNull(other);
+        numberToType.clear();
+        numberToType.putAll(other);
+    }
+
     public Map<String, ExpenseType> asUnmodifiableMap() {
         return Collections.unmodifiableMap(numberToType);
     }
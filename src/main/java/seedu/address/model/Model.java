@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -13,6 +14,7 @@ import seedu.address.model.login.InvalidLogOutException;
 import seedu.address.model.room.Room;
 import seedu.address.model.room.RoomNumber;
 import seedu.address.model.room.booking.Booking;
+import seedu.address.model.room.booking.BookingPeriod;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -116,6 +118,11 @@ public interface Model {
 
     //=========== Methods for room. ===========================================
 
+    /**
+     * Returns the rooms that have no booking overlapping {@code bookingPeriod}, in room number order.
+     */
+    List<Room> getAvailableRooms(BookingPeriod bookingPeriod);
+
     /**
      * Adds given tags to the specified room
      */
@@ -191,4 +198,15 @@ public interface Model {
      * Saves the current Concierge state for undo/redo.
      */
     void commitConcierge();
+
+    /**
+     * Returns the time in nanoseconds spent committing changes, and announcing them so that they are saved, since
+     * this was last called.
+     */
+    long takeCommitNanos();
+
+    /**
+     * Returns how much of its limits the undo/redo history is currently using.
+     */
+    UndoHistoryUsage getUndoHistoryUsage();
 }
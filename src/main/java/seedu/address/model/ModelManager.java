@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -25,6 +26,7 @@ import seedu.address.model.login.PasswordHashList;
 import seedu.address.model.room.Room;
 import seedu.address.model.room.RoomNumber;
 import seedu.address.model.room.booking.Booking;
+import seedu.address.model.room.booking.BookingPeriod;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -39,6 +41,8 @@ public class ModelManager extends ComponentManager implements Model {
     private final FilteredList<Guest> filteredCheckedInGuests;
     private final LogInManager logInManager;
     private Prefix displayedListFlag;
+    /** The time spent committing changes since {@link #takeCommitNanos()} was last called */
+    private long commitNanos;
 
     /**
      * Initializes a ModelManager with the given concierge and userPrefs.
@@ -62,7 +66,8 @@ public class ModelManager extends ComponentManager implements Model {
                 + " and user prefs " + userPrefs
                 + " and password list " + passwordRef);
 
-        versionedConcierge = new VersionedConcierge(concierge);
+        versionedConcierge = new VersionedConcierge(concierge, userPrefs.getUndoHistoryMaxStates(),
+                userPrefs.getUndoHistoryMaxBytes());
         filteredGuests = new FilteredList<>(versionedConcierge.getGuestList());
         filteredRooms = new FilteredList<>(versionedConcierge.getRoomList());
         filteredCheckedInGuests = new FilteredList<>(versionedConcierge.getCheckedInGuestList());
@@ -92,7 +97,9 @@ public class ModelManager extends ComponentManager implements Model {
 
     /** Raises an event to indicate the model has changed */
     private void indicateConciergeChanged() {
+        long start = System.nanoTime();
         raise(new ConciergeChangedEvent(versionedConcierge));
+        commitNanos += System.nanoTime() - start;
     }
 
     @Override
@@ -196,6 +203,12 @@ public class ModelManager extends ComponentManager implements Model {
 
     //=========== Room =======================================================
 
+    @Override
+    public List<Room> getAvailableRooms(BookingPeriod bookingPeriod) {
+        requireNonNull(bookingPeriod);
+        return versionedConcierge.getAvailableRooms(bookingPeriod);
+    }
+
     @Override
     public void addRoomTags(RoomNumber roomNumber, Tag... tags) {
         versionedConcierge.addRoomTags(roomNumber, tags);
@@ -270,7 +283,21 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void commitConcierge() {
+        long start = System.nanoTime();
         versionedConcierge.commit();
+        commitNanos += System.nanoTime() - start;
+    }
+
+    @Override
+    public long takeCommitNanos() {
+        long nanos = commitNanos;
+        commitNanos = 0;
+        return nanos;
+    }
+
+    @Override
+    public UndoHistoryUsage getUndoHistoryUsage() {
+        return versionedConcierge.getUndoHistoryUsage();
     }
 
     @Override
@@ -0,0 +1,59 @@
+package seedu.address.model;
+
+/**
+ * A snapshot of how much of its limits the undo/redo history of Concierge is using.
+ * Byte counts are estimates of the memory retained by the history, not exact measurements.
+ */
+public class UndoHistoryUsage {
+
+    private final int stateCount;
+    private final int maxStateCount;
+    private final long estimatedBytes;
+    private final long maxBytes;
+
+    public UndoHistoryUsage(int stateCount, int maxStateCount, long estimatedBytes, long maxBytes) {
+        this.stateCount = stateCount;
+        this.maxStateCount = maxStateCount;
+        this.estimatedBytes = estimatedBytes;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the number of states that can currently be undone or redone.
+     */
+    public int getStateCount() {
+        return stateCount;
+    }
+
+    public int getMaxStateCount() {
+        return maxStateCount;
+    }
+
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof UndoHistoryUsage // instanceof handles nulls
+                && stateCount == ((UndoHistoryUsage) other).stateCount
+                && maxStateCount == ((UndoHistoryUsage) other).maxStateCount
+                && estimatedBytes == ((UndoHistoryUsage) other).estimatedBytes
+                && maxBytes == ((UndoHistoryUsage) other).maxBytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(estimatedBytes) * 31 + stateCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d/%d states, about %d/%d bytes", stateCount, maxStateCount, estimatedBytes, maxBytes);
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
@@ -11,9 +13,15 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs {
 
+    public static final int DEFAULT_JOURNAL_MAX_ENTRIES = 1000;
+
     private GuiSettings guiSettings;
     private Path conciergeFilePath = Paths.get("data" , "concierge.xml");
     private Path passwordsFilePath = Paths.get("passwords.json");
+    private int undoHistoryMaxStates = VersionedConcierge.DEFAULT_MAX_STATES;
+    private long undoHistoryMaxBytes = VersionedConcierge.DEFAULT_MAX_BYTES;
+    private int journalMaxEntries = DEFAULT_JOURNAL_MAX_ENTRIES;
+    private boolean conciergeFileFormatted = true;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -47,6 +55,54 @@ public class UserPrefs {
         this.passwordsFilePath = passwordsFilePath;
     }
 
+    public int getUndoHistoryMaxStates() {
+        return undoHistoryMaxStates;
+    }
+
+    /**
+     * Sets the number of commands that can be undone.
+     */
+    public void setUndoHistoryMaxStates(int undoHistoryMaxStates) {
+        checkArgument(undoHistoryMaxStates >= 0, "The undo history cannot hold a negative number of states.");
+        this.undoHistoryMaxStates = undoHistoryMaxStates;
+    }
+
+    public long getUndoHistoryMaxBytes() {
+        return undoHistoryMaxBytes;
+    }
+
+    /**
+     * Sets the estimated number of bytes the undo history may retain before older states are dropped.
+     */
+    public void setUndoHistoryMaxBytes(long undoHistoryMaxBytes) {
+        checkArgument(undoHistoryMaxBytes >= 0, "The undo history cannot hold a negative number of bytes.");
+        this.undoHistoryMaxBytes = undoHistoryMaxBytes;
+    }
+
+    public int getJournalMaxEntries() {
+        return journalMaxEntries;
+    }
+
+    /**
+     * Sets the number of changes saved to the journal before the data file is saved in full.
+     * Journalling is turned off if {@code journalMaxEntries} is 0.
+     */
+    public void setJournalMaxEntries(int journalMaxEntries) {
+        checkArgument(journalMaxEntries >= 0, "The journal cannot hold a negative number of entries.");
+        this.journalMaxEntries = journalMaxEntries;
+    }
+
+    public boolean isConciergeFileFormatted() {
+        return conciergeFileFormatted;
+    }
+
+    /**
+     * Sets whether the data file is indented, which makes it easier to edit by hand but larger and slower to save.
+     */
+    public void setConciergeFileFormatted(boolean conciergeFileFormatted) {
+        this.conciergeFileFormatted = conciergeFileFormatted;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -59,12 +115,17 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-                && Objects.equals(conciergeFilePath, o.conciergeFilePath);
+                && Objects.equals(conciergeFilePath, o.conciergeFilePath)
+                && undoHistoryMaxStates == o.undoHistoryMaxStates
+                && undoHistoryMaxBytes == o.undoHistoryMaxBytes
+                && journalMaxEntries == o.journalMaxEntries
+                && conciergeFileFormatted == o.conciergeFileFormatted;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, conciergeFilePath);
+        return Objects.hash(guiSettings, conciergeFilePath, undoHistoryMaxStates, undoHistoryMaxBytes,
+                journalMaxEntries, conciergeFileFormatted);
     }
 
     @Override
@@ -1,36 +1,81 @@
 package seedu.address.model;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 
 /**
  * {@code Concierge} that keeps track of its own history.
+ * Instead of a full copy of every state, the history holds the changes that lead from each state to the next,
+ * as recorded by {@link Concierge#recordChange(Runnable, Runnable, int)}. Undo and redo only replay the changes of
+ * a single commit, and the history grows with what each command touched rather than with the size of Concierge.
+ *
+ * The history is bounded both in the number of states and in the estimated memory it retains. Once either limit
+ * is exceeded, the oldest states are dropped, as in a ring buffer.
  */
 public class VersionedConcierge extends Concierge {
 
-    private final List<ReadOnlyConcierge> conciergeStateList;
-    private int currentStatePointer;
+    public static final int DEFAULT_MAX_STATES = 100;
+    public static final long DEFAULT_MAX_BYTES = 16L * 1024 * 1024;
+
+    /*
+     * Rough sizes used to estimate the memory retained by the history: every change costs its own objects and
+     * closures, plus one edited object (e.g. a room or guest) for every element it refers to.
+     */
+    private static final long ESTIMATED_BYTES_PER_CHANGE = 96;
+    private static final long ESTIMATED_BYTES_PER_ELEMENT = 160;
+
+    private final int maxStates;
+    private final long maxBytes;
+
+    /** The committed changes that can be undone, oldest first. */
+    private final Deque<StateChange> undoStack = new ArrayDeque<>();
+    /** The undone changes that can be redone, most recently undone first. */
+    private final Deque<StateChange> redoStack = new ArrayDeque<>();
+    private List<Change> uncommittedChanges = new ArrayList<>();
+    private long estimatedBytes;
 
     public VersionedConcierge(ReadOnlyConcierge initialState) {
-        super(initialState);
+        this(initialState, DEFAULT_MAX_STATES, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Creates a {@code VersionedConcierge} that keeps at most {@code maxStates} states to undo, and drops older
+     * states whenever its history is estimated to retain more than {@code maxBytes} bytes.
+     */
+    public VersionedConcierge(ReadOnlyConcierge initialState, int maxStates, long maxBytes) {
+        checkArgument(maxStates >= 0, "The undo history cannot hold a negative number of states.");
+        checkArgument(maxBytes >= 0, "The undo history cannot hold a negative number of bytes.");
+        this.maxStates = maxStates;
+        this.maxBytes = maxBytes;
+        resetData(initialState);
+        uncommittedChanges.clear();
+    }
 
-        conciergeStateList = new ArrayList<>();
-        conciergeStateList.add(new Concierge(initialState));
-        currentStatePointer = 0;
+    @Override
+    void recordChange(Runnable undo, Runnable redo, int elementCount) {
+        uncommittedChanges.add(new Change(undo, redo, elementCount));
     }
 
     /**
-     * Saves a copy of the current {@code Concierge} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the changes made since the previous commit as a new state at the end of the state list.
+     * Undone states are removed from the state list, and the oldest states are removed if the history is full.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        conciergeStateList.add(new Concierge(this));
-        currentStatePointer++;
-    }
+        redoStack.forEach(stateChange -> estimatedBytes -= stateChange.estimatedBytes);
+        redoStack.clear();
 
-    private void removeStatesAfterCurrentPointer() {
-        conciergeStateList.subList(currentStatePointer + 1, conciergeStateList.size()).clear();
+        StateChange stateChange = new StateChange(uncommittedChanges);
+        uncommittedChanges = new ArrayList<>();
+        undoStack.addLast(stateChange);
+        estimatedBytes += stateChange.estimatedBytes;
+
+        while (!undoStack.isEmpty() && (undoStack.size() > maxStates || estimatedBytes > maxBytes)) {
+            estimatedBytes -= undoStack.removeFirst().estimatedBytes;
+        }
     }
 
     /**
@@ -40,8 +85,10 @@ public class VersionedConcierge extends Concierge {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(conciergeStateList.get(currentStatePointer));
+        discardUncommittedChanges();
+        StateChange stateChange = undoStack.removeLast();
+        stateChange.undo();
+        redoStack.push(stateChange);
     }
 
     /**
@@ -51,22 +98,32 @@ public class VersionedConcierge extends Concierge {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(conciergeStateList.get(currentStatePointer));
+        discardUncommittedChanges();
+        StateChange stateChange = redoStack.pop();
+        stateChange.redo();
+        undoStack.addLast(stateChange);
+    }
+
+    /**
+     * Reverts the changes made since the previous commit.
+     */
+    private void discardUncommittedChanges() {
+        new StateChange(uncommittedChanges).undo();
+        uncommittedChanges = new ArrayList<>();
     }
 
     /**
      * Returns true if {@code undo()} has Concierge states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return !undoStack.isEmpty();
     }
 
     /**
      * Returns true if {@code redo()} has Concierge states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < conciergeStateList.size() - 1;
+        return !redoStack.isEmpty();
     }
 
     /**
@@ -75,8 +132,17 @@ public class VersionedConcierge extends Concierge {
      * NoRedoableStateException}.
      */
     public void resetUndoRedoHistory() {
-        currentStatePointer = -1;
-        commit();
+        undoStack.clear();
+        redoStack.clear();
+        uncommittedChanges = new ArrayList<>();
+        estimatedBytes = 0;
+    }
+
+    /**
+     * Returns how much of its limits the history is currently using.
+     */
+    public UndoHistoryUsage getUndoHistoryUsage() {
+        return new UndoHistoryUsage(undoStack.size() + redoStack.size(), maxStates, estimatedBytes, maxBytes);
     }
 
     @Override
@@ -93,10 +159,55 @@ public class VersionedConcierge extends Concierge {
 
         VersionedConcierge otherVersionedConcierge = (VersionedConcierge) other;
 
-        // state check
+        // state check; recorded changes cannot be compared, so only the shape of the history is
         return super.equals(otherVersionedConcierge)
-                && conciergeStateList.equals(otherVersionedConcierge.conciergeStateList)
-                && currentStatePointer == otherVersionedConcierge.currentStatePointer;
+                && undoStack.size() == otherVersionedConcierge.undoStack.size()
+                && redoStack.size() == otherVersionedConcierge.redoStack.size();
+    }
+
+    /**
+     * A change to Concierge, together with how to revert it.
+     */
+    private static class Change {
+        private final Runnable undo;
+        private final Runnable redo;
+        private final int elementCount;
+
+        private Change(Runnable undo, Runnable redo, int elementCount) {
+            this.undo = undo;
+            this.redo = redo;
+            this.elementCount = elementCount;
+        }
+    }
+
+    /**
+     * The changes that lead from one state of Concierge to the next.
+     */
+    private static class StateChange {
+        private final List<Change> changes;
+        private final long estimatedBytes;
+
+        private StateChange(List<Change> changes) {
+            this.changes = changes;
+            long bytes = 0;
+            for (Change change : changes) {
+                bytes += ESTIMATED_BYTES_PER_CHANGE + change.elementCount * ESTIMATED_BYTES_PER_ELEMENT;
+            }
+            this.estimatedBytes = bytes;
+        }
+
+        /**
+         * Reverts the changes, latest first.
+         */
+        private void undo() {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).undo.run();
+            }
+        }
+
+        private void redo() {
+            changes.forEach(change -> change.redo.run());
+        }
     }
 
     /**
@@ -109,7 +109,7 @@ public class Expense {
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
-                || (other instanceof Expenses // instanceof handles nulls
+                || (other instanceof Expense // instanceof handles nulls
                 && cost.equals(((Expense) other).cost)
                 && type.equals(((Expense) other).type)
                 && dateTime.equals(((Expense) other).dateTime)); // state check
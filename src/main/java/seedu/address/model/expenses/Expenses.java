@@ -5,30 +5,34 @@ import static java.util.Objects.requireNonNull;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.util.PersistentList;
 
 /**
  * Contains all of the expenses incurred by the guests of a given room.
+ * The expenses are kept in a {@code PersistentList}, so adding an expense shares the existing ones with the
+ * previous {@code Expenses} instead of copying them.
  */
 public class Expenses {
 
-    private final List<Expense> expenseList;
+    private final PersistentList<Expense> expenseList;
 
     /**
      * Constructs an {@code Expenses} object.
      */
     public Expenses() {
-        expenseList = new LinkedList<>();
+        expenseList = PersistentList.empty();
     }
 
     public Expenses(List<Expense> expenseList) {
         requireNonNull(expenseList);
-        this.expenseList = new LinkedList<>(expenseList);
+        this.expenseList = PersistentList.copyOf(expenseList);
     }
 
     public List<Expense> getExpensesList() {
-        return Collections.unmodifiableList(expenseList);
+        return expenseList;
     }
 
     /**
@@ -40,9 +44,16 @@ public class Expenses {
      */
     public Expenses addExpense(Expense newExpense) {
         requireNonNull(newExpense);
-        List<Expense> newList = new LinkedList<>(expenseList);
-        newList.add(0, newExpense);
-        return new Expenses(newList);
+        return new Expenses(expenseList.plusFirst(newExpense));
+    }
+
+    /**
+     * Returns the expenses that were added to {@code earlier} to make these expenses, newest first, or
+     * {@code Optional.empty()} if these expenses were not made by adding expenses to {@code earlier}.
+     */
+    public Optional<List<Expense>> getExpensesAddedTo(Expenses earlier) {
+        requireNonNull(earlier);
+        return expenseList.getElementsInFrontOf(earlier.expenseList);
     }
 
     /**
@@ -3,8 +3,11 @@ package seedu.address.model.guest;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +21,10 @@ import seedu.address.model.guest.exceptions.GuestNotFoundException;
  * unique in terms of identity in the UniqueGuestList. However, the removal of a guest uses Guest#equals(Object) so
  * as to ensure that the guest with exactly the same fields will be removed.
  *
+ * Since two guests are the same guest if they share a name and either a phone number or an email address, every
+ * guest in the list is also indexed by its (name, phone) and (name, email) pairs. Checking whether a guest is already
+ * in the list is then a hash look-up of its two pairs, instead of a comparison with every other guest.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Guest#isSameGuest(Guest)
@@ -25,13 +32,15 @@ import seedu.address.model.guest.exceptions.GuestNotFoundException;
 public class UniqueGuestList implements Iterable<Guest> {
 
     private final ObservableList<Guest> internalList = FXCollections.observableArrayList();
+    private final Set<IdentityKey> identityKeys = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent guest as the given argument.
      */
     public boolean contains(Guest toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameGuest);
+        return identityKeys.contains(IdentityKey.ofPhone(toCheck))
+                || identityKeys.contains(IdentityKey.ofEmail(toCheck));
     }
 
     /**
@@ -44,6 +53,28 @@ public class UniqueGuestList implements Iterable<Guest> {
             throw new DuplicateGuestException();
         }
         internalList.add(toAdd);
+        addIdentityKeys(toAdd);
+    }
+
+    /**
+     * Adds a guest to the list at the given position.
+     * The guest must not already exist in the list.
+     */
+    public void add(int index, Guest toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateGuestException();
+        }
+        internalList.add(index, toAdd);
+        addIdentityKeys(toAdd);
+    }
+
+    /**
+     * Returns the position of the guest equal to {@code guest} in the list, or -1 if there is none.
+     */
+    public int indexOf(Guest guest) {
+        requireNonNull(guest);
+        return internalList.indexOf(guest);
     }
 
     /**
@@ -55,6 +86,8 @@ public class UniqueGuestList implements Iterable<Guest> {
         if (!internalList.remove(toRemove)) {
             throw new GuestNotFoundException();
         }
+        identityKeys.remove(IdentityKey.ofPhone(toRemove));
+        identityKeys.remove(IdentityKey.ofEmail(toRemove));
     }
 
     /**
@@ -63,6 +96,8 @@ public class UniqueGuestList implements Iterable<Guest> {
     public void setGuests(UniqueGuestList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityKeys.clear();
+        identityKeys.addAll(replacement.identityKeys);
     }
 
     /**
@@ -76,6 +111,8 @@ public class UniqueGuestList implements Iterable<Guest> {
         }
 
         internalList.setAll(guests);
+        identityKeys.clear();
+        internalList.forEach(this::addIdentityKeys);
     }
 
     /**
@@ -102,17 +139,60 @@ public class UniqueGuestList implements Iterable<Guest> {
         return internalList.hashCode();
     }
 
+    private void addIdentityKeys(Guest guest) {
+        identityKeys.add(IdentityKey.ofPhone(guest));
+        identityKeys.add(IdentityKey.ofEmail(guest));
+    }
+
     /**
      * Returns true if {@code guests} contains only unique guests.
      */
     private boolean guestsAreUnique(List<Guest> guests) {
-        for (int i = 0; i < guests.size() - 1; i++) {
-            for (int j = i + 1; j < guests.size(); j++) {
-                if (guests.get(i).isSameGuest(guests.get(j))) {
-                    return false;
-                }
+        Set<IdentityKey> seenKeys = new HashSet<>();
+        for (Guest guest : guests) {
+            IdentityKey phoneKey = IdentityKey.ofPhone(guest);
+            IdentityKey emailKey = IdentityKey.ofEmail(guest);
+            if (seenKeys.contains(phoneKey) || seenKeys.contains(emailKey)) {
+                return false;
             }
+            seenKeys.add(phoneKey);
+            seenKeys.add(emailKey);
         }
         return true;
     }
+
+    /**
+     * A guest's name paired with either its phone number or its email address.
+     * Two guests are the same guest if and only if they share at least one such pair.
+     */
+    private static final class IdentityKey {
+        private final Name name;
+        private final Object contact;
+
+        private IdentityKey(Name name, Object contact) {
+            this.name = name;
+            this.contact = contact;
+        }
+
+        private static IdentityKey ofPhone(Guest guest) {
+            return new IdentityKey(guest.getName(), guest.getPhone());
+        }
+
+        private static IdentityKey ofEmail(Guest guest) {
+            return new IdentityKey(guest.getName(), guest.getEmail());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof IdentityKey // instanceof handles nulls
+                    && name.equals(((IdentityKey) other).name)
+                    && contact.equals(((IdentityKey) other).contact));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, contact);
+        }
+    }
 }
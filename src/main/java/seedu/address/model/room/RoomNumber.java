@@ -7,60 +7,153 @@ import seedu.address.commons.core.index.Index;
 
 /**
  * Represents a Room's room number in Concierge.
+ * Room numbers run contiguously from 001 up to the configured maximum room number, and are stored as an
+ * {@code int}. Their string form is zero-padded to at least {@link #MIN_DIGITS} digits.
  * Guarantees: immutable; is valid as declared in {@link #isValidRoomNumber(String)}
  */
 public class RoomNumber {
 
-    public static final String MAX_ROOM_NUMBER = "100";
+    public static final int DEFAULT_MAX_ROOM_NUMBER = 100;
+    public static final int MIN_DIGITS = 3;
     public static final String MESSAGE_ROOM_NUMBER_CONSTRAINTS =
-            String.format("Room Number should be a string that only contain numbers from 001 to %s, and it should "
-                + "not be blank", MAX_ROOM_NUMBER);
+            "Room Number should be a string that only contain numbers, at least 3 digits long (e.g. 001), "
+                + "from 001 up to the number of rooms in the hotel, and it should not be blank";
 
-    /*
-     * The first character of the address must not be a whitespace,
-     * otherwise " " (a blank string) becomes a valid input.
+    // Room numbers longer than this cannot be parsed into an int without overflowing.
+    private static final int MAX_DIGITS = 9;
+
+    /**
+     * The largest valid room number. Set once on start-up from the room inventory in {@code Config}.
      */
-    public static final String ROOM_NUMBER_VALIDATION_REGEX = "^(0\\d[1-9]|0[1-9]\\d|100)$";
+    private static int maxRoomNumber = DEFAULT_MAX_ROOM_NUMBER;
 
-    public final String value;
+    private final int value;
 
     /**
-     * Constructs a {@code id}.
+     * Constructs a {@code RoomNumber}.
      *
      * @param value A valid room number.
      */
     public RoomNumber(String value) {
         requireNonNull(value);
         checkArgument(isValidRoomNumber(value), MESSAGE_ROOM_NUMBER_CONSTRAINTS);
+        this.value = Integer.parseInt(value);
+    }
+
+    /**
+     * Constructs a {@code RoomNumber} from its numeric form.
+     *
+     * @param value A number from 1 to the maximum room number, inclusive.
+     */
+    public RoomNumber(int value) {
+        this(value, maxRoomNumber);
+    }
+
+    private RoomNumber(int value, int largestValue) {
+        checkArgument(value >= 1 && value <= largestValue, MESSAGE_ROOM_NUMBER_CONSTRAINTS);
         this.value = value;
     }
 
+    /**
+     * Returns the room number {@code value} as stored in a data file, which may lie beyond the room inventory if
+     * the file was saved with more rooms.
+     *
+     * @param value A positive number.
+     */
+    public static RoomNumber fromStored(int value) {
+        return new RoomNumber(value, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the largest valid room number.
+     */
+    public static int getMaxRoomNumber() {
+        return maxRoomNumber;
+    }
+
+    /**
+     * Sets the largest valid room number, i.e. the number of rooms in the hotel.
+     */
+    public static void setMaxRoomNumber(int maxRoomNumber) {
+        checkArgument(maxRoomNumber > 0, "The hotel must have at least one room.");
+        RoomNumber.maxRoomNumber = maxRoomNumber;
+    }
+
     /**
      * Returns true if a given string is a valid room number.
+     * A valid room number consists only of digits, is zero-padded to exactly {@link #MIN_DIGITS} digits
+     * if it is shorter than that (and is not padded otherwise), and lies within the room inventory.
      */
     public static boolean isValidRoomNumber(String test) {
-        return test.matches(ROOM_NUMBER_VALIDATION_REGEX);
+        return isWithinInventory(parse(test));
+    }
+
+    /**
+     * Returns true if a given string is a valid room number as stored in a data file, i.e. it is valid as declared
+     * in {@link #isValidRoomNumber(String)} except that it may lie beyond the room inventory.
+     */
+    public static boolean isValidStoredRoomNumber(String test) {
+        return parse(test) >= 1;
+    }
+
+    /**
+     * Returns the number that {@code test} is the string form of, or -1 if it is not in the form of a room number.
+     */
+    private static int parse(String test) {
+        int length = test.length();
+        if (length < MIN_DIGITS || length > MAX_DIGITS) {
+            return -1;
+        }
+        if (length > MIN_DIGITS && test.charAt(0) == '0') {
+            return -1;
+        }
+
+        int number = 0;
+        for (int i = 0; i < length; i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+
+    private static boolean isWithinInventory(int number) {
+        return number >= 1 && number <= maxRoomNumber;
+    }
+
+    public int getValue() {
+        return value;
     }
 
     public Index getRoomNumberAsIndex() {
-        return Index.fromOneBased(Integer.parseInt(value));
+        return Index.fromOneBased(value);
     }
 
     @Override
     public String toString() {
-        return value;
+        String digits = Integer.toString(value);
+        if (digits.length() >= MIN_DIGITS) {
+            return digits;
+        }
+        StringBuilder builder = new StringBuilder(MIN_DIGITS);
+        for (int i = digits.length(); i < MIN_DIGITS; i++) {
+            builder.append('0');
+        }
+        return builder.append(digits).toString();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof RoomNumber // instanceof handles nulls
-                && value.equals(((RoomNumber) other).value)); // state check
+                && value == ((RoomNumber) other).value); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(value);
     }
 
 }
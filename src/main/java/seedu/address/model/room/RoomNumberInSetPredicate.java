@@ -0,0 +1,37 @@
+package seedu.address.model.room;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Room}'s {@code RoomNumber} is one of the given {@code RoomNumber}s.
+ */
+public class RoomNumberInSetPredicate implements Predicate<Room> {
+    private final Set<RoomNumber> roomNumbers;
+
+    public RoomNumberInSetPredicate(Collection<RoomNumber> roomNumbers) {
+        requireNonNull(roomNumbers);
+        this.roomNumbers = new HashSet<>(roomNumbers);
+    }
+
+    @Override
+    public boolean test(Room room) {
+        return roomNumbers.contains(room.getRoomNumber());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RoomNumberInSetPredicate // instanceof handles nulls
+                && roomNumbers.equals(((RoomNumberInSetPredicate) other).roomNumbers)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return roomNumbers.hashCode();
+    }
+}
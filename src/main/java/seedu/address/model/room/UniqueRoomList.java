@@ -3,13 +3,22 @@ package seedu.address.model.room;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.guest.Guest;
+import seedu.address.model.room.booking.Booking;
+import seedu.address.model.room.booking.BookingPeriod;
 import seedu.address.model.room.exceptions.DuplicateRoomException;
 import seedu.address.model.room.exceptions.RoomMissingException;
 import seedu.address.model.room.exceptions.RoomNotFoundException;
@@ -21,6 +30,13 @@ import seedu.address.model.room.exceptions.RoomNotFoundException;
  * unique in terms of identity in the UniqueRoomList. A room can be removed by passing either its reference or
  * room number to the remove() method.
  *
+ * Rooms are additionally indexed by their {@code RoomNumber}, mapping each room number to its slot in the
+ * internal list, so that look-ups and replacements do not need to scan (or deep-compare) the whole list.
+ * The nights booked in every room are also kept in a {@code RoomAvailabilityIndex}, which is updated whenever a
+ * room is replaced, so that the rooms free over a booking period can be found without visiting every room.
+ * Likewise, the number of checked-in bookings of every guest is counted as rooms are replaced, so that checking
+ * whether a guest is still staying in any room does not need to visit every booking.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Room#isSameRoom(Room)
@@ -28,33 +44,45 @@ import seedu.address.model.room.exceptions.RoomNotFoundException;
 public class UniqueRoomList implements Iterable<Room> {
 
     private final ObservableList<Room> internalList = FXCollections.observableArrayList();
+    private final Map<RoomNumber, Integer> roomNumberToIndex = new HashMap<>();
+    private final RoomAvailabilityIndex availabilityIndex = new RoomAvailabilityIndex();
+    private final Map<Guest, Integer> checkedInBookingCounts = new HashMap<>();
 
     /**
-     * Initializes a room list with default RoomNumber.MAX_ROOM_NUMBER
+     * Initializes a room list with every room in the inventory, i.e. from 001 up to
+     * {@code RoomNumber#getMaxRoomNumber()}.
      */
     public UniqueRoomList() {
-        this(RoomNumber.MAX_ROOM_NUMBER);
+        this(RoomNumber.getMaxRoomNumber());
     }
 
     /**
      * Initializes a room list with rooms ranging from 001 up to the given maxRoomNumber.
-     * Note: the maxRoomNumber here IS LIMITED BY Room.MAX_ROOM_NUMBER
-     * @param maxRoomNumber The maximum room number as a string
+     * Note: the maxRoomNumber here IS LIMITED BY RoomNumber#getMaxRoomNumber()
+     * @param maxRoomNumber The maximum room number
      */
-    private UniqueRoomList(String maxRoomNumber) {
-        this.internalList.setAll(Stream.iterate(1, i -> i <= Integer.parseInt(maxRoomNumber), i -> i + 1)
-            .map(i -> {
-                RoomNumber roomNumber = new RoomNumber(String.format("%03d", i));
-                if (i % 10 == 0) { // All rooms with room number that is multiple of 10 is a Suite Room.
-                    return new Room(roomNumber, Capacity.SUITE);
-                }
-                if (i % 2 == 0) { // All rooms with even room number is a Double Room.
-                    return new Room(roomNumber, Capacity.DOUBLE);
-                }
-                // ALl rooms with odd room number is a Single Room.
-                return new Room(roomNumber, Capacity.SINGLE);
-            })
-            .collect(Collectors.toList()));
+    private UniqueRoomList(int maxRoomNumber) {
+        List<Room> rooms = new ArrayList<>(maxRoomNumber);
+        for (int i = 1; i <= maxRoomNumber; i++) {
+            rooms.add(createEmptyRoom(new RoomNumber(i)));
+        }
+        this.internalList.setAll(rooms);
+        rebuildIndex();
+    }
+
+    /**
+     * Returns the room numbered {@code roomNumber} as it is before it is first used: with no bookings, expenses or
+     * tags, and the capacity that its room number gives it.
+     */
+    public static Room createEmptyRoom(RoomNumber roomNumber) {
+        int value = roomNumber.getValue();
+        if (value % 10 == 0) { // All rooms with room number that is multiple of 10 is a Suite Room.
+            return new Room(roomNumber, Capacity.SUITE);
+        } else if (value % 2 == 0) { // All rooms with even room number is a Double Room.
+            return new Room(roomNumber, Capacity.DOUBLE);
+        } else { // ALl rooms with odd room number is a Single Room.
+            return new Room(roomNumber, Capacity.SINGLE);
+        }
     }
     //=========== Getters =============================================================
 
@@ -63,33 +91,66 @@ public class UniqueRoomList implements Iterable<Room> {
      */
     public Room getRoom(RoomNumber roomNumber) {
         requireNonNull(roomNumber);
-        for (Room room : internalList) {
-            if (room.getRoomNumber().equals(roomNumber)) {
-                return room;
-            }
+        Integer index = roomNumberToIndex.get(roomNumber);
+        if (index == null) {
+            throw new RoomNotFoundException();
+        }
+        return internalList.get(index);
+    }
+
+    /**
+     * Returns the rooms that have no booking overlapping {@code bookingPeriod}, in room number order.
+     */
+    public List<Room> getAvailableRooms(BookingPeriod bookingPeriod) {
+        requireNonNull(bookingPeriod);
+        BitSet occupiedRooms = availabilityIndex.getOccupiedRooms(bookingPeriod);
+        List<Room> availableRooms = new ArrayList<>(internalList.size() - occupiedRooms.cardinality());
+        for (int i = occupiedRooms.nextClearBit(0); i < internalList.size(); i = occupiedRooms.nextClearBit(i + 1)) {
+            availableRooms.add(internalList.get(i));
         }
-        throw new RoomNotFoundException();
+        return availableRooms;
+    }
+
+    /**
+     * Returns true if {@code guest} has a checked-in booking in any room.
+     */
+    public boolean hasCheckedInBooking(Guest guest) {
+        requireNonNull(guest);
+        return checkedInBookingCounts.containsKey(guest);
     }
 
     //=========== Operations =============================================================
 
     /**
      * Replaces the room {@code target} in the list with {@code editedRoom}.
-     * {@code target} must exist in the list.
+     * A room with the same room number as {@code target} must exist in the list. Only room numbers are compared,
+     * so that replacing a room does not compare its bookings and expenses.
      * The room identity of {@code editedRoom} must not be the same as another existing room in the list.
+     * If the bookings of the room change, all of its old bookings are unindexed and all of its new ones indexed;
+     * use {@link #setRoom(Room, Room, Collection, Collection)} when the bookings that changed are known.
      */
     public void setRoom(Room target, Room editedRoom) {
-        requireAllNonNull(target, editedRoom);
-
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new RoomNotFoundException();
-        }
-        if (!target.isSameRoom(editedRoom) && contains(editedRoom)) {
-            throw new DuplicateRoomException();
+        Room replacedRoom = replaceRoom(target, editedRoom);
+        if (replacedRoom.getBookings() != editedRoom.getBookings()) {
+            updateIndices(roomNumberToIndex.get(editedRoom.getRoomNumber()),
+                    replacedRoom.getBookings().getSortedBookingsSet(),
+                    editedRoom.getBookings().getSortedBookingsSet());
         }
+    }
 
-        internalList.set(index, editedRoom);
+    /**
+     * Replaces the room {@code target} in the list with {@code editedRoom}, whose bookings are those of
+     * {@code target} without {@code removedBookings} and with {@code addedBookings}.
+     * Only the given bookings are unindexed and indexed, so that the cost of replacing a room does not grow with
+     * the number of bookings it has.
+     *
+     * @see #setRoom(Room, Room)
+     */
+    public void setRoom(Room target, Room editedRoom, Collection<Booking> removedBookings,
+            Collection<Booking> addedBookings) {
+        requireAllNonNull(removedBookings, addedBookings);
+        replaceRoom(target, editedRoom);
+        updateIndices(roomNumberToIndex.get(editedRoom.getRoomNumber()), removedBookings, addedBookings);
     }
 
     /**
@@ -101,10 +162,11 @@ public class UniqueRoomList implements Iterable<Room> {
         if (!roomsAreUnique(rooms)) {
             throw new DuplicateRoomException();
         }
-        if (rooms.size() != Integer.parseInt(RoomNumber.MAX_ROOM_NUMBER)) {
+        if (rooms.size() != RoomNumber.getMaxRoomNumber()) {
             throw new RoomMissingException();
         }
         internalList.setAll(rooms);
+        rebuildIndex();
     }
 
     //=========== Boolean checkers =============================================================
@@ -114,7 +176,7 @@ public class UniqueRoomList implements Iterable<Room> {
      */
     public boolean contains(Room toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameRoom);
+        return roomNumberToIndex.containsKey(toCheck.getRoomNumber());
     }
 
     /**
@@ -148,15 +210,74 @@ public class UniqueRoomList implements Iterable<Room> {
         return internalList.hashCode();
     }
 
+    /**
+     * Re-populates the room number, availability and checked-in booking indices from the current contents of the
+     * internal list.
+     */
+    private void rebuildIndex() {
+        roomNumberToIndex.clear();
+        availabilityIndex.clear();
+        checkedInBookingCounts.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            Room room = internalList.get(i);
+            roomNumberToIndex.put(room.getRoomNumber(), i);
+            updateIndices(i, Collections.emptyList(), room.getBookings().getSortedBookingsSet());
+        }
+    }
+
+    /**
+     * Replaces the room {@code target} in the list with {@code editedRoom}, keeping the room number index up to
+     * date, and returns the room that was replaced.
+     */
+    private Room replaceRoom(Room target, Room editedRoom) {
+        requireAllNonNull(target, editedRoom);
+
+        Integer index = roomNumberToIndex.get(target.getRoomNumber());
+        if (index == null) {
+            throw new RoomNotFoundException();
+        }
+        if (!target.isSameRoom(editedRoom) && contains(editedRoom)) {
+            throw new DuplicateRoomException();
+        }
+
+        Room replacedRoom = internalList.set(index, editedRoom);
+        if (!target.isSameRoom(editedRoom)) {
+            roomNumberToIndex.remove(target.getRoomNumber());
+            roomNumberToIndex.put(editedRoom.getRoomNumber(), index);
+        }
+        return replacedRoom;
+    }
+
+    /**
+     * Updates the availability and checked-in booking indices after {@code removedBookings} are removed from and
+     * {@code addedBookings} are added to the room at {@code roomIndex}. The removed bookings are all unindexed
+     * before the added ones are indexed, as they may share nights.
+     */
+    private void updateIndices(int roomIndex, Collection<Booking> removedBookings,
+            Collection<Booking> addedBookings) {
+        for (Booking booking : removedBookings) {
+            availabilityIndex.removeBooking(roomIndex, booking);
+            if (booking.getIsCheckedIn()) {
+                checkedInBookingCounts.computeIfPresent(booking.getGuest(), (guest, count) -> count > 1
+                        ? count - 1 : null);
+            }
+        }
+        for (Booking booking : addedBookings) {
+            availabilityIndex.addBooking(roomIndex, booking);
+            if (booking.getIsCheckedIn()) {
+                checkedInBookingCounts.merge(booking.getGuest(), 1, Integer::sum);
+            }
+        }
+    }
+
     /**
      * Returns true if {@code rooms} contains only unique rooms.
      */
     private boolean roomsAreUnique(List<Room> rooms) {
-        for (int i = 0; i < rooms.size() - 1; i++) {
-            for (int j = i + 1; j < rooms.size(); j++) {
-                if (rooms.get(i).isSameRoom(rooms.get(j))) {
-                    return false;
-                }
+        Set<RoomNumber> seenRoomNumbers = new HashSet<>();
+        for (Room room : rooms) {
+            if (!seenRoomNumbers.add(room.getRoomNumber())) {
+                return false;
             }
         }
         return true;
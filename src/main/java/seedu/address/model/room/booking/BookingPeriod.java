@@ -43,6 +43,20 @@ public class BookingPeriod implements Comparable<BookingPeriod> {
         this.endDate = parseDate(endDate);
     }
 
+    private BookingPeriod(LocalDate startDate, LocalDate endDate) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    /**
+     * Returns a {@code BookingPeriod} from start through end date (inclusive), which must be strictly before it.
+     */
+    public static BookingPeriod of(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        checkArgument(startDate.isBefore(endDate), MESSAGE_BOOKING_PERIOD_CONSTRAINTS);
+        return new BookingPeriod(startDate, endDate);
+    }
+
     public LocalDate getStartDate() {
         return startDate;
     }
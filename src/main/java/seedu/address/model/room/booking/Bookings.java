@@ -3,13 +3,12 @@ package seedu.address.model.room.booking;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
+import java.util.Iterator;
 import java.util.Optional;
-import java.util.Set;
 import java.util.SortedSet;
-import java.util.TreeSet;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.PersistentSortedSet;
 import seedu.address.model.room.booking.exceptions.BookingNotFoundException;
 import seedu.address.model.room.booking.exceptions.NoBookingException;
 import seedu.address.model.room.booking.exceptions.OverlappingBookingException;
@@ -22,7 +21,13 @@ import seedu.address.model.room.booking.exceptions.OverlappingBookingException;
  * Booking being added or updated does not overlap any existing ones in Bookings.
  * However, the removal of a Booking uses Booking#equals(Object) so
  * as to ensure that the Booking with exactly the same fields will be removed.
- * *
+ *
+ * Since no two Bookings in the set overlap, ordering them by start date also orders them by end date. A Booking
+ * can therefore only overlap the set if it overlaps its immediate neighbours, so overlap checks only look at the
+ * floor and ceiling of the Booking instead of scanning the whole set.
+ * The Bookings are held in a {@code PersistentSortedSet}, so each change shares all but O(log n) nodes with the
+ * original set instead of copying it.
+ *
  * Supports a minimal set of set operations.
  * Guarantees immutability
  *
@@ -30,13 +35,13 @@ import seedu.address.model.room.booking.exceptions.OverlappingBookingException;
  */
 public class Bookings {
 
-    private final SortedSet<Booking> sortedBookingsSet;
+    private final PersistentSortedSet<Booking> sortedBookingsSet;
 
     /**
      * Constructor for empty bookings set
      */
     public Bookings() {
-        this.sortedBookingsSet = new TreeSet<>();
+        this.sortedBookingsSet = PersistentSortedSet.empty();
     }
 
     /**
@@ -44,16 +49,24 @@ public class Bookings {
      */
     public Bookings(SortedSet<Booking> sortedBookingsSet) {
         requireAllNonNull(sortedBookingsSet);
-        if (bookingsAreOverlapping(sortedBookingsSet)) {
+        PersistentSortedSet<Booking> copy = PersistentSortedSet.copyOf(sortedBookingsSet);
+        if (bookingsAreOverlapping(copy)) {
             throw new OverlappingBookingException();
         }
+        this.sortedBookingsSet = copy;
+    }
+
+    /**
+     * Wraps a set of bookings that is already known to be non-overlapping, skipping validation.
+     */
+    private Bookings(PersistentSortedSet<Booking> sortedBookingsSet) {
         this.sortedBookingsSet = sortedBookingsSet;
     }
 
     //=========== Getters =============================================================
 
     public SortedSet<Booking> getSortedBookingsSet() {
-        return Collections.unmodifiableSortedSet(sortedBookingsSet);
+        return sortedBookingsSet;
     }
 
     /**
@@ -102,9 +115,7 @@ public class Bookings {
         if (!canAcceptBooking(toAdd)) {
             throw new OverlappingBookingException();
         }
-        SortedSet<Booking> editedBookings = new TreeSet<>(this.sortedBookingsSet);
-        editedBookings.add(toAdd);
-        return new Bookings(editedBookings);
+        return new Bookings(sortedBookingsSet.plus(toAdd));
     }
 
     /**
@@ -116,9 +127,7 @@ public class Bookings {
         if (!sortedBookingsSet.contains(toRemove)) {
             throw new BookingNotFoundException();
         }
-        SortedSet<Booking> editedBookings = new TreeSet<>(this.sortedBookingsSet);
-        editedBookings.remove(toRemove);
-        return new Bookings(editedBookings);
+        return new Bookings(sortedBookingsSet.minus(toRemove));
     }
 
     /**
@@ -136,10 +145,7 @@ public class Bookings {
             throw new OverlappingBookingException();
         }
 
-        SortedSet<Booking> editedBookings = new TreeSet<>(this.sortedBookingsSet);
-        editedBookings.remove(target);
-        editedBookings.add(editedBooking);
-        return new Bookings(editedBookings);
+        return new Bookings(sortedBookingsSet.minus(target).plus(editedBooking));
     }
 
     //=========== Boolean checkers =============================================================
@@ -152,31 +158,51 @@ public class Bookings {
     }
 
     /**
-     * Returns true if the given booking overlaps with any existing booking in the set
+     * Returns true if the given booking does not overlap any existing booking in the set
      */
     private boolean canAcceptBooking(Booking toCheck) {
         requireNonNull(toCheck);
-        return sortedBookingsSet.stream().noneMatch(toCheck::isOverlapping);
+        return canAcceptIfReplaceBooking(null, toCheck);
     }
 
     /**
-     * Returns true if the given booking overlaps with any existing booking in the set, excluding the one it replaces
+     * Returns true if the given booking does not overlap any existing booking in the set, excluding the one it
+     * replaces. {@code toReplace} may be null, in which case no booking is excluded.
      */
     private boolean canAcceptIfReplaceBooking(Booking toReplace, Booking toCheck) {
-        requireAllNonNull(toReplace, toCheck);
-        return sortedBookingsSet.stream().noneMatch(
-            booking -> !booking.equals(toReplace) && booking.isOverlapping(toCheck));
+        requireNonNull(toCheck);
+        Booking before = sortedBookingsSet.floor(toCheck);
+        if (before != null && before.equals(toReplace)) {
+            before = sortedBookingsSet.lower(before);
+        }
+        Booking after = sortedBookingsSet.ceiling(toCheck);
+        if (after != null && after.equals(toReplace)) {
+            after = sortedBookingsSet.higher(after);
+        }
+        return (before == null || !before.isOverlapping(toCheck))
+                && (after == null || !after.isOverlapping(toCheck));
     }
 
     /**
      * Returns true if {@code Bookings} contains at least one overlapping Booking.
+     * {@code bookings} must be in its natural ordering, so that only adjacent Bookings need to be compared.
      */
-    private static boolean bookingsAreOverlapping(Set<Booking> bookings) {
-        return bookings.stream().anyMatch(b1 ->
-            bookings.stream().anyMatch(b2 -> !b1.equals(b2) && b1.isOverlapping(b2)));
+    private static boolean bookingsAreOverlapping(SortedSet<Booking> bookings) {
+        Iterator<Booking> iterator = bookings.iterator();
+        if (!iterator.hasNext()) {
+            return false;
+        }
+        Booking previous = iterator.next();
+        while (iterator.hasNext()) {
+            Booking current = iterator.next();
+            if (previous.isOverlapping(current)) {
+                return true;
+            }
+            previous = current;
+        }
+        return false;
     }
 
-
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,231 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import seedu.address.commons.util.PersistentSortedSet;
+import seedu.address.model.Concierge;
+import seedu.address.model.expenses.Expense;
+import seedu.address.model.expenses.ExpenseType;
+import seedu.address.model.expenses.Expenses;
+import seedu.address.model.guest.Email;
+import seedu.address.model.guest.Guest;
+import seedu.address.model.guest.Name;
+import seedu.address.model.guest.Phone;
+import seedu.address.model.room.Room;
+import seedu.address.model.room.UniqueRoomList;
+import seedu.address.model.room.booking.Booking;
+import seedu.address.model.room.booking.BookingPeriod;
+import seedu.address.model.room.booking.Bookings;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates large, realistic hotels for load testing. The same seed and settings always generate the same data,
+ * relative to the start date.
+ *
+ * Every room in the inventory (as set by {@code RoomNumber#getMaxRoomNumber()}) is filled with back-to-back
+ * bookings of one to a week's nights, separated by gaps of up to two nights, up to the booking horizon.
+ * Some rooms have their first booking start on the start date and checked in, and are charged for items on the
+ * menu. Bookings are made by guests drawn from the archived guest list.
+ *
+ * Guests and rooms are handed to the caller one by one as they are generated, so that they can be added straight
+ * into the model or into the storage format without building an intermediate copy of the whole hotel.
+ */
+public class SyntheticDataGenerator {
+
+    public static final String MESSAGE_GENERATOR_CONSTRAINTS =
+            "Guest count, booking horizon and expenses per room should not be negative, "
+                    + "and the checked-in percentage should be from 0 to 100.";
+
+    public static final int DEFAULT_GUEST_COUNT = 10000;
+    public static final int DEFAULT_BOOKING_HORIZON_DAYS = 90;
+    public static final int DEFAULT_CHECKED_IN_PERCENT = 50;
+    public static final int DEFAULT_EXPENSES_PER_CHECKED_IN_ROOM = 10;
+
+    private static final int MAX_NIGHTS_PER_BOOKING = 7;
+    private static final int MAX_NIGHTS_BETWEEN_BOOKINGS = 2;
+    private static final int VIP_GUEST_INTERVAL = 20;
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Sarah", "Tan", "Wei Ming", "Priya",
+        "Kumar", "Nur", "Li Ting", "Hiroshi", "Maria", "Ahmad", "Chloe", "Jun Jie", "Siti", "Rajesh"
+    };
+    private static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Lim", "Tan", "Ng", "Wong",
+        "Chua", "Goh", "Lee", "Nakamura", "Santos", "Rahman", "Koh", "Teo", "Pillai", "Chen"
+    };
+
+    private final long seed;
+    private int guestCount = DEFAULT_GUEST_COUNT;
+    private int bookingHorizonDays = DEFAULT_BOOKING_HORIZON_DAYS;
+    private int checkedInPercent = DEFAULT_CHECKED_IN_PERCENT;
+    private int expensesPerCheckedInRoom = DEFAULT_EXPENSES_PER_CHECKED_IN_ROOM;
+    private LocalDate startDate = LocalDate.now();
+
+    public SyntheticDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the number of archived guests, who also make all of the bookings.
+     */
+    public SyntheticDataGenerator withGuestCount(int guestCount) {
+        checkArgument(guestCount >= 0, MESSAGE_GENERATOR_CONSTRAINTS);
+        this.guestCount = guestCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of days from the start date over which every room is booked.
+     */
+    public SyntheticDataGenerator withBookingHorizonDays(int bookingHorizonDays) {
+        checkArgument(bookingHorizonDays >= 0, MESSAGE_GENERATOR_CONSTRAINTS);
+        this.bookingHorizonDays = bookingHorizonDays;
+        return this;
+    }
+
+    /**
+     * Sets the percentage of rooms that are checked in on the start date.
+     */
+    public SyntheticDataGenerator withCheckedInPercent(int checkedInPercent) {
+        checkArgument(checkedInPercent >= 0 && checkedInPercent <= 100, MESSAGE_GENERATOR_CONSTRAINTS);
+        this.checkedInPercent = checkedInPercent;
+        return this;
+    }
+
+    /**
+     * Sets the number of menu items charged to every checked-in room.
+     */
+    public SyntheticDataGenerator withExpensesPerCheckedInRoom(int expensesPerCheckedInRoom) {
+        checkArgument(expensesPerCheckedInRoom >= 0, MESSAGE_GENERATOR_CONSTRAINTS);
+        this.expensesPerCheckedInRoom = expensesPerCheckedInRoom;
+        return this;
+    }
+
+    /**
+     * Sets the date from which rooms are booked. Defaults to today.
+     */
+    public SyntheticDataGenerator withStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+        return this;
+    }
+
+    /**
+     * Returns the menu that the generated rooms are charged from.
+     */
+    public List<ExpenseType> getMenu() {
+        return Arrays.asList(SampleDataUtil.getSampleExpenseTypes());
+    }
+
+    /**
+     * Returns the {@code index}-th archived guest. Different indices always give guests with different identities.
+     */
+    public static Guest getGuest(int index) {
+        String firstName = FIRST_NAMES[index % FIRST_NAMES.length];
+        String lastName = LAST_NAMES[(index / FIRST_NAMES.length) % LAST_NAMES.length];
+        Set<Tag> tags = index % VIP_GUEST_INTERVAL == 0
+                ? Collections.singleton(new Tag("VIP"))
+                : Collections.emptySet();
+        return new Guest(new Name(firstName + " " + lastName),
+                new Phone(String.valueOf(80000000L + index)),
+                new Email((firstName + lastName).replace(" ", "").toLowerCase() + index + "@example.com"),
+                tags);
+    }
+
+    /**
+     * Returns the booking period of {@code nights} nights starting on {@code startDate}.
+     */
+    public static BookingPeriod getBookingPeriod(LocalDate startDate, int nights) {
+        return new BookingPeriod(format(startDate), format(startDate.plusDays(nights)));
+    }
+
+    /**
+     * Generates the hotel, passing every archived guest to {@code guestConsumer} and then every room to
+     * {@code roomConsumer}, in room number order.
+     */
+    public void generate(Consumer<Guest> guestConsumer, Consumer<Room> roomConsumer) {
+        Random random = new Random(seed);
+        for (int i = 0; i < guestCount; i++) {
+            guestConsumer.accept(getGuest(i));
+        }
+
+        List<ExpenseType> menu = getMenu();
+        for (Room emptyRoom : new UniqueRoomList()) {
+            boolean isCheckedIn = guestCount > 0 && bookingHorizonDays > 0
+                    && random.nextInt(100) < checkedInPercent;
+            Bookings bookings = generateBookings(random, isCheckedIn);
+            Expenses expenses = isCheckedIn ? generateExpenses(random, menu) : new Expenses();
+            roomConsumer.accept(new Room(emptyRoom.getRoomNumber(), emptyRoom.getCapacity(), expenses, bookings,
+                    emptyRoom.getTags()));
+        }
+    }
+
+    /**
+     * Generates the hotel straight into a new {@code Concierge}, including its menu and checked-in guests.
+     */
+    public Concierge generateConcierge() {
+        Concierge concierge = new Concierge();
+        Map<String, ExpenseType> menu = new HashMap<>();
+        getMenu().forEach(item -> menu.put(item.getItemNumber(), item));
+        concierge.setMenu(menu);
+        List<Room> rooms = new ArrayList<>();
+        generate(concierge::addGuest, rooms::add);
+        concierge.setRooms(rooms);
+        for (Room room : rooms) {
+            for (Booking booking : room.getBookings().getSortedBookingsSet()) {
+                if (booking.getIsCheckedIn()) {
+                    concierge.addCheckedInGuestIfNotPresent(booking.getGuest());
+                }
+            }
+        }
+        return concierge;
+    }
+
+    /**
+     * Generates back-to-back bookings up to the booking horizon. If {@code isCheckedIn}, the first booking starts
+     * on the start date and is checked in.
+     */
+    private Bookings generateBookings(Random random, boolean isCheckedIn) {
+        if (guestCount == 0) {
+            return new Bookings();
+        }
+        List<Booking> bookings = new ArrayList<>();
+        int day = isCheckedIn ? 0 : random.nextInt(MAX_NIGHTS_BETWEEN_BOOKINGS + 1);
+        while (day < bookingHorizonDays) {
+            int nights = 1 + random.nextInt(MAX_NIGHTS_PER_BOOKING);
+            BookingPeriod period = getBookingPeriod(startDate.plusDays(day), nights);
+            Booking booking = new Booking(getGuest(random.nextInt(guestCount)), period);
+            bookings.add(bookings.isEmpty() && isCheckedIn ? booking.checkIn() : booking);
+            day += nights + random.nextInt(MAX_NIGHTS_BETWEEN_BOOKINGS + 1);
+        }
+        // The bookings are generated in order, so sorting and checking them for overlaps both take linear time
+        return new Bookings(PersistentSortedSet.copyOf(bookings));
+    }
+
+    /**
+     * Generates charges for randomly chosen items on the menu, made over the day before the start date.
+     */
+    private Expenses generateExpenses(Random random, List<ExpenseType> menu) {
+        List<Expense> expenses = new ArrayList<>(expensesPerCheckedInRoom);
+        for (int i = 0; i < expensesPerCheckedInRoom; i++) {
+            ExpenseType item = menu.get(random.nextInt(menu.size()));
+            expenses.add(new Expense(item, item.getItemCost(),
+                    startDate.minusDays(1).atStartOfDay().plusMinutes(random.nextInt(24 * 60))));
+        }
+        return new Expenses(expenses);
+    }
+
+    private static String format(LocalDate date) {
+        return date.format(BookingPeriod.DATE_TO_STRING_FORMAT);
+    }
+}
@@ -0,0 +1,626 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Concierge;
+import seedu.address.model.ReadOnlyConcierge;
+import seedu.address.model.expenses.Expense;
+import seedu.address.model.expenses.ExpenseType;
+import seedu.address.model.expenses.Expenses;
+import seedu.address.model.expenses.Money;
+import seedu.address.model.guest.Email;
+import seedu.address.model.guest.Guest;
+import seedu.address.model.guest.Name;
+import seedu.address.model.guest.Phone;
+import seedu.address.model.room.Capacity;
+import seedu.address.model.room.Room;
+import seedu.address.model.room.RoomNumber;
+import seedu.address.model.room.booking.Booking;
+import seedu.address.model.room.booking.BookingPeriod;
+import seedu.address.model.room.booking.Bookings;
+import seedu.address.model.room.booking.exceptions.OverlappingBookingException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access Concierge data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with a header of {@code CNCG} and the format version, followed by a table of every distinct
+ * string in the data, the distinct guests, the archived guest list, the menu and the rooms. Names, tags, menu items
+ * and guests appear many times across bookings and expenses, so each is written once and then referred to by its
+ * index. Dates are written as epoch days, and counts and indices as variable-length integers. From version 2, the
+ * rooms are preceded by a table of contents giving the length of each room's entry, so that each room is decoded
+ * from its own slice of the file without reading the ones before it, and large hotels' rooms are decoded in parallel
+ * (see {@link ConciergeBuilder#addRooms(List, ConciergeBuilder.RoomConverter)}).
+ *
+ * Large files are read through a memory-mapped {@link FileChannel}, and decoded straight from the mapped pages.
+ *
+ * Files that do not start with the header are read as xml, so the data file keeps working after its format changes.
+ * Saves are made and kept as in {@link XmlConciergeStorage}.
+ */
+public class BinaryConciergeStorage implements ConciergeStorage {
+
+    public static final int FORMAT_VERSION = 2;
+    public static final int MIN_FORMAT_VERSION = 1;
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data file version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Binary data file is corrupted.";
+
+    private static final byte[] HEADER = {'C', 'N', 'C', 'G'};
+    private static final long MIN_MAPPED_SIZE = 64 * 1024;
+    private static final boolean IS_WINDOWS = System.getProperty("os.name", "").startsWith("Windows");
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryConciergeStorage.class);
+
+    private Path filePath;
+
+    public BinaryConciergeStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if {@code file} starts with the binary format's header. Returns false if it does not, or if it
+     * cannot be read.
+     */
+    public static boolean isBinaryFile(Path file) {
+        requireNonNull(file);
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] header = new byte[HEADER.length];
+            int length = 0;
+            int read;
+            while (length < header.length && (read = in.read(header, length, header.length - length)) > 0) {
+                length += read;
+            }
+            return Arrays.equals(header, HEADER);
+        } catch (IOException ioe) {
+            return false;
+        }
+    }
+
+    @Override
+    public Path getConciergeFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyConcierge> readConcierge() throws DataConversionException, IOException {
+        return readConcierge(filePath);
+    }
+
+    /**
+     * Similar to {@link #readConcierge()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyConcierge> readConcierge(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        return DataFileGenerations.readWithRecovery(filePath, XmlConciergeStorage::readDataFile);
+    }
+
+    /**
+     * Returns the data in the binary file at {@code filePath}.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    static Concierge readBinaryFile(Path filePath) throws DataConversionException, IOException {
+        try {
+            return new Decoder(readFile(filePath)).readConcierge();
+        } catch (BufferUnderflowException bue) {
+            logger.info("Concierge file " + filePath + " ends early");
+            throw new DataConversionException(bue);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the contents of {@code filePath}. Large files are mapped into memory rather than copied, except on
+     * Windows, where a mapped file cannot be overwritten until the mapping is garbage collected.
+     */
+    private static ByteBuffer readFile(Path filePath) throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            if (size >= MIN_MAPPED_SIZE && !IS_WINDOWS) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the buffer is full or the file ends
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+    @Override
+    public void saveConcierge(ReadOnlyConcierge concierge) throws IOException {
+        saveConcierge(concierge, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveConcierge(ReadOnlyConcierge)}
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveConcierge(ReadOnlyConcierge concierge, Path filePath) throws IOException {
+        requireNonNull(concierge);
+        requireNonNull(filePath);
+
+        DataFileGenerations.save(filePath, this.filePath,
+                out -> new Encoder().write(concierge, new DataOutputStream(out)));
+    }
+
+    @Override
+    public void compactConcierge(ReadOnlyConcierge concierge) {
+        requireNonNull(concierge);
+        // every save is in full
+    }
+
+    /**
+     * Writes Concierge data in the binary format.
+     * Strings and guests are numbered as they are first met while the rest of the data is written to a buffer, and
+     * the tables are written ahead of that buffer.
+     */
+    private static class Encoder {
+        private final Map<String, Integer> stringIndices = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private final Map<Guest, Integer> guestIndices = new HashMap<>();
+        private final ByteArrayOutputStream guestBytes = new ByteArrayOutputStream();
+        private final DataOutputStream guestOut = new DataOutputStream(guestBytes);
+
+        void write(ReadOnlyConcierge concierge, DataOutputStream out) throws IOException {
+            ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+            DataOutputStream body = new DataOutputStream(bodyBytes);
+
+            writeVarInt(body, concierge.getGuestList().size());
+            for (Guest guest : concierge.getGuestList()) {
+                writeVarInt(body, guestIndex(guest));
+            }
+
+            writeVarInt(body, concierge.getMenuMap().size());
+            for (ExpenseType item : concierge.getMenuMap().values()) {
+                writeExpenseType(body, item);
+            }
+
+            ByteArrayOutputStream roomBytes = new ByteArrayOutputStream();
+            DataOutputStream roomOut = new DataOutputStream(roomBytes);
+            writeVarInt(body, concierge.getRoomList().size());
+            for (Room room : concierge.getRoomList()) {
+                int offset = roomBytes.size();
+                writeRoom(roomOut, room);
+                writeVarInt(body, roomBytes.size() - offset);
+            }
+            roomBytes.writeTo(body);
+
+            out.write(HEADER);
+            writeVarInt(out, FORMAT_VERSION);
+            writeVarInt(out, strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(UTF_8);
+                writeVarInt(out, bytes.length);
+                out.write(bytes);
+            }
+            writeVarInt(out, guestIndices.size());
+            guestBytes.writeTo(out);
+            bodyBytes.writeTo(out);
+        }
+
+        private void writeRoom(DataOutputStream out, Room room) throws IOException {
+            writeVarInt(out, room.getRoomNumber().getValue());
+            writeVarInt(out, room.getCapacity().ordinal());
+            writeTags(out, room.getTags());
+
+            SortedSet<Booking> bookings = room.getBookings().getSortedBookingsSet();
+            writeVarInt(out, bookings.size());
+            for (Booking booking : bookings) {
+                writeVarInt(out, guestIndex(booking.getGuest()));
+                writeSignedVarLong(out, booking.getBookingPeriod().getStartDate().toEpochDay());
+                writeSignedVarLong(out, booking.getBookingPeriod().getEndDate().toEpochDay());
+                out.writeBoolean(booking.getIsCheckedIn());
+            }
+
+            List<Expense> expenses = room.getExpenses().getExpensesList();
+            writeVarInt(out, expenses.size());
+            for (Expense expense : expenses) {
+                writeExpenseType(out, expense.getExpenseType());
+                writeVarInt(out, stringIndex(expense.getCost().toString()));
+                writeSignedVarLong(out, expense.getDateTime().toEpochSecond(ZoneOffset.UTC));
+                writeVarInt(out, expense.getDateTime().getNano());
+            }
+        }
+
+        private void writeExpenseType(DataOutputStream out, ExpenseType item) throws IOException {
+            writeVarInt(out, stringIndex(item.getItemNumber()));
+            writeVarInt(out, stringIndex(item.getItemName()));
+            writeVarInt(out, stringIndex(item.getItemCost().toString()));
+        }
+
+        private void writeTags(DataOutputStream out, Set<Tag> tags) throws IOException {
+            writeVarInt(out, tags.size());
+            for (Tag tag : tags) {
+                writeVarInt(out, stringIndex(tag.tagName));
+            }
+        }
+
+        /**
+         * Returns the index of {@code guest} in the guest table, adding it to the table if it is not yet there.
+         */
+        private int guestIndex(Guest guest) throws IOException {
+            Integer index = guestIndices.get(guest);
+            if (index == null) {
+                index = guestIndices.size();
+                guestIndices.put(guest, index);
+                writeVarInt(guestOut, stringIndex(guest.getName().fullName));
+                writeVarInt(guestOut, stringIndex(guest.getPhone().value));
+                writeVarInt(guestOut, stringIndex(guest.getEmail().value));
+                writeTags(guestOut, guest.getTags());
+            }
+            return index;
+        }
+
+        /**
+         * Returns the index of {@code string} in the string table, adding it to the table if it is not yet there.
+         */
+        private int stringIndex(String string) {
+            Integer index = stringIndices.get(string);
+            if (index == null) {
+                index = strings.size();
+                stringIndices.put(string, index);
+                strings.add(string);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Reads Concierge data in the binary format, validating it as it is read.
+     * Values made from the same string, such as tags and costs, are made once and shared. Rooms may be decoded on
+     * several threads at once, so those values are shared through atomic arrays. Everything else that rooms read is
+     * complete before the rooms are decoded.
+     */
+    private static class Decoder {
+        private final ByteBuffer in;
+        private String[] strings;
+        private AtomicReferenceArray<Tag> tags;
+        private AtomicReferenceArray<Money> amounts;
+        private Guest[] guests;
+
+        Decoder(ByteBuffer in) {
+            this.in = in;
+        }
+
+        Concierge readConcierge() throws IllegalValueException {
+            byte[] header = new byte[HEADER.length];
+            in.get(header);
+            if (!Arrays.equals(header, HEADER)) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            int version = readVarInt(in);
+            if (version < MIN_FORMAT_VERSION || version > FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            readStrings();
+            readGuests();
+            ConciergeBuilder builder = new ConciergeBuilder();
+            try {
+                int archivedCount = readVarInt(in);
+                for (int i = 0; i < archivedCount; i++) {
+                    builder.addGuest(guest(readVarInt(in)));
+                }
+
+                int menuCount = readVarInt(in);
+                Map<String, ExpenseType> menu = new HashMap<>();
+                for (int i = 0; i < menuCount; i++) {
+                    ExpenseType item = readExpenseType(in, menu);
+                    builder.addMenuItem(item);
+                    menu.put(item.getItemNumber(), item);
+                }
+
+                int roomCount = readVarInt(in);
+                if (version == 1) {
+                    // without a table of contents, each room only starts where the one before it ends
+                    for (int i = 0; i < roomCount; i++) {
+                        builder.addRoom(readRoom(in, menu));
+                    }
+                } else {
+                    builder.addRooms(readRoomEntries(roomCount), entry -> readRoomEntry(entry, menu));
+                }
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalValueException(iae.getMessage(), iae);
+            }
+            return builder.build();
+        }
+
+        /**
+         * Returns a buffer over each of the {@code roomCount} rooms' entries, using the table of contents.
+         */
+        private List<ByteBuffer> readRoomEntries(int roomCount) throws IllegalValueException {
+            List<ByteBuffer> entries = new ArrayList<>();
+            int[] lengths = new int[Math.min(roomCount, in.remaining())];
+            for (int i = 0; i < roomCount; i++) {
+                if (i >= lengths.length) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED);
+                }
+                lengths[i] = readVarInt(in);
+            }
+            int offset = in.position();
+            for (int length : lengths) {
+                if (length > in.limit() - offset) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED);
+                }
+                ByteBuffer entry = in.duplicate();
+                entry.limit(offset + length).position(offset);
+                entries.add(entry);
+                offset += length;
+            }
+            in.position(offset);
+            return entries;
+        }
+
+        private void readStrings() throws IllegalValueException {
+            int count = readVarInt(in);
+            List<String> table = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                int length = readVarInt(in);
+                if (length > in.remaining()) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED);
+                }
+                byte[] bytes = new byte[length];
+                in.get(bytes);
+                table.add(new String(bytes, UTF_8));
+            }
+            strings = table.toArray(new String[0]);
+            tags = new AtomicReferenceArray<>(strings.length);
+            amounts = new AtomicReferenceArray<>(strings.length);
+        }
+
+        private void readGuests() throws IllegalValueException {
+            int count = readVarInt(in);
+            List<Guest> table = new ArrayList<>();
+            try {
+                for (int i = 0; i < count; i++) {
+                    Name name = new Name(string(readVarInt(in)));
+                    Phone phone = new Phone(string(readVarInt(in)));
+                    Email email = new Email(string(readVarInt(in)));
+                    table.add(new Guest(name, phone, email, readTags(in)));
+                }
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalValueException(iae.getMessage(), iae);
+            }
+            guests = table.toArray(new Guest[0]);
+        }
+
+        /**
+         * Returns the room in {@code entry}, which must hold exactly one room. Safe to call on several threads at
+         * once, with a different entry on each.
+         */
+        private Room readRoomEntry(ByteBuffer entry, Map<String, ExpenseType> menu) throws IllegalValueException {
+            Room room;
+            try {
+                room = readRoom(entry, menu);
+            } catch (BufferUnderflowException bue) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED, bue);
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalValueException(iae.getMessage(), iae);
+            }
+            if (entry.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return room;
+        }
+
+        private Room readRoom(ByteBuffer in, Map<String, ExpenseType> menu) throws IllegalValueException {
+            RoomNumber roomNumber = RoomNumber.fromStored(readVarInt(in));
+            int capacityIndex = readVarInt(in);
+            if (capacityIndex >= Capacity.values().length) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            Capacity capacity = Capacity.values()[capacityIndex];
+            Set<Tag> roomTags = readTags(in);
+
+            int bookingCount = readVarInt(in);
+            SortedSet<Booking> bookingsSet = new TreeSet<>();
+            for (int i = 0; i < bookingCount; i++) {
+                Guest guest = guest(readVarInt(in));
+                LocalDate startDate = readDate(in);
+                LocalDate endDate = readDate(in);
+                boolean isCheckedIn = in.get() != 0;
+                if (!bookingsSet.add(new Booking(guest, BookingPeriod.of(startDate, endDate), isCheckedIn))) {
+                    throw new IllegalValueException(XmlAdaptedRoom.MESSAGE_OVERLAPPING_BOOKING);
+                }
+            }
+            Bookings bookings;
+            try {
+                bookings = new Bookings(bookingsSet);
+            } catch (OverlappingBookingException obe) {
+                throw new IllegalValueException(XmlAdaptedRoom.MESSAGE_OVERLAPPING_BOOKING);
+            }
+
+            int expenseCount = readVarInt(in);
+            if (expenseCount > 0 && bookingsSet.isEmpty()) {
+                throw new IllegalValueException(XmlAdaptedRoom.MESSAGE_NO_BOOKING_TO_ADD_EXPENSES);
+            }
+            if (expenseCount > 0 && !bookingsSet.first().getIsCheckedIn()) {
+                throw new IllegalValueException(XmlAdaptedRoom.MESSAGE_NOT_CHECKED_IN_TO_ADD_EXPENSES);
+            }
+            List<Expense> expenseList = new ArrayList<>();
+            for (int i = 0; i < expenseCount; i++) {
+                ExpenseType type = readExpenseType(in, menu);
+                Money cost = amount(readVarInt(in));
+                expenseList.add(new Expense(type, cost, readDateTime(in)));
+            }
+            Expenses expenses = expenseList.isEmpty() ? new Expenses() : new Expenses(expenseList);
+            return new Room(roomNumber, capacity, expenses, bookings, roomTags);
+        }
+
+        /**
+         * Reads a date stored as its epoch day.
+         * @throws IllegalValueException if the day is outside the range of {@code LocalDate}.
+         */
+        private static LocalDate readDate(ByteBuffer in) throws IllegalValueException {
+            try {
+                return LocalDate.ofEpochDay(readSignedVarLong(in));
+            } catch (DateTimeException dte) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED, dte);
+            }
+        }
+
+        /**
+         * Reads a date and time stored as its epoch second followed by its nanosecond.
+         * @throws IllegalValueException if either is out of range.
+         */
+        private static LocalDateTime readDateTime(ByteBuffer in) throws IllegalValueException {
+            long epochSecond = readSignedVarLong(in);
+            int nano = readVarInt(in);
+            try {
+                return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+            } catch (DateTimeException dte) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED, dte);
+            }
+        }
+
+        /**
+         * Reads a menu item, returning the item already in {@code menu} if it is the same.
+         */
+        private ExpenseType readExpenseType(ByteBuffer in, Map<String, ExpenseType> menu)
+                throws IllegalValueException {
+            String itemNumber = string(readVarInt(in));
+            String itemName = string(readVarInt(in));
+            Money itemCost = amount(readVarInt(in));
+            ExpenseType item = new ExpenseType(itemNumber, itemName, itemCost);
+            ExpenseType menuItem = menu.get(itemNumber);
+            return item.equals(menuItem) ? menuItem : item;
+        }
+
+        private Set<Tag> readTags(ByteBuffer in) throws IllegalValueException {
+            int count = readVarInt(in);
+            Set<Tag> tagSet = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                int index = readVarInt(in);
+                String string = string(index);
+                Tag tag = tags.get(index);
+                if (tag == null) {
+                    // another thread may make the same tag at the same time, which is harmless
+                    tag = new Tag(string);
+                    tags.set(index, tag);
+                }
+                tagSet.add(tag);
+            }
+            return tagSet;
+        }
+
+        private Money amount(int index) throws IllegalValueException {
+            String string = string(index);
+            Money amount = amounts.get(index);
+            if (amount == null) {
+                if (!Money.isValidMoneyFormat(string)) {
+                    throw new IllegalValueException(XmlAdaptedExpense.MESSAGE_INVALID_COST);
+                }
+                amount = new Money(string);
+                amounts.set(index, amount);
+            }
+            return amount;
+        }
+
+        private String string(int index) throws IllegalValueException {
+            if (index >= strings.length) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return strings[index];
+        }
+
+        private Guest guest(int index) throws IllegalValueException {
+            if (index >= guests.length) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return guests[index];
+        }
+    }
+
+    /**
+     * Writes the non-negative {@code value} in 7-bit groups, least significant first, with the top bit of each byte
+     * set if more bytes follow.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, value);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.writeByte((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.writeByte((int) remaining);
+    }
+
+    /**
+     * Writes {@code value} zigzag-encoded, so that small negative values are also short.
+     */
+    private static void writeSignedVarLong(DataOutputStream out, long value) throws IOException {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Reads a value written by {@link #writeVarInt}.
+     * @throws IllegalValueException if the value is negative or does not fit in an int.
+     */
+    private static int readVarInt(ByteBuffer in) throws IllegalValueException {
+        long value = readVarLong(in);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return (int) value;
+    }
+
+    private static long readVarLong(ByteBuffer in) throws IllegalValueException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.get() & 0xFF;
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_CORRUPTED);
+    }
+
+    private static long readSignedVarLong(ByteBuffer in) throws IllegalValueException {
+        long value = readVarLong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,204 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.XmlSerializableConcierge.MESSAGE_DUPLICATE_GUEST;
+import static seedu.address.storage.XmlSerializableConcierge.MESSAGE_DUPLICATE_ITEM;
+import static seedu.address.storage.XmlSerializableConcierge.MESSAGE_DUPLICATE_ROOM;
+import static seedu.address.storage.XmlSerializableConcierge.MESSAGE_ROOM_MISSING;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Concierge;
+import seedu.address.model.Menu;
+import seedu.address.model.expenses.ExpenseType;
+import seedu.address.model.guest.Guest;
+import seedu.address.model.room.Room;
+import seedu.address.model.room.RoomNumber;
+import seedu.address.model.room.UniqueRoomList;
+import seedu.address.model.room.booking.Booking;
+
+/**
+ * Builds a {@code Concierge} from data read from a file, one part at a time, checking the constraints that span
+ * more than one part as each part is added.
+ */
+class ConciergeBuilder {
+
+    /** Lists with fewer rooms than this are converted on the calling thread, as they convert faster than they split */
+    static final int MIN_PARALLEL_ROOMS = 64;
+
+    private static final Logger logger = LogsCenter.getLogger(ConciergeBuilder.class);
+
+    private final Concierge concierge = new Concierge();
+    private final Map<String, ExpenseType> menuItems = new HashMap<>();
+    private final List<Room> rooms = new ArrayList<>();
+
+    /**
+     * Adds {@code guest} to the archived guest list.
+     * @throws IllegalValueException if the guest is already in the archived guest list.
+     */
+    void addGuest(Guest guest) throws IllegalValueException {
+        if (concierge.hasGuest(guest)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_GUEST);
+        }
+        concierge.addGuest(guest);
+    }
+
+    /**
+     * Adds {@code item} to the menu.
+     * @throws IllegalValueException if the menu already has an item with the same number.
+     */
+    void addMenuItem(ExpenseType item) throws IllegalValueException {
+        if (menuItems.putIfAbsent(item.getItemNumber(), item) != null) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ITEM);
+        }
+    }
+
+    /**
+     * Returns the menu with the items added so far, for converting the rooms' expenses.
+     */
+    Menu getMenu() {
+        Menu menu = new Menu();
+        menu.setMenu(menuItems);
+        return menu;
+    }
+
+    /**
+     * Adds {@code room}, checking in the guests of its checked-in bookings.
+     */
+    void addRoom(Room room) {
+        rooms.add(room);
+        for (Booking booking : room.getBookings().getSortedBookingsSet()) {
+            if (booking.getIsCheckedIn()) {
+                concierge.addCheckedInGuestIfNotPresent(booking.getGuest());
+            }
+        }
+    }
+
+    /**
+     * Converts {@code rooms} against {@code menu} and adds them, in their order in the list, as {@link #addRoom}
+     * does. Each conversion only reads {@code menu}, so large lists of rooms are converted in parallel.
+     * @throws IllegalValueException if a room cannot be converted. The exception is that of the first such room.
+     * @see #addRooms(List, RoomConverter)
+     */
+    void addRooms(List<XmlAdaptedRoom> rooms, Menu menu) throws IllegalValueException {
+        addRooms(rooms, room -> room.toModelType(menu));
+    }
+
+    /**
+     * Converts each of {@code entries} into a room with {@code converter} and adds them, in their order in the list,
+     * as {@link #addRoom} does. {@code converter} must be safe to call from several threads at once, as large lists
+     * are converted in parallel. The converted rooms are then added on the calling thread, so the result does not
+     * depend on how the work was split.
+     * @throws IllegalValueException if an entry cannot be converted. The exception is that of the first such entry.
+     */
+    <T> void addRooms(List<T> entries, RoomConverter<T> converter) throws IllegalValueException {
+        Stream<T> stream = entries.size() < MIN_PARALLEL_ROOMS ? entries.stream() : entries.parallelStream();
+        List<ConvertedRoom> convertedRooms = stream.map(entry -> ConvertedRoom.convert(entry, converter))
+                .collect(Collectors.toList());
+        for (ConvertedRoom convertedRoom : convertedRooms) {
+            addRoom(convertedRoom.getRoom());
+        }
+    }
+
+    /**
+     * Returns the {@code Concierge} with everything added so far, with its rooms fitted to the room inventory as
+     * {@link #fitToRoomInventory} does.
+     * @throws IllegalValueException if two rooms have the same number, or rooms in the room inventory are missing.
+     */
+    Concierge build() throws IllegalValueException {
+        concierge.setMenu(menuItems);
+        concierge.setRooms(fitToRoomInventory(rooms));
+        return concierge;
+    }
+
+    /**
+     * Returns {@code rooms}, read from a data file that may have been saved with a different number of rooms, fitted
+     * to the room inventory in room number order. Rooms missing from the end of the inventory are added empty, and
+     * rooms beyond it that are still empty are left out. The inventory is never shrunk below a room that is in use,
+     * so a smaller room count in the config file cannot drop bookings or expenses; rooms beyond the configured
+     * inventory that are not in {@code rooms} are then added empty.
+     * @throws IllegalValueException if two rooms have the same number, or rooms within the configured inventory are
+     * missing from before the last room read.
+     */
+    static List<Room> fitToRoomInventory(List<Room> rooms) throws IllegalValueException {
+        Map<Integer, Room> roomsByNumber = new HashMap<>();
+        int highestNumber = 0;
+        int highestNumberInUse = 0;
+        for (Room room : rooms) {
+            int number = room.getRoomNumber().getValue();
+            if (roomsByNumber.put(number, room) != null) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_ROOM);
+            }
+            highestNumber = Math.max(highestNumber, number);
+            if (number > RoomNumber.getMaxRoomNumber()
+                    && !room.equals(UniqueRoomList.createEmptyRoom(room.getRoomNumber()))) {
+                highestNumberInUse = Math.max(highestNumberInUse, number);
+            }
+        }
+
+        int configuredRoomCount = RoomNumber.getMaxRoomNumber();
+        if (highestNumberInUse > 0) {
+            logger.warning("Room " + RoomNumber.fromStored(highestNumberInUse) + " is in use, so the hotel keeps "
+                    + highestNumberInUse + " rooms instead of the " + RoomNumber.getMaxRoomNumber()
+                    + " in the config file");
+            RoomNumber.setMaxRoomNumber(highestNumberInUse);
+        }
+        int roomCount = RoomNumber.getMaxRoomNumber();
+        if (highestNumber != roomCount) {
+            logger.info("Data file has " + highestNumber + " rooms, fitting it to " + roomCount + " rooms");
+        }
+
+        List<Room> fitted = new ArrayList<>(roomCount);
+        for (int number = 1; number <= roomCount; number++) {
+            Room room = roomsByNumber.get(number);
+            if (room == null && number <= Math.min(highestNumber, configuredRoomCount)) {
+                throw new IllegalValueException(MESSAGE_ROOM_MISSING);
+            }
+            fitted.add(room != null ? room : UniqueRoomList.createEmptyRoom(new RoomNumber(number)));
+        }
+        return fitted;
+    }
+
+    /**
+     * A room converted on another thread, or the exception that converting it threw.
+     */
+    private static class ConvertedRoom {
+        private final Room room;
+        private final IllegalValueException exception;
+
+        private ConvertedRoom(Room room, IllegalValueException exception) {
+            this.room = room;
+            this.exception = exception;
+        }
+
+        static <T> ConvertedRoom convert(T entry, RoomConverter<T> converter) {
+            try {
+                return new ConvertedRoom(converter.convert(entry), null);
+            } catch (IllegalValueException ive) {
+                return new ConvertedRoom(null, ive);
+            }
+        }
+
+        Room getRoom() throws IllegalValueException {
+            if (exception != null) {
+                throw exception;
+            }
+            return room;
+        }
+    }
+
+    /**
+     * Converts an entry read from a file into a room.
+     */
+    @FunctionalInterface
+    interface RoomConverter<T> {
+        Room convert(T entry) throws IllegalValueException;
+    }
+}
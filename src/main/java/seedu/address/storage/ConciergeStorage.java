@@ -42,4 +42,12 @@ public interface ConciergeStorage {
      */
     void saveConcierge(ReadOnlyConcierge concierge, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyConcierge} in full, if the storage holds changes saved since it was last saved
+     * in full. Does nothing for storages that always save in full.
+     * @param concierge cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void compactConcierge(ReadOnlyConcierge concierge) throws IOException;
+
 }
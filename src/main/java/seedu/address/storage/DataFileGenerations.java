@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyConcierge;
+
+/**
+ * Saves data files so that a crash while saving never loses the data, and recovers data files that cannot be read.
+ *
+ * Each save replaces the data file in one step (see {@link FileUtil#writeAtomically}), and the data file it replaces
+ * is kept as a generation, next to it, in one of {@link #GENERATION_COUNT} slots. The slot of the oldest generation
+ * is reused, so keeping a generation costs one rename per save. Renaming keeps a file's last modified time, which
+ * orders the generations.
+ *
+ * If the data file is missing or cannot be read, but generations exist, the newest generation that can be read is
+ * used instead.
+ */
+class DataFileGenerations {
+
+    static final int GENERATION_COUNT = 3;
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileGenerations.class);
+
+    private static final String GENERATION_FILE_EXTENSION = ".bak";
+
+    /**
+     * Replaces {@code file} with the content that {@code writer} writes. If {@code file} is {@code dataFile}, the
+     * file it replaces is kept as its newest generation. Other files, such as exports, are replaced without keeping
+     * generations, as they are never recovered from.
+     */
+    static <E extends Exception> void save(Path file, Path dataFile, FileUtil.ContentWriter<E> writer)
+            throws IOException, E {
+        Path previousFile = file.equals(dataFile) ? getNextGenerationPath(file) : null;
+        FileUtil.writeAtomically(file, previousFile, writer);
+    }
+
+    /**
+     * Returns the data in {@code file}, read with {@code reader}. If {@code file} is missing or cannot be read, the
+     * data in its newest generation that can be read is returned instead.
+     * @throws DataConversionException if {@code file} cannot be read, and neither can any of its generations.
+     */
+    static Optional<ReadOnlyConcierge> readWithRecovery(Path file, DataFileReader reader)
+            throws DataConversionException, IOException {
+        DataConversionException failure = null;
+        try {
+            Optional<ReadOnlyConcierge> data = reader.read(file);
+            if (data.isPresent()) {
+                return data;
+            }
+        } catch (DataConversionException e) {
+            failure = e;
+        }
+
+        for (Path generation : getGenerationPaths(file)) {
+            try {
+                Optional<ReadOnlyConcierge> data = reader.read(generation);
+                if (data.isPresent()) {
+                    logger.warning("Data file " + file + " could not be read. Recovered the data saved in "
+                            + generation + " instead.");
+                    return data;
+                }
+            } catch (DataConversionException e) {
+                logger.warning("Generation " + generation + " could not be read either: " + e.getMessage());
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the path of generation {@code slot} of {@code file}, counting from 1.
+     */
+    static Path getGenerationPath(Path file, int slot) {
+        return file.resolveSibling(file.getFileName() + GENERATION_FILE_EXTENSION + slot);
+    }
+
+    /**
+     * Returns the generations of {@code file} that exist, newest first.
+     */
+    static List<Path> getGenerationPaths(Path file) throws IOException {
+        Map<Path, FileTime> generations = new HashMap<>();
+        for (int slot = 1; slot <= GENERATION_COUNT; slot++) {
+            Path generation = getGenerationPath(file, slot);
+            if (Files.exists(generation)) {
+                generations.put(generation, Files.getLastModifiedTime(generation));
+            }
+        }
+        List<Path> newestFirst = new ArrayList<>(generations.keySet());
+        newestFirst.sort(Comparator.comparing(generations::get, Comparator.reverseOrder()));
+        return newestFirst;
+    }
+
+    /**
+     * Returns the slot that the next generation of {@code file} should be kept in: an empty slot, or else the slot of
+     * the oldest generation.
+     */
+    private static Path getNextGenerationPath(Path file) throws IOException {
+        for (int slot = 1; slot <= GENERATION_COUNT; slot++) {
+            Path generation = getGenerationPath(file, slot);
+            if (!Files.exists(generation)) {
+                return generation;
+            }
+        }
+        List<Path> generations = getGenerationPaths(file);
+        return generations.get(generations.size() - 1);
+    }
+
+    /**
+     * Reads the data in a data file.
+     */
+    @FunctionalInterface
+    interface DataFileReader {
+        Optional<ReadOnlyConcierge> read(Path file) throws DataConversionException, IOException;
+    }
+}
@@ -0,0 +1,352 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.Concierge;
+import seedu.address.model.ReadOnlyConcierge;
+import seedu.address.model.expenses.ExpenseType;
+import seedu.address.model.guest.Guest;
+import seedu.address.model.guest.exceptions.DuplicateGuestException;
+import seedu.address.model.room.Room;
+import seedu.address.model.room.RoomNumber;
+import seedu.address.model.room.booking.Booking;
+
+/**
+ * A {@code ConciergeStorage} that saves each change as an entry appended to a journal next to the data file,
+ * instead of rewriting the whole data file. The data file itself is only rewritten, as a snapshot, once the journal
+ * holds {@code maxEntries} entries, or when the storage is compacted (e.g. on exit). Reading replays the journal
+ * over the snapshot.
+ *
+ * Changes are found by comparing the saved {@code Concierge} against the one last written, by reference, since
+ * guests and rooms are immutable. Only the guests and menu that changed, and the bookings and expenses added to or
+ * removed from each room, are written, so the cost of a save grows with the size of the change rather than with the
+ * size of Concierge. Each entry is forced to the disk before the save returns.
+ *
+ * The first line of the journal identifies the snapshot it was started from. A journal that does not match its
+ * data file, e.g. because the program stopped between writing a snapshot and starting a new journal, is ignored.
+ * The checked-in guest list is not journalled, since it is rebuilt from the checked-in bookings on reading.
+ */
+public class JournalConciergeStorage implements ConciergeStorage {
+
+    public static final String MESSAGE_INVALID_MAX_ENTRIES = "The journal must be able to hold at least one entry.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalConciergeStorage.class);
+
+    private static final String JOURNAL_FILE_EXTENSION = ".journal";
+    private static final String HEADER_FORMAT = "snapshot %d %08x";
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+
+    private final ConciergeStorage snapshotStorage;
+    private final int maxEntries;
+
+    /* The data that the data file and its journal hold, or null if it is not known */
+    private List<Guest> savedGuests;
+    private List<Room> savedRooms;
+    private Map<String, ExpenseType> savedMenu;
+    /** The number of entries in the journal, or {@code maxEntries} if the journal cannot be appended to. */
+    private int entryCount;
+
+    /**
+     * Creates a {@code JournalConciergeStorage} that writes its snapshots with {@code snapshotStorage}, and writes a
+     * new snapshot once the journal holds {@code maxEntries} entries.
+     */
+    public JournalConciergeStorage(ConciergeStorage snapshotStorage, int maxEntries) {
+        requireNonNull(snapshotStorage);
+        checkArgument(maxEntries > 0, MESSAGE_INVALID_MAX_ENTRIES);
+        this.snapshotStorage = snapshotStorage;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the path of the journal of the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getConciergeFilePath() {
+        return snapshotStorage.getConciergeFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyConcierge> readConcierge() throws DataConversionException, IOException {
+        return readConcierge(getConciergeFilePath());
+    }
+
+    /**
+     * Similar to {@link #readConcierge()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the data file or its journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyConcierge> readConcierge(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyConcierge> snapshot = snapshotStorage.readConcierge(filePath);
+        if (!snapshot.isPresent()) {
+            return snapshot;
+        }
+
+        List<Guest> guests = new ArrayList<>(snapshot.get().getGuestList());
+        Map<RoomNumber, Room> rooms = new LinkedHashMap<>();
+        for (Room room : snapshot.get().getRoomList()) {
+            rooms.put(room.getRoomNumber(), room);
+        }
+        Map<String, ExpenseType> menu = new HashMap<>(snapshot.get().getMenuMap());
+        Optional<Integer> replayedEntryCount = replayJournal(filePath, guests, rooms, menu);
+        Concierge concierge = toConcierge(guests, new ArrayList<>(rooms.values()), menu);
+
+        // Later reads are of data that this storage wrote itself, so what was saved is already known
+        if (filePath.equals(getConciergeFilePath()) && savedRooms == null) {
+            setSavedData(concierge);
+            entryCount = replayedEntryCount.orElse(maxEntries);
+        }
+        return Optional.of(concierge);
+    }
+
+    /**
+     * Applies the entries in the journal of the data file at {@code filePath} to the given data, which is modified in
+     * place. {@code rooms} maps each room number to its room. Returns the number of entries applied, or
+     * {@code Optional.empty()} if no more entries can be appended to the journal, because there is no journal that
+     * belongs to the data file or it ends in an unreadable entry.
+     */
+    private Optional<Integer> replayJournal(Path filePath, List<Guest> guests, Map<RoomNumber, Room> rooms,
+            Map<String, ExpenseType> menu) throws DataConversionException, IOException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            logger.info("Journal file " + journalFilePath + " not found");
+            return Optional.empty();
+        }
+        if (!Files.exists(filePath)) {
+            // The data was recovered from an earlier generation of the data file, which the journal does not follow
+            logger.warning("Data file " + filePath + " not found. Ignoring the journal.");
+            return Optional.empty();
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, UTF_8)) {
+            String header = reader.readLine();
+            if (!getHeader(filePath).equals(header)) {
+                logger.warning("Journal file " + journalFilePath + " does not belong to " + filePath
+                        + ". Ignoring the journal.");
+                return Optional.empty();
+            }
+
+            int replayedEntryCount = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                JournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(line, JournalEntry.class);
+                } catch (IOException e) {
+                    // Entries after an unreadable one cannot be applied, as they build on it
+                    logger.warning("Unreadable entry in journal file " + journalFilePath + ": " + e.getMessage()
+                            + ". Ignoring the rest of the journal.");
+                    return Optional.empty();
+                }
+                entry.applyTo(guests, rooms, menu);
+                replayedEntryCount++;
+            }
+            logger.fine("Replayed " + replayedEntryCount + " entries from journal file " + journalFilePath);
+            return Optional.of(replayedEntryCount);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns a {@code Concierge} with the given data. The checked-in guest list is rebuilt from the checked-in
+     * bookings, as when reading the data file.
+     */
+    private static Concierge toConcierge(List<Guest> guests, List<Room> rooms, Map<String, ExpenseType> menu)
+            throws DataConversionException {
+        Concierge concierge = new Concierge();
+        concierge.setMenu(menu);
+        try {
+            concierge.setGuests(guests);
+            concierge.setRooms(ConciergeBuilder.fitToRoomInventory(rooms));
+        } catch (DuplicateGuestException e) {
+            throw new DataConversionException(
+                    new IllegalValueException(XmlSerializableConcierge.MESSAGE_DUPLICATE_GUEST, e));
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+        for (Room room : rooms) {
+            for (Booking booking : room.getBookings().getSortedBookingsSet()) {
+                if (booking.getIsCheckedIn()) {
+                    concierge.addCheckedInGuestIfNotPresent(booking.getGuest());
+                }
+            }
+        }
+        return concierge;
+    }
+
+    @Override
+    public void saveConcierge(ReadOnlyConcierge concierge) throws IOException {
+        saveConcierge(concierge, getConciergeFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveConcierge(ReadOnlyConcierge)}. Data files other than this storage's own are saved in
+     * full, without a journal.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveConcierge(ReadOnlyConcierge concierge, Path filePath) throws IOException {
+        requireNonNull(concierge);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getConciergeFilePath())) {
+            snapshotStorage.saveConcierge(concierge, filePath);
+            return;
+        }
+        if (savedRooms == null || entryCount >= maxEntries
+                || savedRooms.size() != concierge.getRoomList().size()) {
+            saveSnapshot(concierge);
+            return;
+        }
+
+        JournalEntry entry = new JournalEntry();
+        addChangedGuests(entry, concierge.getGuestList());
+        addChangedRooms(entry, concierge.getRoomList());
+        if (!savedMenu.equals(concierge.getMenuMap())) {
+            entry.setMenu(concierge.getMenuMap().values());
+        }
+        if (entry.isEmpty()) {
+            return;
+        }
+
+        try {
+            appendToJournal(getJournalFilePath(filePath), JsonUtil.toCompactJsonString(entry) + "\n");
+        } catch (NoSuchFileException e) {
+            logger.warning("Journal file " + e.getFile() + " was removed. Saving a snapshot instead.");
+            saveSnapshot(concierge);
+            return;
+        } catch (IOException e) {
+            // The saved data was already updated with the unwritten changes, so the next save must be in full
+            savedRooms = null;
+            throw e;
+        }
+        entryCount++;
+        savedMenu = new HashMap<>(concierge.getMenuMap());
+    }
+
+    @Override
+    public void compactConcierge(ReadOnlyConcierge concierge) throws IOException {
+        requireNonNull(concierge);
+        if (savedRooms != null && entryCount > 0) {
+            saveSnapshot(concierge);
+        }
+    }
+
+    /**
+     * Appends {@code line} to the existing journal at {@code journalFilePath}, and forces it to the disk so that the
+     * change is not lost if the computer stops.
+     */
+    private static void appendToJournal(Path journalFilePath, String line) throws IOException {
+        ByteBuffer content = ByteBuffer.wrap(line.getBytes(UTF_8));
+        try (FileChannel journal = FileChannel.open(journalFilePath, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (content.hasRemaining()) {
+                journal.write(content);
+            }
+            journal.force(false);
+        }
+    }
+
+    /**
+     * Writes {@code concierge} to the data file in full, and starts a new, empty journal.
+     */
+    private void saveSnapshot(ReadOnlyConcierge concierge) throws IOException {
+        Path filePath = getConciergeFilePath();
+        snapshotStorage.saveConcierge(concierge, filePath);
+        FileUtil.writeToFile(getJournalFilePath(filePath), getHeader(filePath) + "\n");
+        setSavedData(concierge);
+        entryCount = 0;
+        logger.fine("Saved a snapshot to " + filePath);
+    }
+
+    private void setSavedData(ReadOnlyConcierge concierge) {
+        savedGuests = new ArrayList<>(concierge.getGuestList());
+        savedRooms = new ArrayList<>(concierge.getRoomList());
+        savedMenu = new HashMap<>(concierge.getMenuMap());
+    }
+
+    /**
+     * Records in {@code entry} the smallest run of archived guests that differs between the saved guests and
+     * {@code guests}, and updates the saved guests to match.
+     */
+    private void addChangedGuests(JournalEntry entry, List<Guest> guests) {
+        int sharedLength = Math.min(savedGuests.size(), guests.size());
+        int start = 0;
+        while (start < sharedLength && savedGuests.get(start) == guests.get(start)) {
+            start++;
+        }
+        if (start == savedGuests.size() && start == guests.size()) {
+            return;
+        }
+        int end = 0;
+        while (end < sharedLength - start
+                && savedGuests.get(savedGuests.size() - 1 - end) == guests.get(guests.size() - 1 - end)) {
+            end++;
+        }
+
+        List<Guest> addedGuests = guests.subList(start, guests.size() - end);
+        List<Guest> removedGuests = savedGuests.subList(start, savedGuests.size() - end);
+        entry.setGuestSplice(start, removedGuests.size(), addedGuests);
+        removedGuests.clear();
+        removedGuests.addAll(addedGuests);
+    }
+
+    /**
+     * Records in {@code entry} the changes to the rooms that differ between the saved rooms and {@code rooms}, which
+     * must be as many as the saved rooms, and updates the saved rooms to match.
+     */
+    private void addChangedRooms(JournalEntry entry, List<Room> rooms) {
+        for (int i = 0; i < rooms.size(); i++) {
+            if (savedRooms.get(i) != rooms.get(i)) {
+                entry.addRoomChange(savedRooms.get(i), rooms.get(i));
+                savedRooms.set(i, rooms.get(i));
+            }
+        }
+    }
+
+    /**
+     * Returns the first line of a journal that belongs to the data file at {@code filePath} as it is now.
+     */
+    private static String getHeader(Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                checksum.update(buffer, 0, read);
+            }
+        }
+        return String.format(HEADER_FORMAT, Files.size(filePath), checksum.getValue());
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Menu;
+import seedu.address.model.expenses.ExpenseType;
+import seedu.address.model.guest.Guest;
+import seedu.address.model.room.Room;
+import seedu.address.model.room.RoomNumber;
+import seedu.address.model.room.UniqueRoomList;
+
+/**
+ * Jackson-friendly record of one save to a {@code JournalConciergeStorage}: the changes to the rooms that changed,
+ * the part of the archived guest list that changed, and the menu if it changed.
+ * The archived guest list change is a splice: {@code removedGuestCount} guests are removed from
+ * {@code guestIndex}, and {@code addedGuests} are inserted in their place.
+ */
+class JournalEntry {
+
+    public static final String MESSAGE_INVALID_GUEST_SPLICE = "Journal entry changes guests that do not exist!";
+    public static final String MESSAGE_ROOM_NOT_FOUND = "Journal entry changes a room that does not exist!";
+
+    private static final int NO_GUEST_CHANGE = -1;
+
+    private List<JournalRoomChange> roomChanges = new ArrayList<>();
+    private int guestIndex = NO_GUEST_CHANGE;
+    private int removedGuestCount;
+    private List<XmlAdaptedGuest> addedGuests = new ArrayList<>();
+    private List<XmlAdaptedExpenseType> menu;
+
+    /**
+     * Constructs an empty JournalEntry.
+     * This is the no-arg constructor that is required by Jackson.
+     */
+    JournalEntry() {}
+
+    /**
+     * Records the change from {@code savedRoom} to {@code room}, which replaced it.
+     */
+    void addRoomChange(Room savedRoom, Room room) {
+        roomChanges.add(new JournalRoomChange(savedRoom, room));
+    }
+
+    /**
+     * Records that {@code removedCount} archived guests starting at {@code index} were replaced by {@code added}.
+     */
+    void setGuestSplice(int index, int removedCount, List<Guest> added) {
+        guestIndex = index;
+        removedGuestCount = removedCount;
+        addedGuests = added.stream().map(XmlAdaptedGuest::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Records that the menu was replaced by {@code items}.
+     */
+    void setMenu(Collection<ExpenseType> items) {
+        menu = items.stream().map(XmlAdaptedExpenseType::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if this entry records no change.
+     */
+    boolean isEmpty() {
+        return roomChanges.isEmpty() && guestIndex == NO_GUEST_CHANGE && menu == null;
+    }
+
+    /**
+     * Applies the changes recorded in this entry to the given data, which is modified in place. {@code rooms} maps
+     * each room number to its room. A change to a room beyond the room inventory that is not in {@code rooms} is
+     * applied to an empty room, which is added to {@code rooms}.
+     * @throws IllegalValueException if there were any data constraints violated in the recorded changes, or if the
+     * changes do not fit the given data.
+     */
+    void applyTo(List<Guest> guests, Map<RoomNumber, Room> rooms, Map<String, ExpenseType> menuMap)
+            throws IllegalValueException {
+        if (menu != null) {
+            Map<String, ExpenseType> newMenu = new HashMap<>();
+            for (XmlAdaptedExpenseType item : menu) {
+                newMenu.put(item.getItemNumber(), item.toModelType());
+            }
+            menuMap.clear();
+            menuMap.putAll(newMenu);
+        }
+
+        if (guestIndex != NO_GUEST_CHANGE) {
+            if (guestIndex < 0 || removedGuestCount < 0 || guestIndex + removedGuestCount > guests.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_GUEST_SPLICE);
+            }
+            List<Guest> newGuests = new ArrayList<>(addedGuests.size());
+            for (XmlAdaptedGuest guest : addedGuests) {
+                newGuests.add(guest.toModelType());
+            }
+            List<Guest> splicedGuests = guests.subList(guestIndex, guestIndex + removedGuestCount);
+            splicedGuests.clear();
+            splicedGuests.addAll(newGuests);
+        }
+
+        Menu currentMenu = new Menu();
+        currentMenu.setMenu(menuMap);
+        for (JournalRoomChange roomChange : roomChanges) {
+            if (roomChange.getRoomNumber() == null
+                    || !RoomNumber.isValidStoredRoomNumber(roomChange.getRoomNumber())) {
+                throw new IllegalValueException(MESSAGE_ROOM_NOT_FOUND);
+            }
+            RoomNumber roomNumber = RoomNumber.fromStored(Integer.parseInt(roomChange.getRoomNumber()));
+            Room room = rooms.get(roomNumber);
+            if (room == null && roomNumber.getValue() > RoomNumber.getMaxRoomNumber()) {
+                // an empty room beyond the room inventory, left out when the data file was read
+                room = UniqueRoomList.createEmptyRoom(roomNumber);
+            } else if (room == null) {
+                throw new IllegalValueException(MESSAGE_ROOM_NOT_FOUND);
+            }
+            rooms.put(roomNumber, roomChange.applyTo(room, currentMenu));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Menu;
+import seedu.address.model.expenses.Expense;
+import seedu.address.model.expenses.Expenses;
+import seedu.address.model.room.Capacity;
+import seedu.address.model.room.Room;
+import seedu.address.model.room.booking.Booking;
+import seedu.address.model.room.booking.Bookings;
+import seedu.address.model.room.booking.exceptions.BookingNotFoundException;
+import seedu.address.model.room.booking.exceptions.OverlappingBookingException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Jackson-friendly record of the change to one room in a {@code JournalEntry}: the bookings removed from and added
+ * to the room, the expenses added to it, and its capacity and tags if they changed.
+ * Expenses are only ever added in front of the existing ones, or all cleared, so {@code addedExpenses} are added,
+ * newest first, to the room's expenses, or to no expenses if {@code isExpensesCleared} is true.
+ */
+class JournalRoomChange {
+
+    public static final String MESSAGE_BOOKING_NOT_FOUND = "Journal entry removes a booking that does not exist!";
+
+    private String roomNumber;
+    private List<XmlAdaptedBooking> removedBookings = new ArrayList<>();
+    private List<XmlAdaptedBooking> addedBookings = new ArrayList<>();
+    private boolean isExpensesCleared;
+    private List<XmlAdaptedExpense> addedExpenses = new ArrayList<>();
+    private Capacity capacity;
+    private List<XmlAdaptedTag> tags;
+
+    /**
+     * Constructs an empty JournalRoomChange.
+     * This is the no-arg constructor that is required by Jackson.
+     */
+    JournalRoomChange() {}
+
+    /**
+     * Records the change from {@code savedRoom} to {@code room}, which have the same room number.
+     */
+    JournalRoomChange(Room savedRoom, Room room) {
+        assert savedRoom.isSameRoom(room);
+        roomNumber = room.getRoomNumber().toString();
+        if (savedRoom.getBookings() != room.getBookings()) {
+            addBookingChanges(savedRoom.getBookings(), room.getBookings());
+        }
+
+        Optional<List<Expense>> newExpenses = room.getExpenses().getExpensesAddedTo(savedRoom.getExpenses());
+        isExpensesCleared = !newExpenses.isPresent();
+        addedExpenses = newExpenses.orElse(room.getExpenses().getExpensesList()).stream()
+                .map(XmlAdaptedExpense::new)
+                .collect(Collectors.toList());
+
+        if (!savedRoom.getCapacity().equals(room.getCapacity())) {
+            capacity = room.getCapacity();
+        }
+        if (!savedRoom.getTags().equals(room.getTags())) {
+            tags = room.getTags().stream().map(XmlAdaptedTag::new).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Records the bookings in only one of {@code savedBookings} and {@code bookings}, by walking both sorted sets
+     * together.
+     */
+    private void addBookingChanges(Bookings savedBookings, Bookings bookings) {
+        Iterator<Booking> savedIterator = savedBookings.getSortedBookingsSet().iterator();
+        Iterator<Booking> iterator = bookings.getSortedBookingsSet().iterator();
+        Booking saved = next(savedIterator);
+        Booking current = next(iterator);
+        while (saved != null || current != null) {
+            if (current == null || (saved != null && saved.compareTo(current) < 0)) {
+                removedBookings.add(new XmlAdaptedBooking(saved));
+                saved = next(savedIterator);
+            } else if (saved == null || saved.compareTo(current) > 0) {
+                addedBookings.add(new XmlAdaptedBooking(current));
+                current = next(iterator);
+            } else {
+                saved = next(savedIterator);
+                current = next(iterator);
+            }
+        }
+    }
+
+    /**
+     * Returns the next booking of {@code iterator}, or null if there is none.
+     */
+    private static Booking next(Iterator<Booking> iterator) {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    String getRoomNumber() {
+        return roomNumber;
+    }
+
+    /**
+     * Returns {@code room} with the recorded change applied.
+     * @throws IllegalValueException if there were any data constraints violated in the recorded change, or if the
+     * change does not fit {@code room}.
+     */
+    Room applyTo(Room room, Menu menu) throws IllegalValueException {
+        Bookings bookings = room.getBookings();
+        try {
+            for (XmlAdaptedBooking booking : removedBookings) {
+                bookings = bookings.remove(booking.toModelType());
+            }
+            for (XmlAdaptedBooking booking : addedBookings) {
+                bookings = bookings.add(booking.toModelType());
+            }
+        } catch (BookingNotFoundException e) {
+            throw new IllegalValueException(MESSAGE_BOOKING_NOT_FOUND);
+        } catch (OverlappingBookingException e) {
+            throw new IllegalValueException(XmlAdaptedRoom.MESSAGE_OVERLAPPING_BOOKING);
+        }
+
+        Expenses expenses = isExpensesCleared ? new Expenses() : room.getExpenses();
+        for (int i = addedExpenses.size() - 1; i >= 0; i--) {
+            expenses = expenses.addExpense(addedExpenses.get(i).toModelType(menu));
+        }
+
+        Set<Tag> roomTags = room.getTags();
+        if (tags != null) {
+            roomTags = new HashSet<>();
+            for (XmlAdaptedTag tag : tags) {
+                roomTags.add(tag.toModelType());
+            }
+        }
+        return new Room(room.getRoomNumber(), capacity == null ? room.getCapacity() : capacity, expenses, bookings,
+                roomTags);
+    }
+}
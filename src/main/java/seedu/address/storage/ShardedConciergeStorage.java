@@ -0,0 +1,332 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.Menu;
+import seedu.address.model.ReadOnlyConcierge;
+import seedu.address.model.expenses.ExpenseType;
+import seedu.address.model.guest.Guest;
+import seedu.address.model.room.Room;
+
+/**
+ * A class to access Concierge data stored as a directory of json files on the hard disk, with one file (shard) for
+ * each room, one for the archived guests and one for the menu.
+ *
+ * Most commands change a single room, so only the shards that changed are rewritten. Changes are found by comparing
+ * the saved {@code Concierge} against the one last written, by reference, since guests and rooms are immutable.
+ * Each shard is replaced in one step, so a shard is never left partly written, but a save that changes several
+ * shards is not atomic as a whole. Shards are written in the order menu, guests, rooms, so a guest that is archived
+ * at checkout is kept even if the program stops before the room is rewritten.
+ *
+ * The room shards are read and converted in parallel.
+ */
+public class ShardedConciergeStorage implements ConciergeStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedConciergeStorage.class);
+
+    private static final String GUESTS_FILE_NAME = "guests.json";
+    private static final String MENU_FILE_NAME = "menu.json";
+    private static final String ROOMS_DIRECTORY_NAME = "rooms";
+    private static final String SHARD_FILE_EXTENSION = ".json";
+
+    private Path directoryPath;
+
+    /* The data that the shards hold, or null if it is not known */
+    private List<Guest> savedGuests;
+    private List<Room> savedRooms;
+    private Map<String, ExpenseType> savedMenu;
+
+    public ShardedConciergeStorage(Path directoryPath) {
+        this.directoryPath = directoryPath;
+    }
+
+    @Override
+    public Path getConciergeFilePath() {
+        return directoryPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyConcierge> readConcierge() throws DataConversionException, IOException {
+        return readConcierge(directoryPath);
+    }
+
+    /**
+     * Similar to {@link #readConcierge()}
+     * @param directoryPath location of the data. Cannot be null
+     * @throws DataConversionException if a shard is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyConcierge> readConcierge(Path directoryPath) throws DataConversionException,
+            IOException {
+        requireNonNull(directoryPath);
+
+        if (!Files.isDirectory(directoryPath)) {
+            logger.info("Concierge directory " + directoryPath + " not found");
+            return Optional.empty();
+        }
+
+        ConciergeBuilder builder = new ConciergeBuilder();
+        try {
+            for (XmlAdaptedExpenseType item : readShard(directoryPath.resolve(MENU_FILE_NAME), MenuShard.class).menu) {
+                builder.addMenuItem(item.toModelType());
+            }
+            for (XmlAdaptedGuest guest : readShard(directoryPath.resolve(GUESTS_FILE_NAME), GuestShard.class).guests) {
+                builder.addGuest(guest.toModelType());
+            }
+            for (Room room : readRooms(directoryPath.resolve(ROOMS_DIRECTORY_NAME), builder.getMenu())) {
+                builder.addRoom(room);
+            }
+            ReadOnlyConcierge concierge = builder.build();
+
+            // Later reads are of data that this storage wrote itself, so what was saved is already known
+            if (directoryPath.equals(this.directoryPath) && savedRooms == null) {
+                setSavedData(concierge);
+            }
+            return Optional.of(concierge);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the rooms in the room shards in {@code roomsDirectory}, in room number order.
+     * The shards are read and converted in parallel.
+     */
+    private static List<Room> readRooms(Path roomsDirectory, Menu menu) throws DataConversionException,
+            IOException, IllegalValueException {
+        List<Path> roomFiles = new ArrayList<>();
+        if (Files.isDirectory(roomsDirectory)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(roomsDirectory, "*" + SHARD_FILE_EXTENSION)) {
+                files.forEach(roomFiles::add);
+            }
+        }
+
+        try {
+            return roomFiles.parallelStream()
+                    .map(roomFile -> readRoom(roomFile, menu))
+                    .sorted(Comparator.comparingInt(room -> room.getRoomNumber().getValue()))
+                    .collect(Collectors.toList());
+        } catch (ShardConversionException sce) {
+            if (sce.getCause() instanceof IllegalValueException) {
+                throw (IllegalValueException) sce.getCause();
+            }
+            throw (DataConversionException) sce.getCause();
+        }
+    }
+
+    /**
+     * Returns the room in {@code roomFile}, wrapping any exception so that it can be thrown from a stream.
+     */
+    private static Room readRoom(Path roomFile, Menu menu) {
+        try {
+            return readShard(roomFile, XmlAdaptedRoom.class).toModelType(menu);
+        } catch (DataConversionException | IllegalValueException e) {
+            throw new ShardConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the contents of the shard at {@code shardFile}.
+     * @throws DataConversionException if the shard is missing or is not in the correct format.
+     */
+    private static <T> T readShard(Path shardFile, Class<T> shardClass) throws DataConversionException {
+        Optional<T> shard = JsonUtil.readJsonFile(shardFile, shardClass);
+        if (!shard.isPresent()) {
+            throw new DataConversionException(new IOException("Shard " + shardFile + " not found"));
+        }
+        return shard.get();
+    }
+
+    @Override
+    public void saveConcierge(ReadOnlyConcierge concierge) throws IOException {
+        saveConcierge(concierge, directoryPath);
+    }
+
+    /**
+     * Similar to {@link #saveConcierge(ReadOnlyConcierge)}. Directories other than this storage's own are saved in
+     * full.
+     * @param directoryPath location of the data. Cannot be null
+     */
+    @Override
+    public void saveConcierge(ReadOnlyConcierge concierge, Path directoryPath) throws IOException {
+        requireNonNull(concierge);
+        requireNonNull(directoryPath);
+
+        if (!directoryPath.equals(this.directoryPath)) {
+            saveAllShards(concierge, directoryPath);
+            return;
+        }
+        if (savedRooms == null || savedRooms.size() != concierge.getRoomList().size()) {
+            saveAllShards(concierge, directoryPath);
+            setSavedData(concierge);
+            return;
+        }
+
+        try {
+            if (!savedMenu.equals(concierge.getMenuMap())) {
+                saveMenuShard(concierge.getMenuMap().values(), directoryPath);
+                savedMenu = new HashMap<>(concierge.getMenuMap());
+            }
+            if (!isSameByReference(savedGuests, concierge.getGuestList())) {
+                saveGuestShard(concierge.getGuestList(), directoryPath);
+                savedGuests = new ArrayList<>(concierge.getGuestList());
+            }
+            List<Room> rooms = concierge.getRoomList();
+            for (int i = 0; i < rooms.size(); i++) {
+                if (savedRooms.get(i) != rooms.get(i)) {
+                    saveRoomShard(rooms.get(i), directoryPath);
+                    savedRooms.set(i, rooms.get(i));
+                }
+            }
+        } catch (IOException e) {
+            // Which shards were written is not known, so the next save must be in full
+            savedRooms = null;
+            throw e;
+        }
+    }
+
+    @Override
+    public void compactConcierge(ReadOnlyConcierge concierge) {
+        requireNonNull(concierge);
+        // only the shards that changed are ever written
+    }
+
+    /**
+     * Writes every shard of {@code concierge} to {@code directoryPath}, and removes the shards of rooms that it
+     * does not have.
+     */
+    private static void saveAllShards(ReadOnlyConcierge concierge, Path directoryPath) throws IOException {
+        saveMenuShard(concierge.getMenuMap().values(), directoryPath);
+        saveGuestShard(concierge.getGuestList(), directoryPath);
+
+        Set<Path> roomFiles = new HashSet<>();
+        for (Room room : concierge.getRoomList()) {
+            roomFiles.add(saveRoomShard(room, directoryPath));
+        }
+        Path roomsDirectory = directoryPath.resolve(ROOMS_DIRECTORY_NAME);
+        if (!Files.isDirectory(roomsDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(roomsDirectory, "*" + SHARD_FILE_EXTENSION)) {
+            for (Path file : files) {
+                if (!roomFiles.contains(file)) {
+                    Files.delete(file);
+                }
+            }
+        }
+        logger.fine("Saved all shards to " + directoryPath);
+    }
+
+    private static void saveMenuShard(Collection<ExpenseType> menu, Path directoryPath) throws IOException {
+        writeShard(directoryPath.resolve(MENU_FILE_NAME), new MenuShard(menu));
+    }
+
+    private static void saveGuestShard(List<Guest> guests, Path directoryPath) throws IOException {
+        writeShard(directoryPath.resolve(GUESTS_FILE_NAME), new GuestShard(guests));
+    }
+
+    /**
+     * Writes the shard of {@code room} to {@code directoryPath}, and returns the path of the shard.
+     */
+    private static Path saveRoomShard(Room room, Path directoryPath) throws IOException {
+        Path roomFile = directoryPath.resolve(ROOMS_DIRECTORY_NAME)
+                .resolve(room.getRoomNumber() + SHARD_FILE_EXTENSION);
+        writeShard(roomFile, new XmlAdaptedRoom(room));
+        return roomFile;
+    }
+
+    /**
+     * Replaces {@code file} with {@code shard} in json, in one step (see {@link FileUtil#writeAtomically}).
+     */
+    private static void writeShard(Path file, Object shard) throws IOException {
+        byte[] json = JsonUtil.toJsonString(shard).getBytes(UTF_8);
+        FileUtil.writeAtomically(file, null, out -> out.write(json));
+    }
+
+    private void setSavedData(ReadOnlyConcierge concierge) {
+        savedGuests = new ArrayList<>(concierge.getGuestList());
+        savedRooms = new ArrayList<>(concierge.getRoomList());
+        savedMenu = new HashMap<>(concierge.getMenuMap());
+    }
+
+    /**
+     * Returns true if both lists hold the same guests, by reference, in the same order.
+     */
+    private static boolean isSameByReference(List<Guest> first, List<Guest> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (first.get(i) != second.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Jackson-friendly shard of the archived guests.
+     */
+    static class GuestShard {
+        private List<XmlAdaptedGuest> guests = new ArrayList<>();
+
+        /**
+         * Constructs an empty GuestShard.
+         * This is the no-arg constructor that is required by Jackson.
+         */
+        GuestShard() {}
+
+        GuestShard(List<Guest> guests) {
+            this.guests = guests.stream().map(XmlAdaptedGuest::new).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Jackson-friendly shard of the menu.
+     */
+    static class MenuShard {
+        private List<XmlAdaptedExpenseType> menu = new ArrayList<>();
+
+        /**
+         * Constructs an empty MenuShard.
+         * This is the no-arg constructor that is required by Jackson.
+         */
+        MenuShard() {}
+
+        MenuShard(Collection<ExpenseType> items) {
+            this.menu = items.stream().map(XmlAdaptedExpenseType::new).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Signals that a room shard read on another thread could not be converted.
+     */
+    private static class ShardConversionException extends RuntimeException {
+        ShardConversionException(Exception cause) {
+            super(cause);
+        }
+    }
+}
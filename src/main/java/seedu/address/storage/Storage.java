@@ -2,9 +2,11 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Optional;
 
 import seedu.address.commons.events.model.ConciergeChangedEvent;
+import seedu.address.commons.events.storage.DataSavedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyConcierge;
@@ -41,9 +43,16 @@ public interface Storage extends ConciergeStorage, UserPrefsStorage, PasswordsSt
     void savePasswordRef(PasswordHashList passwordRef) throws IOException;
 
     /**
-     * Saves the current version of Concierge to the hard disk.
+     * Saves the current version of Concierge to the hard disk, in the background.
      *   Creates the data file if it is missing.
-     * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     * Raises {@link DataSavedEvent} once it is saved, or {@link DataSavingExceptionEvent} if there was an error
+     * during saving.
      */
     void handleConciergeChangedEvent(ConciergeChangedEvent abce);
+
+    /**
+     * Waits for at most {@code timeout} for every change raised so far to finish saving.
+     * @return true if they finished saving in time.
+     */
+    boolean flushConcierge(Duration timeout) throws InterruptedException;
 }
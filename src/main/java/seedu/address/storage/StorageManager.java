@@ -1,31 +1,67 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.ConciergeFileFormat;
+import seedu.address.commons.core.EventLane;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SubscribeOn;
 import seedu.address.commons.events.model.ConciergeChangedEvent;
+import seedu.address.commons.events.storage.DataSavedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.events.storage.ExportConciergeRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ConciergeSnapshot;
 import seedu.address.model.ReadOnlyConcierge;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.login.PasswordHashList;
 
 /**
  * Manages storage of Concierge data in local storage.
+ *
+ * Changes to Concierge are saved on a background thread, so that commands do not wait for the data file to be
+ * written. Each change is saved as an unchanging snapshot of Concierge, taken when the change is made. Changes made
+ * while a save is in progress are saved together by the next save, so at most one save is ever waiting, and every
+ * change is written by the end of the save after the one in progress when it was made.
+ * All reads and writes of the data file through this {@code StorageManager} happen on that thread.
+ * When events are delivered asynchronously, the event handlers run on the storage lane, so posting a change does
+ * not wait for the change to be queued for saving.
  */
+@SubscribeOn(EventLane.STORAGE)
 public class StorageManager extends ComponentManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    private static final String SAVE_THREAD_NAME = "concierge-storage";
+    private static final String MESSAGE_EXPORT_TO_DATA_FILE =
+            "Cannot export to %1$s, which is in use as the data file.";
+
     private ConciergeStorage conciergeStorage;
     private UserPrefsStorage userPrefsStorage;
     private PasswordsStorage passwordsStorage;
 
+    private final ExecutorService saveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, SAVE_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** The latest snapshot of Concierge that is waiting to be saved, or null if there is none. */
+    private final AtomicReference<ReadOnlyConcierge> pendingSave = new AtomicReference<>();
+
 
     public StorageManager(ConciergeStorage conciergeStorage,
                           UserPrefsStorage userPrefsStorage,
@@ -85,7 +121,7 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     public Optional<ReadOnlyConcierge> readConcierge(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return conciergeStorage.readConcierge(filePath);
+        return runOnSaveThread(() -> conciergeStorage.readConcierge(filePath));
     }
 
     @Override
@@ -96,19 +132,146 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     public void saveConcierge(ReadOnlyConcierge concierge, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        conciergeStorage.saveConcierge(concierge, filePath);
+        ReadOnlyConcierge snapshot = new ConciergeSnapshot(concierge);
+        writeOnSaveThread(() -> conciergeStorage.saveConcierge(snapshot, filePath));
+    }
+
+    @Override
+    public void compactConcierge(ReadOnlyConcierge concierge) throws IOException {
+        logger.fine("Attempting to compact data file: " + conciergeStorage.getConciergeFilePath());
+        ReadOnlyConcierge snapshot = new ConciergeSnapshot(concierge);
+        writeOnSaveThread(() -> conciergeStorage.compactConcierge(snapshot));
     }
 
+    @Override
+    public boolean flushConcierge(Duration timeout) throws InterruptedException {
+        try {
+            saveExecutor.submit(() -> { }).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            logger.warning("Changes were not saved within " + timeout.toMillis() + " ms");
+            return false;
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail.", e);
+        }
+    }
 
     @Override
     @Subscribe
     public void handleConciergeChangedEvent(ConciergeChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        if (pendingSave.getAndSet(event.data) == null) {
+            saveExecutor.execute(this::savePendingConcierge);
+        }
+    }
+
+    @Subscribe
+    public void handleExportConciergeRequestEvent(ExportConciergeRequestEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Exporting data"));
+        saveExecutor.execute(() -> exportConcierge(event.data, event.filePath, event.format));
+    }
+
+    /**
+     * Saves {@code concierge} to {@code filePath} in {@code format}.
+     * Raises {@link DataSavingExceptionEvent} if it could not be saved, or if {@code filePath} is the data file or
+     * its journal, which would otherwise be overwritten in a format or state that they do not expect.
+     */
+    private void exportConcierge(ReadOnlyConcierge concierge, Path filePath, ConciergeFileFormat format) {
+        Path dataFilePath = conciergeStorage.getConciergeFilePath().toAbsolutePath().normalize();
+        Path exportFilePath = filePath.toAbsolutePath().normalize();
         try {
-            saveConcierge(event.data);
+            if (exportFilePath.equals(dataFilePath)
+                    || exportFilePath.equals(JournalConciergeStorage.getJournalFilePath(dataFilePath))) {
+                throw new IOException(String.format(MESSAGE_EXPORT_TO_DATA_FILE, filePath));
+            }
+            getStorageForFormat(filePath, format).saveConcierge(concierge);
+            logger.info("Exported data to " + filePath);
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
     }
 
+    private static ConciergeStorage getStorageForFormat(Path filePath, ConciergeFileFormat format) {
+        switch (format) {
+        case BINARY:
+            return new BinaryConciergeStorage(filePath);
+        case SHARDED:
+            return new ShardedConciergeStorage(filePath);
+        default:
+            return new XmlConciergeStorage(filePath);
+        }
+    }
+
+    /**
+     * Saves the latest snapshot of Concierge that is waiting to be saved, if any.
+     * Raises {@link DataSavedEvent} once it is saved, or {@link DataSavingExceptionEvent} if it could not be saved.
+     */
+    private void savePendingConcierge() {
+        ReadOnlyConcierge concierge = pendingSave.getAndSet(null);
+        if (concierge == null) {
+            return;
+        }
+        Path filePath = conciergeStorage.getConciergeFilePath();
+        try {
+            long start = System.nanoTime();
+            conciergeStorage.saveConcierge(concierge, filePath);
+            raise(new DataSavedEvent(filePath, System.nanoTime() - start));
+        } catch (IOException e) {
+            raise(new DataSavingExceptionEvent(e));
+        }
+    }
+
+    /**
+     * Runs {@code task} on the save thread, after the saves waiting before it, and returns its result.
+     */
+    private <T> T runOnSaveThread(StorageTask<T> task) throws DataConversionException, IOException {
+        Future<T> result = saveExecutor.submit(task::run);
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the data file");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataConversionException) {
+                throw (DataConversionException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new AssertionError("Storage tasks only throw storage exceptions.", cause);
+        }
+    }
+
+    /**
+     * Runs {@code write} on the save thread, after the saves waiting before it, and waits for it to finish.
+     */
+    private void writeOnSaveThread(StorageWrite write) throws IOException {
+        try {
+            runOnSaveThread(() -> {
+                write.run();
+                return null;
+            });
+        } catch (DataConversionException e) {
+            throw new AssertionError("Writes do not convert data from the file.", e);
+        }
+    }
+
+    /**
+     * A read or write of the data file.
+     */
+    @FunctionalInterface
+    private interface StorageTask<T> {
+        T run() throws DataConversionException, IOException;
+    }
+
+    /**
+     * A write to the data file.
+     */
+    @FunctionalInterface
+    private interface StorageWrite {
+        void run() throws IOException;
+    }
+
 }
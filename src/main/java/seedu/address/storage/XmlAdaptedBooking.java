@@ -39,6 +39,15 @@ public class XmlAdaptedBooking {
         this.isCheckedIn = isCheckedIn;
     }
 
+    /**
+     * Constructs an {@code XmlAdaptedBooking} from its already adapted fields.
+     */
+    XmlAdaptedBooking(XmlAdaptedGuest guest, XmlAdaptedBookingPeriod bookingPeriod, Boolean isCheckedIn) {
+        this.guest = guest;
+        this.bookingPeriod = bookingPeriod;
+        this.isCheckedIn = isCheckedIn;
+    }
+
     /**
      * Converts a given booking into this class for JAXB use.
      *
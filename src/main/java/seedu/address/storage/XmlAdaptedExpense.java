@@ -56,6 +56,14 @@ public class XmlAdaptedExpense {
         this.datetime = source.getDateTimeString();
     }
 
+    /**
+     * Returns true if the item of this expense is in {@code menu}. Expenses of other items are converted as unknown
+     * items.
+     */
+    boolean isInMenu(Menu menu) {
+        return item != null && menu.isValidMenuNumber(item);
+    }
+
     /**
      * Converts this object into the proper Expense object.
      * @return The Expense representation of this object.
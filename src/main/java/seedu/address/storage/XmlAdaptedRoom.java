@@ -5,6 +5,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import javax.xml.bind.annotation.XmlElement;
@@ -91,10 +93,10 @@ public class XmlAdaptedRoom {
             throw new IllegalValueException(
                     String.format(MISSING_FIELD_MESSAGE_FORMAT, RoomNumber.class.getSimpleName()));
         }
-        if (!RoomNumber.isValidRoomNumber(roomNumber)) {
+        if (!RoomNumber.isValidStoredRoomNumber(roomNumber)) {
             throw new IllegalValueException(RoomNumber.MESSAGE_ROOM_NUMBER_CONSTRAINTS);
         }
-        final RoomNumber modelRoomNumber = new RoomNumber(roomNumber);
+        final RoomNumber modelRoomNumber = RoomNumber.fromStored(Integer.parseInt(roomNumber));
 
         if (capacity == null) {
             throw new IllegalValueException(
@@ -102,11 +104,16 @@ public class XmlAdaptedRoom {
         }
         final Capacity modelCapacity = capacity;
 
-        Bookings modelBookings = new Bookings();
-        try {
-            for (XmlAdaptedBooking b : bookings) {
-                modelBookings = modelBookings.add(b.toModelType());
+        // Collect the bookings first so that they are validated in a single pass, instead of on every add
+        SortedSet<Booking> bookingsSet = new TreeSet<>();
+        for (XmlAdaptedBooking b : bookings) {
+            if (!bookingsSet.add(b.toModelType())) {
+                throw new IllegalValueException(MESSAGE_OVERLAPPING_BOOKING);
             }
+        }
+        Bookings modelBookings;
+        try {
+            modelBookings = new Bookings(bookingsSet);
         } catch (OverlappingBookingException e) {
             throw new IllegalValueException(MESSAGE_OVERLAPPING_BOOKING);
         }
@@ -143,6 +150,13 @@ public class XmlAdaptedRoom {
         return new Room(modelRoomNumber, modelCapacity, modelExpenses, modelBookings, modelTags);
     }
 
+    /**
+     * Returns true if every expense of this room is of an item in {@code menu}.
+     */
+    boolean hasOnlyExpensesIn(Menu menu) {
+        return expenses.stream().allMatch(expense -> expense.isInMenu(menu));
+    }
+
     @Override
     public String toString() {
         return roomNumber + capacity + expenses + bookings + tagged;
@@ -2,7 +2,6 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -12,20 +11,33 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyConcierge;
 
 /**
  * A class to access Concierge data stored as an xml file on the hard disk.
+ * Files in the binary format of {@link BinaryConciergeStorage} are also read, so the data file keeps working after
+ * its format changes.
+ *
+ * Saves never leave the file partly written, and the last few versions of the file are kept, to be read instead if
+ * the file cannot be (see {@link DataFileGenerations}).
  */
 public class XmlConciergeStorage implements ConciergeStorage {
 
     private static final Logger logger = LogsCenter.getLogger(XmlConciergeStorage.class);
 
     private Path filePath;
+    private final boolean isFormatted;
 
     public XmlConciergeStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a storage for the xml file at {@code filePath}, which is written indented if {@code isFormatted}.
+     */
+    public XmlConciergeStorage(Path filePath, boolean isFormatted) {
         this.filePath = filePath;
+        this.isFormatted = isFormatted;
     }
 
     public Path getConciergeFilePath() {
@@ -42,18 +54,27 @@ public class XmlConciergeStorage implements ConciergeStorage {
      * @param filePath location of the data. Cannot be null
      * @throws DataConversionException if the file is not in the correct format.
      */
-    public Optional<ReadOnlyConcierge> readConcierge(Path filePath) throws DataConversionException,
-                                                                                 FileNotFoundException {
+    public Optional<ReadOnlyConcierge> readConcierge(Path filePath) throws DataConversionException, IOException {
         requireNonNull(filePath);
+        return DataFileGenerations.readWithRecovery(filePath, XmlConciergeStorage::readDataFile);
+    }
 
+    /**
+     * Returns the data in the file at {@code filePath}, which may be in xml or in the binary format, or
+     * {@code Optional.empty()} if the file is missing.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    static Optional<ReadOnlyConcierge> readDataFile(Path filePath) throws DataConversionException, IOException {
         if (!Files.exists(filePath)) {
             logger.info("Concierge file " + filePath + " not found");
             return Optional.empty();
         }
+        if (BinaryConciergeStorage.isBinaryFile(filePath)) {
+            return Optional.of(BinaryConciergeStorage.readBinaryFile(filePath));
+        }
 
-        XmlSerializableConcierge xmlConcierge = XmlFileStorage.loadDataFromSaveFile(filePath);
         try {
-            return Optional.of(xmlConcierge.toModelType());
+            return Optional.of(XmlConciergeStreamReader.readConcierge(filePath));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +94,15 @@ public class XmlConciergeStorage implements ConciergeStorage {
         requireNonNull(concierge);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableConcierge(concierge));
+        XmlSerializableConcierge data = new XmlSerializableConcierge(concierge);
+        DataFileGenerations.save(filePath, this.filePath,
+                out -> XmlFileStorage.saveDataToStream(out, data, isFormatted));
+    }
+
+    @Override
+    public void compactConcierge(ReadOnlyConcierge concierge) {
+        requireNonNull(concierge);
+        // every save is in full
     }
 
 }
@@ -0,0 +1,300 @@
+package seedu.address.storage;
+
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+import java.io.BufferedInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Concierge;
+import seedu.address.model.Menu;
+import seedu.address.model.room.Capacity;
+
+/**
+ * Reads Concierge data from an xml file one element at a time, converting each guest into the model as soon as it is
+ * read, and the rooms in batches, which are converted in parallel (see {@link ConciergeBuilder#addRooms}). Unlike
+ * unmarshalling the whole file with JAXB and then converting it, this never holds the xml-adapted form of more than
+ * one guest or batch of rooms, so memory use while loading stays close to the size of the model.
+ *
+ * The data is validated in the same way as {@link XmlSerializableConcierge#toModelType()}, and elements that are not
+ * part of the format are skipped, as JAXB does. Menu items may come before, after or in between the rooms. A room's
+ * expenses need the menu to be converted, so once a room has an expense of an item that has not been read yet, it
+ * and the rooms after it are kept until the whole file is read, and are then converted with the complete menu.
+ * Files written by this version save the menu ahead of the rooms, so their rooms are converted as they are read.
+ */
+class XmlConciergeStreamReader {
+
+    private static final String ROOT_ELEMENT = "concierge";
+    private static final int ROOM_BATCH_SIZE = 256;
+
+    /**
+     * Returns the Concierge data in {@code file}.
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file cannot be read, or is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated in the file.
+     */
+    static Concierge readConcierge(Path file) throws FileNotFoundException, DataConversionException,
+            IllegalValueException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            XMLStreamReader reader = createReader(in);
+            try {
+                return readConcierge(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (NoSuchFileException nsfe) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        } catch (XMLStreamException | IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static Concierge readConcierge(XMLStreamReader reader) throws XMLStreamException, IllegalValueException {
+        readRootElement(reader);
+        ConciergeBuilder builder = new ConciergeBuilder();
+        Menu menu = builder.getMenu();
+        // The rooms read but not converted yet, in the order they were read
+        List<XmlAdaptedRoom> rooms = new ArrayList<>(ROOM_BATCH_SIZE);
+        boolean isWaitingForMenu = false;
+        while (reader.nextTag() == START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case "guests":
+                builder.addGuest(readGuest(reader).toModelType());
+                break;
+
+            case "menu":
+                builder.addMenuItem(readExpenseType(reader).toModelType());
+                menu = builder.getMenu();
+                break;
+
+            case "rooms":
+                XmlAdaptedRoom room = readRoom(reader);
+                rooms.add(room);
+                // Items are never replaced, so a room with only known items converts the same with the complete menu
+                isWaitingForMenu = isWaitingForMenu || !room.hasOnlyExpensesIn(menu);
+                if (!isWaitingForMenu && rooms.size() == ROOM_BATCH_SIZE) {
+                    builder.addRooms(rooms, menu);
+                    rooms.clear();
+                }
+                break;
+
+            default:
+                skipElement(reader);
+            }
+        }
+        if (!rooms.isEmpty()) {
+            builder.addRooms(rooms, menu);
+        }
+        return builder.build();
+    }
+
+    private static XMLStreamReader createReader(InputStream in) throws XMLStreamException {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory.createXMLStreamReader(in);
+    }
+
+    private static void readRootElement(XMLStreamReader reader) throws XMLStreamException {
+        reader.nextTag();
+        if (!reader.getLocalName().equals(ROOT_ELEMENT)) {
+            throw new XMLStreamException("Unexpected element " + reader.getLocalName() + ", expected "
+                    + ROOT_ELEMENT, reader.getLocation());
+        }
+    }
+
+    private static XmlAdaptedGuest readGuest(XMLStreamReader reader) throws XMLStreamException {
+        String name = null;
+        String phone = null;
+        String email = null;
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+        while (reader.nextTag() == START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case "name":
+                name = reader.getElementText();
+                break;
+            case "phone":
+                phone = reader.getElementText();
+                break;
+            case "email":
+                email = reader.getElementText();
+                break;
+            case "tagged":
+                tagged.add(new XmlAdaptedTag(reader.getElementText()));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedGuest(name, phone, email, tagged);
+    }
+
+    private static XmlAdaptedRoom readRoom(XMLStreamReader reader) throws XMLStreamException {
+        String roomNumber = null;
+        Capacity capacity = null;
+        List<XmlAdaptedBooking> bookings = new ArrayList<>();
+        List<XmlAdaptedExpense> expenses = new ArrayList<>();
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+        while (reader.nextTag() == START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case "roomNumber":
+                roomNumber = reader.getElementText();
+                break;
+            case "capacity":
+                capacity = parseCapacity(reader.getElementText());
+                break;
+            case "bookings":
+                bookings.add(readBooking(reader));
+                break;
+            case "expenses":
+                expenses.add(readExpense(reader));
+                break;
+            case "tagged":
+                tagged.add(new XmlAdaptedTag(reader.getElementText()));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedRoom(roomNumber, capacity, bookings, expenses, tagged);
+    }
+
+    private static XmlAdaptedBooking readBooking(XMLStreamReader reader) throws XMLStreamException {
+        XmlAdaptedGuest guest = null;
+        XmlAdaptedBookingPeriod bookingPeriod = null;
+        Boolean isCheckedIn = null;
+        while (reader.nextTag() == START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case "guest":
+                guest = readGuest(reader);
+                break;
+            case "bookingPeriod":
+                bookingPeriod = readBookingPeriod(reader);
+                break;
+            case "isCheckedIn":
+                isCheckedIn = parseBoolean(reader.getElementText());
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedBooking(guest, bookingPeriod, isCheckedIn);
+    }
+
+    private static XmlAdaptedBookingPeriod readBookingPeriod(XMLStreamReader reader) throws XMLStreamException {
+        String startDate = null;
+        String endDate = null;
+        while (reader.nextTag() == START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case "startDate":
+                startDate = reader.getElementText();
+                break;
+            case "endDate":
+                endDate = reader.getElementText();
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedBookingPeriod(startDate, endDate);
+    }
+
+    private static XmlAdaptedExpense readExpense(XMLStreamReader reader) throws XMLStreamException {
+        String item = null;
+        String cost = null;
+        String datetime = null;
+        while (reader.nextTag() == START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case "item":
+                item = reader.getElementText();
+                break;
+            case "cost":
+                cost = reader.getElementText();
+                break;
+            case "datetime":
+                datetime = reader.getElementText();
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedExpense(item, cost, datetime);
+    }
+
+    private static XmlAdaptedExpenseType readExpenseType(XMLStreamReader reader) throws XMLStreamException {
+        String itemNumber = null;
+        String itemName = null;
+        String itemCost = null;
+        while (reader.nextTag() == START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case "itemNumber":
+                itemNumber = reader.getElementText();
+                break;
+            case "itemName":
+                itemName = reader.getElementText();
+                break;
+            case "itemCost":
+                itemCost = reader.getElementText();
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedExpenseType(itemNumber, itemName, itemCost);
+    }
+
+    /**
+     * Skips the element that the reader is at the start of, including everything in it.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == START_ELEMENT) {
+                depth++;
+            } else if (event == END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Returns the capacity named by {@code text}, or null if there is none, as JAXB does for unknown enum values.
+     */
+    private static Capacity parseCapacity(String text) {
+        try {
+            return Capacity.valueOf(text.trim());
+        } catch (IllegalArgumentException iae) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the xml boolean value of {@code text}, or null if it is not one.
+     */
+    private static Boolean parseBoolean(String text) {
+        switch (text.trim()) {
+        case "true":
+        case "1":
+            return true;
+        case "false":
+        case "0":
+            return false;
+        default:
+            return null;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.storage;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Path;
 
 import javax.xml.bind.JAXBException;
@@ -15,11 +17,34 @@ public class XmlFileStorage {
     /**
      * Saves the given concierge data to the specified file.
      */
-    public static void saveDataToFile(Path file, XmlSerializableConcierge concierge)
-            throws FileNotFoundException {
+    public static void saveDataToFile(Path file, XmlSerializableConcierge concierge) throws IOException {
+        saveDataToFile(file, concierge, true);
+    }
+
+    /**
+     * Saves the given concierge data to the specified file, indented if {@code isFormatted}.
+     */
+    public static void saveDataToFile(Path file, XmlSerializableConcierge concierge, boolean isFormatted)
+            throws IOException {
+        try {
+            XmlUtil.saveDataToFile(file, concierge, isFormatted);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the given concierge data to {@code out}, indented if {@code isFormatted}.
+     * @throws IOException if there was an error writing to {@code out}.
+     */
+    public static void saveDataToStream(OutputStream out, XmlSerializableConcierge concierge, boolean isFormatted)
+            throws IOException {
         try {
-            XmlUtil.saveDataToFile(file, concierge);
+            XmlUtil.saveDataToStream(out, concierge, isFormatted);
         } catch (JAXBException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
             throw new AssertionError("Unexpected exception " + e.getMessage(), e);
         }
     }
@@ -1,8 +1,6 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -10,29 +8,28 @@ import java.util.stream.Collectors;
 
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.Concierge;
 import seedu.address.model.ReadOnlyConcierge;
 import seedu.address.model.expenses.ExpenseType;
-import seedu.address.model.guest.Guest;
-import seedu.address.model.room.Room;
-import seedu.address.model.room.RoomNumber;
-import seedu.address.model.room.booking.Booking;
-import seedu.address.model.room.exceptions.DuplicateRoomException;
-import seedu.address.model.room.exceptions.RoomMissingException;
+import seedu.address.model.util.SyntheticDataGenerator;
 
 /**
- * An Immutable Concierge that is serializable to XML format
+ * An Immutable Concierge that is serializable to XML format.
+ * The menu is written before the rooms, so that {@code XmlConciergeStreamReader} can convert each room's expenses
+ * as soon as it reads the room.
  */
 @XmlRootElement(name = "concierge")
+@XmlType(propOrder = {"guests", "menu", "rooms"})
 public class XmlSerializableConcierge {
 
     public static final String MESSAGE_DUPLICATE_GUEST = "Archived guest list contains duplicate guest(s).";
     public static final String MESSAGE_DUPLICATE_ROOM = "Room list contains duplicate room(s).";
     public static final String MESSAGE_DUPLICATE_ITEM = "Menu contains items with same number.";
-    public static final String MESSAGE_ROOM_MISSING = "Room list is missing room(s) from total of "
-            + RoomNumber.MAX_ROOM_NUMBER + " rooms.";
+    public static final String MESSAGE_ROOM_MISSING =
+            "Room list is missing room(s) from the configured room inventory.";
 
     @XmlElement
     private List<XmlAdaptedGuest> guests;
@@ -65,50 +62,31 @@ public class XmlSerializableConcierge {
         }
     }
 
+    /**
+     * Conversion of a generated hotel, adding each guest and room as it is generated.
+     */
+    public XmlSerializableConcierge(SyntheticDataGenerator generator) {
+        this();
+        generator.generate(guest -> guests.add(new XmlAdaptedGuest(guest)),
+                room -> rooms.add(new XmlAdaptedRoom(room)));
+        generator.getMenu().forEach(item -> menu.add(new XmlAdaptedExpenseType(item)));
+    }
+
     /**
      * Converts this concierge into the model's {@code Concierge} object.
      * @throws IllegalValueException if there were any data constraints violated or duplicates in the
      * {@code XmlAdaptedGuest / XmlAdaptedRoom}
      */
     public Concierge toModelType() throws IllegalValueException {
-        Concierge concierge = new Concierge();
-        for (XmlAdaptedGuest p : guests) {
-            Guest guest = p.toModelType();
-            if (concierge.hasGuest(guest)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_GUEST);
-            }
-            concierge.addGuest(guest);
+        ConciergeBuilder builder = new ConciergeBuilder();
+        for (XmlAdaptedGuest guest : guests) {
+            builder.addGuest(guest.toModelType());
         }
-
-        HashMap<String, ExpenseType> newMenu = new HashMap<>();
-        for (XmlAdaptedExpenseType expenseType : menu) {
-            String key = expenseType.getItemNumber();
-            if (newMenu.containsKey(key)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ITEM);
-            }
-            newMenu.put(key, expenseType.toModelType());
-        }
-        concierge.setMenu(newMenu);
-
-        List<Room> modelRoomList = new LinkedList<>();
-        for (XmlAdaptedRoom r : rooms) {
-            Room room = r.toModelType(concierge.getMenu());
-            modelRoomList.add(room);
-
-            room.getBookings().getSortedBookingsSet().parallelStream()
-                    .filter(Booking::getIsCheckedIn)
-                    .map(Booking::getGuest)
-                    .forEach(concierge::addCheckedInGuestIfNotPresent);
-        }
-
-        try {
-            concierge.setRooms(modelRoomList);
-        } catch (DuplicateRoomException e) {
-            throw new IllegalValueException(MESSAGE_DUPLICATE_ROOM, e);
-        } catch (RoomMissingException e) {
-            throw new IllegalValueException(MESSAGE_ROOM_MISSING, e);
+        for (XmlAdaptedExpenseType item : menu) {
+            builder.addMenuItem(item.toModelType());
         }
-        return concierge;
+        builder.addRooms(rooms, builder.getMenu());
+        return builder.build();
     }
 
     @Override
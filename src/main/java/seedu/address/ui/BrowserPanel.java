@@ -11,13 +11,16 @@ import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
 import javafx.scene.web.WebView;
 import seedu.address.MainApp;
+import seedu.address.commons.core.EventLane;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SubscribeOn;
 import seedu.address.commons.events.ui.GuestPanelSelectionChangedEvent;
 import seedu.address.model.guest.Guest;
 
 /**
  * The Browser Panel of the App.
  */
+@SubscribeOn(EventLane.UI)
 public class BrowserPanel extends UiPart<Region> {
 
     public static final String DEFAULT_PAGE = "default.html";
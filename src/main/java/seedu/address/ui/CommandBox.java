@@ -3,18 +3,20 @@ package seedu.address.ui;
 import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Cursor;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.NewResultAvailableEvent;
+import seedu.address.logic.CommandExecutor;
 import seedu.address.logic.ListElementPointer;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -22,15 +24,20 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
     private static final String FXML = "CommandBox.fxml";
     private static final int DOUBLE_PRESS_DELAY = 300;
     private static final String MESSAGE_AUTOCOMPLETE_AVAILABLE = "Command Suggestions: ";
     private static final String MESSAGE_NO_MORE_COMMANDS_AVAILABLE = "No more commands are available";
     private static final String SPACING = " ";
     private static final String EMPTY_STRING = "";
+    /** How long a command runs for before the command box shows that it is busy */
+    private static final Duration BUSY_DELAY = Duration.millis(200);
 
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
+    private final CommandExecutor commandExecutor;
+    private final PauseTransition busyDelay = new PauseTransition(BUSY_DELAY);
     private ListElementPointer historySnapshot;
 
     private long previousCtrlPressTime;
@@ -38,9 +45,22 @@ public class CommandBox extends UiPart<Region> {
     @FXML
     private TextField commandTextField;
 
+    /**
+     * Creates a command box that runs commands on the JavaFX application thread.
+     */
     public CommandBox(Logic logic) {
+        this(logic, new CommandExecutor(logic));
+    }
+
+    /**
+     * Creates a command box that runs commands through {@code commandExecutor}.
+     * The user can keep typing while a command runs, and is shown that the command box is busy if it runs for long.
+     */
+    public CommandBox(Logic logic, CommandExecutor commandExecutor) {
         super(FXML);
         this.logic = logic;
+        this.commandExecutor = commandExecutor;
+        busyDelay.setOnFinished(unused -> setStyleToIndicateBusy());
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
         historySnapshot = logic.getHistorySnapshot();
@@ -121,22 +141,54 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            CommandResult commandResult = logic.execute(commandTextField.getText());
-            initHistory();
-            historySnapshot.next();
-            // process result of the command
+        String commandText = commandTextField.getText();
+        busyDelay.playFromStart();
+        commandExecutor.execute(commandText,
+                commandResult -> handleCommandResult(commandText, commandResult),
+                e -> handleCommandFailure(commandText, e));
+    }
+
+    /**
+     * Shows the result of {@code commandText}. The text field is only cleared if the user has not changed it since
+     * entering the command.
+     */
+    private void handleCommandResult(String commandText, CommandResult commandResult) {
+        handleCommandFinished();
+        initHistory();
+        historySnapshot.next();
+        // process result of the command
+        if (commandTextField.getText().equals(commandText)) {
             commandTextField.setText("");
-            logger.info("Result: " + commandResult.feedbackToUser);
-            raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
+        }
+        logger.info("Result: " + commandResult.feedbackToUser);
+        raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
+    }
 
-        } catch (CommandException | ParseException e) {
-            initHistory();
-            // handle command failure
+    /**
+     * Shows why {@code commandText} failed. The text field is only marked as having failed if the user has not
+     * changed it since entering the command.
+     */
+    private void handleCommandFailure(String commandText, Exception e) {
+        handleCommandFinished();
+        initHistory();
+        // handle command failure
+        if (commandTextField.getText().equals(commandText)) {
             setStyleToIndicateCommandFailure();
-            logger.info("Invalid command: " + commandTextField.getText());
-            raise(new NewResultAvailableEvent(e.getMessage()));
         }
+        logger.info("Invalid command: " + commandText);
+        raise(new NewResultAvailableEvent(e.getMessage()));
+    }
+
+    /**
+     * Stops showing that the command box is busy once no commands are left to run.
+     */
+    private void handleCommandFinished() {
+        if (commandExecutor.getPendingCount() > 0) {
+            return;
+        }
+        busyDelay.stop();
+        commandTextField.getStyleClass().remove(BUSY_STYLE_CLASS);
+        commandTextField.setCursor(Cursor.TEXT);
     }
 
     /**
@@ -156,6 +208,20 @@ public class CommandBox extends UiPart<Region> {
         commandTextField.getStyleClass().remove(ERROR_STYLE_CLASS);
     }
 
+    /**
+     * Sets the command box style to indicate that a command is still running.
+     */
+    private void setStyleToIndicateBusy() {
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+
+        if (styleClass.contains(BUSY_STYLE_CLASS)) {
+            return;
+        }
+
+        styleClass.add(BUSY_STYLE_CLASS);
+        commandTextField.setCursor(Cursor.WAIT);
+    }
+
     /**
      * Sets the command box style to indicate a failed command.
      */
@@ -0,0 +1,106 @@
+package seedu.address.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A read-only copy of an observable list that only changes on the JavaFX application thread, so that it can be shown
+ * in the UI while the list it copies is changed by commands running on another thread.
+ *
+ * Changes to the source list are copied when they are made, and applied to the copy in the same order through
+ * {@link Platform#runLater}. Changes made on the JavaFX application thread are applied straight away, unless earlier
+ * changes are still waiting to be applied.
+ */
+public class FxThreadList<E> {
+
+    private final ObservableList<E> copy;
+    private final ObservableList<E> readOnlyCopy;
+    private final Executor fxThreadExecutor;
+    private final BooleanSupplier isFxThread;
+    /** The number of changes waiting to be applied on the JavaFX application thread */
+    private final AtomicInteger pendingChangeCount = new AtomicInteger();
+
+    /**
+     * Creates a copy of {@code source}. Must be called on the JavaFX application thread, while {@code source} is
+     * not being changed.
+     */
+    public FxThreadList(ObservableList<? extends E> source) {
+        this(source, Platform::runLater, Platform::isFxApplicationThread);
+    }
+
+    /**
+     * Creates a copy of {@code source} whose changes are applied through {@code fxThreadExecutor}, and applied
+     * straight away when {@code isFxThread} is true and no changes are waiting.
+     */
+    FxThreadList(ObservableList<? extends E> source, Executor fxThreadExecutor, BooleanSupplier isFxThread) {
+        this.fxThreadExecutor = fxThreadExecutor;
+        this.isFxThread = isFxThread;
+        copy = FXCollections.observableArrayList(source);
+        readOnlyCopy = FXCollections.unmodifiableObservableList(copy);
+        source.addListener(this::handleSourceChanged);
+    }
+
+    /**
+     * Returns the copy, which can only be read.
+     */
+    public ObservableList<E> asObservableList() {
+        return readOnlyCopy;
+    }
+
+    private void handleSourceChanged(ListChangeListener.Change<? extends E> change) {
+        List<Runnable> edits = new ArrayList<>();
+        while (change.next()) {
+            edits.add(getEdit(change));
+        }
+
+        if (isFxThread.getAsBoolean() && pendingChangeCount.get() == 0) {
+            edits.forEach(Runnable::run);
+            return;
+        }
+        pendingChangeCount.incrementAndGet();
+        fxThreadExecutor.execute(() -> {
+            edits.forEach(Runnable::run);
+            pendingChangeCount.decrementAndGet();
+        });
+    }
+
+    /**
+     * Returns the edit that makes the same change to the copy as the current step of {@code change}.
+     * The items involved are copied now, as the source list may have changed again by the time the edit is applied.
+     */
+    private Runnable getEdit(ListChangeListener.Change<? extends E> change) {
+        int from = change.getFrom();
+        if (change.wasPermutated() || change.wasUpdated()) {
+            return getReplaceEdit(from, new ArrayList<>(change.getList().subList(from, change.getTo())));
+        }
+
+        int removedSize = change.getRemovedSize();
+        List<E> added = new ArrayList<>(change.getAddedSubList());
+        if (removedSize == added.size()) {
+            return getReplaceEdit(from, added);
+        }
+        return () -> {
+            copy.remove(from, from + removedSize);
+            copy.addAll(from, added);
+        };
+    }
+
+    /**
+     * Returns the edit that replaces the items of the copy from {@code from} onwards with {@code items}, one by one.
+     */
+    private Runnable getReplaceEdit(int from, List<E> items) {
+        return () -> {
+            for (int i = 0; i < items.size(); i++) {
+                copy.set(from + i, items.get(i));
+            }
+        };
+    }
+}
@@ -10,13 +10,16 @@ import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.EventLane;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SubscribeOn;
 import seedu.address.commons.events.ui.GuestPanelSelectionChangedEvent;
 import seedu.address.model.guest.Guest;
 
 /**
  * Panel containing the list of one guest.
  */
+@SubscribeOn(EventLane.UI)
 public class GuestDetailedPanel extends UiPart<Region> {
     private static final String FXML = "GuestDetailedPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(GuestDetailedPanel.class);
@@ -10,7 +10,9 @@ import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.EventLane;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SubscribeOn;
 import seedu.address.commons.events.ui.GuestPanelSelectionChangedEvent;
 import seedu.address.commons.events.ui.JumpToListRequestEvent;
 import seedu.address.logic.parser.CliSyntax;
@@ -19,6 +21,7 @@ import seedu.address.model.guest.Guest;
 /**
  * Panel containing the list of guests.
  */
+@SubscribeOn(EventLane.UI)
 public class GuestListPanel extends UiPart<Region> {
     private static final String FXML = "GuestListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(GuestListPanel.class);
@@ -1,9 +1,11 @@
 package seedu.address.ui;
 
+import java.time.Duration;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -14,25 +16,38 @@ import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.EventLane;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SubscribeOn;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.events.ui.ShowHelpRequestEvent;
+import seedu.address.logic.CommandExecutor;
 import seedu.address.logic.Logic;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.guest.Guest;
+import seedu.address.model.room.Room;
 
 /**
  * The Main Window. Provides the basic application layout containing
  * a menu bar and space where other JavaFX elements can be placed.
  */
+@SubscribeOn(EventLane.UI)
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final Duration COMMAND_SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandExecutor commandExecutor;
+
+    // Copies of the lists of the model that only change on the JavaFX application thread
+    private FxThreadList<Guest> guestList;
+    private FxThreadList<Guest> checkedInGuestList;
+    private FxThreadList<Room> roomList;
 
     // Independent Ui parts residing in this Ui container
     private GuestListPanel guestListPanel;
@@ -97,6 +112,16 @@ public class MainWindow extends UiPart<Stage> {
         registerAsAnEventHandler(this);
 
         helpWindow = new HelpWindow();
+
+        // Commands only run off the JavaFX application thread if the UI hears of their events on that thread
+        if (config.isEventDeliveryAsync()) {
+            commandExecutor = new CommandExecutor(logic, Platform::runLater);
+        } else {
+            commandExecutor = new CommandExecutor(logic);
+        }
+        guestList = new FxThreadList<>(logic.getFilteredGuestList());
+        checkedInGuestList = new FxThreadList<>(logic.getFilteredCheckedInGuestList());
+        roomList = new FxThreadList<>(logic.getFilteredRoomList());
     }
 
     public Stage getPrimaryStage() {
@@ -142,10 +167,10 @@ public class MainWindow extends UiPart<Stage> {
      * Initial state only displays guest list and detailed guest panel.
      */
     void fillInnerParts() {
-        guestListPanel = new GuestListPanel(logic.getFilteredGuestList());
+        guestListPanel = new GuestListPanel(guestList.asObservableList());
         guestListPanelPlaceholder.getChildren().add(guestListPanel.getRoot());
 
-        roomListPanel = new RoomListPanel(logic.getFilteredRoomList());
+        roomListPanel = new RoomListPanel(roomList.asObservableList());
         roomListPanelPlaceholder.getChildren().add(roomListPanel.getRoot());
 
         ResultDisplay resultDisplay = new ResultDisplay();
@@ -154,7 +179,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(prefs.getConciergeFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(logic);
+        CommandBox commandBox = new CommandBox(logic, commandExecutor);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         guestDetailedPanel = new GuestDetailedPanel();
@@ -171,6 +196,23 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
+    /**
+     * Waits for the commands that have been entered to finish running.
+     * Returns false if commands were still running when it stopped waiting.
+     */
+    boolean stopCommands() {
+        try {
+            if (commandExecutor.shutdown(COMMAND_SHUTDOWN_TIMEOUT)) {
+                return true;
+            }
+            logger.warning("Commands were still running when the app stopped");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for commands to finish running");
+        }
+        return false;
+    }
+
     private void setTitle(String appTitle) {
         primaryStage.setTitle(appTitle);
     }
@@ -264,7 +306,7 @@ public class MainWindow extends UiPart<Stage> {
      * Sets the observable list of the guest list panel to be the list of checked-in guests
      */
     public void setGuestListPanelDisplayCheckedInGuestList() {
-        guestListPanel = new GuestListPanel(logic.getFilteredCheckedInGuestList());
+        guestListPanel = new GuestListPanel(checkedInGuestList.asObservableList());
         guestListPanelPlaceholder.getChildren().add(guestListPanel.getRoot());
     }
 
@@ -272,7 +314,7 @@ public class MainWindow extends UiPart<Stage> {
      * Sets the observable list of the guest list panel to be the list of archived guests
      */
     public void setGuestListPanelDisplayGuestList() {
-        guestListPanel = new GuestListPanel(logic.getFilteredGuestList());
+        guestListPanel = new GuestListPanel(guestList.asObservableList());
         guestListPanelPlaceholder.getChildren().add(guestListPanel.getRoot());
     }
 
@@ -11,7 +11,9 @@ import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.EventLane;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SubscribeOn;
 import seedu.address.commons.events.ui.RoomListChangedEvent;
 import seedu.address.commons.events.ui.RoomPanelSelectionChangedEvent;
 import seedu.address.model.room.Room;
@@ -20,6 +22,7 @@ import seedu.address.model.room.Room;
 /**
  * Panel containing the list of one room.
  */
+@SubscribeOn(EventLane.UI)
 public class RoomDetailedPanel extends UiPart<Region> {
     private static final String FXML = "RoomDetailedPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(RoomDetailedPanel.class);
@@ -84,6 +87,7 @@ public class RoomDetailedPanel extends UiPart<Region> {
         for (Room room : changedRoomList) {
             if (room.isSameRoom(displayedRoom)) {
                 setRoomDetails(room);
+                break;
             }
         }
     }
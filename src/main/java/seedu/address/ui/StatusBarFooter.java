@@ -13,12 +13,15 @@ import com.google.common.eventbus.Subscribe;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.EventLane;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.events.model.ConciergeChangedEvent;
+import seedu.address.commons.core.SubscribeOn;
+import seedu.address.commons.events.storage.DataSavedEvent;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
  */
+@SubscribeOn(EventLane.UI)
 public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
@@ -74,10 +77,12 @@ public class StatusBarFooter extends UiPart<Region> {
     }
 
     @Subscribe
-    public void handleConciergeChangedEvent(ConciergeChangedEvent abce) {
+    public void handleDataSavedEvent(DataSavedEvent event) {
         long now = clock.millis();
         String lastUpdated = new Date(now).toString();
-        logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Setting last updated status to " + lastUpdated));
         setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
+        // the data may be saved somewhere other than the data file in the preferences, e.g. when it is generated
+        setSaveLocation(Paths.get(".").resolve(event.filePath).toString());
     }
 }
@@ -10,7 +10,9 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
-    /** Stops the UI. */
-    void stop();
+    /**
+     * Stops the UI. Returns false if commands entered by the user were still running when the UI stopped.
+     */
+    boolean stop();
 
 }
@@ -16,7 +16,9 @@ import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.EventLane;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SubscribeOn;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.events.ui.DeselectGuestListEvent;
 import seedu.address.commons.events.ui.ListingChangedEvent;
@@ -27,6 +29,7 @@ import seedu.address.model.UserPrefs;
 /**
  * The manager of the UI component.
  */
+@SubscribeOn(EventLane.UI)
 public class UiManager extends ComponentManager implements Ui {
 
     public static final String ALERT_DIALOG_PANE_FIELD_ID = "alertDialogPane";
@@ -69,9 +72,10 @@ public class UiManager extends ComponentManager implements Ui {
     }
 
     @Override
-    public void stop() {
+    public boolean stop() {
         prefs.updateLastUsedGuiSetting(mainWindow.getCurrentGuiSetting());
         mainWindow.hide();
+        return mainWindow.stopCommands();
     }
 
     private void showFileOperationAlertAndWait(String description, String details, Throwable cause) {
@@ -119,8 +123,9 @@ public class UiManager extends ComponentManager implements Ui {
     @Subscribe
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE, FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE,
-                event.exception);
+        // Raised on the storage thread, while dialogs can only be shown on the JavaFX thread
+        Platform.runLater(() -> showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE,
+                FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE, event.exception));
     }
 
     @Subscribe
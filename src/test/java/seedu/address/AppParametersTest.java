@@ -1,6 +1,7 @@
 package seedu.address;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import java.nio.file.Paths;
 import java.util.Collections;
@@ -37,6 +38,23 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validGeneratorParameters_success() {
+        parametersStub.namedParameters.put("generate", "42");
+        parametersStub.namedParameters.put("guests", "50000");
+        expected.setGeneratorSeed(42L);
+        expected.setGeneratorGuestCount(50000);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidGeneratorParameters_success() {
+        parametersStub.namedParameters.put("generate", "seed");
+        parametersStub.namedParameters.put("guests", "-1");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+        assertFalse(AppParameters.parse(parametersStub).getSyntheticDataGenerator().isPresent());
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
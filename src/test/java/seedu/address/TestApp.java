@@ -5,8 +5,11 @@ import static seedu.address.testutil.LogInUtil.VALID_USERNAME;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.function.Supplier;
 
+import org.testfx.util.WaitForAsyncUtils;
+
 import javafx.stage.Screen;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
@@ -36,9 +39,13 @@ public class TestApp extends MainApp {
             TestUtil.getFilePathInSandboxFolder("sampleData.xml");
     public static final Path PASSWORD_LOCATION_FOR_TESTING =
             TestUtil.getFilePathInSandboxFolder("pass_testing.json");
+    public static final Path METRICS_LOCATION_FOR_TESTING =
+            TestUtil.getFilePathInSandboxFolder("metrics_testing.json");
 
     public static final String APP_TITLE = "Test App";
 
+    private static final Duration STORAGE_FLUSH_TIMEOUT = Duration.ofSeconds(10);
+
     protected static final Path DEFAULT_PREF_FILE_LOCATION_FOR_TESTING =
             TestUtil.getFilePathInSandboxFolder("pref_testing.json");
     protected Supplier<ReadOnlyConcierge> initialDataSupplier = () -> null;
@@ -65,6 +72,9 @@ public class TestApp extends MainApp {
         Config config = super.initConfig(configFilePath);
         config.setAppTitle(APP_TITLE);
         config.setUserPrefsFilePath(DEFAULT_PREF_FILE_LOCATION_FOR_TESTING);
+        config.setMetricsFilePath(METRICS_LOCATION_FOR_TESTING);
+        // GUI tests check the UI as soon as a command returns
+        config.setEventDeliveryAsync(false);
         return config;
     }
 
@@ -98,6 +108,20 @@ public class TestApp extends MainApp {
         }
     }
 
+    /**
+     * Waits for the changes made so far to be saved, and for the status bar to show that they were saved.
+     */
+    public void flushStorage() {
+        try {
+            if (!storage.flushConcierge(STORAGE_FLUSH_TIMEOUT)) {
+                throw new AssertionError("Changes were not saved in time.");
+            }
+        } catch (InterruptedException ie) {
+            throw new AssertionError("Interrupted while waiting for changes to be saved.", ie);
+        }
+        WaitForAsyncUtils.waitForFxEvents();
+    }
+
     /**
      * Returns the file path of the storage file.
      */
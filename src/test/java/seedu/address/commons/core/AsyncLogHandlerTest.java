@@ -0,0 +1,168 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class AsyncLogHandlerTest {
+
+    private static final Duration FLUSH_TIMEOUT = Duration.ofSeconds(5);
+    private static final int RECORD_COUNT = 100;
+
+    private final RecordingHandler target = new RecordingHandler();
+    private AsyncLogHandler handler;
+
+    @After
+    public void tearDown() {
+        target.release.countDown();
+        handler.close();
+    }
+
+    @Test
+    public void publish_records_handedToTargetInOrderOnDrainThread() {
+        target.release.countDown();
+        handler = new AsyncLogHandler(RECORD_COUNT, AsyncLogHandler.OverflowPolicy.BLOCK, target);
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            handler.publish(new LogRecord(Level.INFO, "record " + i));
+            expected.add("record " + i);
+        }
+        assertTrue(handler.flush(FLUSH_TIMEOUT));
+        assertEquals(expected, target.messages);
+        assertFalse(target.threadNames.contains(Thread.currentThread().getName()));
+        assertTrue(target.isFlushed);
+    }
+
+    @Test
+    public void publish_belowLevel_notHandedToTarget() {
+        target.release.countDown();
+        handler = new AsyncLogHandler(RECORD_COUNT, AsyncLogHandler.OverflowPolicy.BLOCK, target);
+        handler.setLevel(Level.INFO);
+
+        handler.publish(new LogRecord(Level.FINE, "fine"));
+        handler.publish(new LogRecord(Level.INFO, "info"));
+        assertTrue(handler.flush(FLUSH_TIMEOUT));
+        assertEquals(Collections.singletonList("info"), target.messages);
+        assertEquals(Level.INFO, target.getLevel());
+    }
+
+    @Test
+    public void publish_callerOfRecord_foundOnLoggingThread() {
+        target.release.countDown();
+        handler = new AsyncLogHandler(RECORD_COUNT, AsyncLogHandler.OverflowPolicy.BLOCK, target);
+
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+        logger.info("record");
+        assertTrue(handler.flush(FLUSH_TIMEOUT));
+        assertEquals(AsyncLogHandlerTest.class.getName(), target.sourceClassNames.get(0));
+    }
+
+    @Test
+    public void publish_bufferFullDropNewest_newestDroppedAndCounted() throws Exception {
+        handler = new AsyncLogHandler(2, AsyncLogHandler.OverflowPolicy.DROP_NEWEST, target);
+        fillBuffer();
+        handler.publish(new LogRecord(Level.INFO, "dropped"));
+
+        target.release.countDown();
+        assertTrue(handler.flush(FLUSH_TIMEOUT));
+        assertEquals(Arrays.asList("blocking", "first", "second",
+                "1 log records were dropped as the log buffer was full"), target.messages);
+    }
+
+    @Test
+    public void publish_bufferFullDropOldest_oldestDropped() throws Exception {
+        handler = new AsyncLogHandler(2, AsyncLogHandler.OverflowPolicy.DROP_OLDEST, target);
+        fillBuffer();
+        handler.publish(new LogRecord(Level.INFO, "third"));
+
+        target.release.countDown();
+        assertTrue(handler.flush(FLUSH_TIMEOUT));
+        assertEquals(Arrays.asList("blocking", "second", "third",
+                "1 log records were dropped as the log buffer was full"), target.messages);
+    }
+
+    @Test
+    public void flush_targetBusy_returnsFalse() throws Exception {
+        handler = new AsyncLogHandler(2, AsyncLogHandler.OverflowPolicy.BLOCK, target);
+        fillBuffer();
+        assertFalse(handler.flush(Duration.ofMillis(10)));
+    }
+
+    @Test
+    public void close_bufferedRecords_handedToTargetAndTargetClosed() throws Exception {
+        handler = new AsyncLogHandler(2, AsyncLogHandler.OverflowPolicy.BLOCK, target);
+        fillBuffer();
+
+        target.release.countDown();
+        handler.close();
+        assertEquals(Arrays.asList("blocking", "first", "second"), target.messages);
+        assertTrue(target.isClosed);
+
+        // records logged after closing are handed to the target directly
+        handler.publish(new LogRecord(Level.INFO, "after close"));
+        assertEquals("after close", target.messages.get(3));
+    }
+
+    /**
+     * Publishes a record that the target blocks on, and then fills the buffer with two more.
+     */
+    private void fillBuffer() throws InterruptedException {
+        handler.publish(new LogRecord(Level.INFO, "blocking"));
+        target.isBlocked.await();
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        handler.publish(new LogRecord(Level.INFO, "second"));
+    }
+
+    /**
+     * Records the messages it is given, and waits to be released before it handles the first one.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> sourceClassNames = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch isBlocked = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean isFlushed;
+        private volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            isBlocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(record.getMessage());
+            threadNames.add(Thread.currentThread().getName());
+            sourceClassNames.add(record.getSourceClassName());
+        }
+
+        @Override
+        public void flush() {
+            isFlushed = true;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.events.BaseEvent;
+
+public class EventsCenterTest {
+
+    private static final Duration FLUSH_TIMEOUT = Duration.ofSeconds(5);
+    private static final int EVENT_COUNT = 100;
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void post_defaultDelivery_deliveredOnPostingThread() {
+        StorageLaneHandler handler = new StorageLaneHandler();
+        EventsCenter.getInstance().registerHandler(handler);
+
+        EventsCenter.getInstance().post(new TestEvent(1));
+        assertEquals(Collections.singletonList(1), handler.values);
+        assertEquals(Thread.currentThread().getName(), handler.threadName);
+    }
+
+    @Test
+    public void post_asyncDelivery_deliveredOnLaneInOrder() throws Exception {
+        EventsCenter.getInstance().enableAsyncDelivery();
+        StorageLaneHandler handler = new StorageLaneHandler();
+        EventsCenter.getInstance().registerHandler(handler);
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            EventsCenter.getInstance().post(new TestEvent(i));
+            expected.add(i);
+        }
+        assertTrue(EventsCenter.getInstance().flush(FLUSH_TIMEOUT));
+        assertEquals(expected, handler.values);
+        assertNotEquals(Thread.currentThread().getName(), handler.threadName);
+    }
+
+    @Test
+    public void post_asyncDeliveryUnannotatedHandler_deliveredOnPostingThread() {
+        EventsCenter.getInstance().enableAsyncDelivery();
+        PosterLaneHandler handler = new PosterLaneHandler();
+        EventsCenter.getInstance().registerHandler(handler);
+
+        EventsCenter.getInstance().post(new TestEvent(1));
+        assertEquals(Collections.singletonList(1), handler.values);
+    }
+
+    @Test
+    public void flush_busyHandler_returnsFalseUntilDelivered() throws Exception {
+        EventsCenter.getInstance().enableAsyncDelivery();
+        BlockingHandler handler = new BlockingHandler();
+        EventsCenter.getInstance().registerHandler(handler);
+
+        EventsCenter.getInstance().post(new TestEvent(1));
+        assertFalse(EventsCenter.getInstance().flush(Duration.ofMillis(10)));
+        handler.release.countDown();
+        assertTrue(EventsCenter.getInstance().flush(FLUSH_TIMEOUT));
+    }
+
+    @Test
+    public void post_noSubscribers_countedAsUnsubscribed() {
+        EventsCenter.getInstance().post(new TestEvent(1));
+
+        EventStatistics.EventTypeStatistics statistics =
+                EventsCenter.getInstance().getStatistics().getEventType(TestEvent.class);
+        assertEquals(1, statistics.getPostCount());
+        assertEquals(1, statistics.getUnsubscribedCount());
+    }
+
+    @Test
+    public void post_subscribedHandler_handledCounted() throws Exception {
+        EventsCenter.getInstance().enableAsyncDelivery();
+        EventsCenter.getInstance().registerHandler(new StorageLaneHandler());
+        EventsCenter.getInstance().registerHandler(new PosterLaneHandler());
+
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            EventsCenter.getInstance().post(new TestEvent(i));
+        }
+        assertTrue(EventsCenter.getInstance().flush(FLUSH_TIMEOUT));
+
+        EventStatistics statistics = EventsCenter.getInstance().getStatistics();
+        assertEquals(0, statistics.getEventType(TestEvent.class).getUnsubscribedCount());
+        assertEquals(EVENT_COUNT, statistics.getSubscriber("StorageLaneHandler").getHandledCount());
+        assertEquals(EVENT_COUNT, statistics.getSubscriber("PosterLaneHandler").getHandledCount());
+        assertTrue(statistics.getReport().contains("TestEvent: " + EVENT_COUNT + " posted, 0 with no subscribers"));
+    }
+
+    @Test
+    public void post_throwingHandler_failureCountedAndOtherHandlersDelivered() {
+        PosterLaneHandler handler = new PosterLaneHandler();
+        EventsCenter.getInstance().registerHandler(new ThrowingHandler());
+        EventsCenter.getInstance().registerHandler(handler);
+
+        EventsCenter.getInstance().post(new TestEvent(1));
+        assertEquals(Collections.singletonList(1), handler.values);
+        assertEquals(1, EventsCenter.getInstance().getStatistics().getSubscriber("ThrowingHandler")
+                .getFailureCount());
+    }
+
+    @Test
+    public void post_eventPostedByHandler_deliveredAfterCurrentEvent() {
+        PosterLaneHandler handler = new PosterLaneHandler();
+        EventsCenter.getInstance().registerHandler(new RepostingHandler());
+        EventsCenter.getInstance().registerHandler(handler);
+
+        EventsCenter.getInstance().post(new TestEvent(1));
+        assertEquals(Arrays.asList(1, 2), handler.values);
+    }
+
+    @Test
+    public void registerHandler_sameHandlerTwice_deliveredOnce() {
+        PosterLaneHandler handler = new PosterLaneHandler();
+        EventsCenter.getInstance().registerHandler(handler);
+        EventsCenter.getInstance().registerHandler(handler);
+
+        EventsCenter.getInstance().post(new TestEvent(1));
+        assertEquals(Collections.singletonList(1), handler.values);
+    }
+
+    /**
+     * An event that carries a number.
+     */
+    private static class TestEvent extends BaseEvent {
+        private final int value;
+
+        TestEvent(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return "test event " + value;
+        }
+    }
+
+    /**
+     * Records the events it receives, and the thread it last received one on.
+     */
+    public static class PosterLaneHandler {
+        protected final List<Integer> values = Collections.synchronizedList(new ArrayList<>());
+        protected volatile String threadName;
+
+        @Subscribe
+        public void handleTestEvent(TestEvent event) {
+            values.add(event.value);
+            threadName = Thread.currentThread().getName();
+        }
+    }
+
+    @SubscribeOn(EventLane.STORAGE)
+    public static class StorageLaneHandler extends PosterLaneHandler {}
+
+    /**
+     * Throws on every event.
+     */
+    public static class ThrowingHandler {
+        @Subscribe
+        public void handleTestEvent(TestEvent event) {
+            throw new IllegalStateException("test failure");
+        }
+    }
+
+    /**
+     * Posts an event with the next number on receiving the first event.
+     */
+    public static class RepostingHandler {
+        @Subscribe
+        public void handleTestEvent(TestEvent event) {
+            if (event.value == 1) {
+                EventsCenter.getInstance().post(new TestEvent(2));
+            }
+        }
+    }
+
+    /**
+     * Waits to be released before it finishes handling an event.
+     */
+    @SubscribeOn(EventLane.BACKGROUND)
+    public static class BlockingHandler {
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Subscribe
+        public void handleTestEvent(TestEvent event) throws InterruptedException {
+            release.await();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getBucket_smallValues_ownBucket() {
+        for (long value = 0; value < 4; value++) {
+            assertEquals(value, LatencyHistogram.getBucket(value));
+        }
+    }
+
+    @Test
+    public void getBucketUpperBound_everyBucket_containsItsBounds() {
+        long lowerBound = 0;
+        for (int bucket = 0; bucket < 248; bucket++) {
+            long upperBound = LatencyHistogram.getBucketUpperBound(bucket);
+            assertEquals(bucket, LatencyHistogram.getBucket(lowerBound));
+            assertEquals(bucket, LatencyHistogram.getBucket(upperBound));
+            // buckets are at most a quarter of their lower bound wide
+            assertTrue(upperBound - lowerBound <= Math.max(lowerBound / 4, 0));
+            lowerBound = upperBound + 1;
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.getBucketUpperBound(LatencyHistogram.getBucket(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void record_noDurations_zeroSummary() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMeanNanos());
+        assertEquals(0, histogram.getPercentileNanos(50));
+        assertEquals("mean 0.000 ms, p50 0.000 ms, p99 0.000 ms, max 0.000 ms", histogram.getSummary());
+    }
+
+    @Test
+    public void record_manyDurations_percentilesWithinBucketWidth() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros * 1000);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500_500, histogram.getMeanNanos());
+        assertEquals(1_000_000, histogram.getMaxNanos());
+        assertWithinQuarter(500_000, histogram.getPercentileNanos(50));
+        assertWithinQuarter(990_000, histogram.getPercentileNanos(99));
+        assertEquals(1_000_000, histogram.getPercentileNanos(100));
+    }
+
+    @Test
+    public void record_negativeDuration_recordedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+    }
+
+    @Test
+    public void formatNanos() {
+        assertEquals("1.500 ms", LatencyHistogram.formatNanos(1_500_000));
+    }
+
+    private static void assertWithinQuarter(long expected, long actual) {
+        assertTrue(actual + " is not close to " + expected, actual >= expected && actual <= expected * 5 / 4);
+    }
+}
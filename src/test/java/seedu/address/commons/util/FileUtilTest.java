@@ -1,14 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.address.testutil.Assert;
 
 public class FileUtilTest {
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     @Test
     public void isValidPath() {
         // valid path
@@ -21,4 +30,40 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_existingFile_replacedWithoutTempFiles() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("dir").resolve("file.txt");
+        FileUtil.writeAtomically(file, null, out -> out.write("first".getBytes()));
+        FileUtil.writeAtomically(file, null, out -> out.write("second".getBytes()));
+
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertEquals(1, file.getParent().toFile().list().length);
+    }
+
+    @Test
+    public void writeAtomically_previousFile_replacedFileKept() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("file.txt");
+        Path previousFile = testFolder.getRoot().toPath().resolve("file.txt.old");
+        FileUtil.writeAtomically(file, previousFile, out -> out.write("first".getBytes()));
+        assertFalse(previousFile.toFile().exists());
+
+        FileUtil.writeAtomically(file, previousFile, out -> out.write("second".getBytes()));
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertEquals("first", FileUtil.readFromFile(previousFile));
+        assertEquals(2, testFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("file.txt");
+        FileUtil.writeAtomically(file, null, out -> out.write("first".getBytes()));
+
+        Assert.assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, null, out -> {
+            out.write("second".getBytes());
+            throw new IOException("disk full");
+        }));
+        assertEquals("first", FileUtil.readFromFile(file));
+        assertEquals(1, testFolder.getRoot().list().length);
+    }
+
 }
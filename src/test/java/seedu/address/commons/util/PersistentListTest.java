@@ -0,0 +1,106 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class PersistentListTest {
+
+    private final PersistentList<String> list = PersistentList.copyOf(Arrays.asList("a", "b", "c"));
+
+    @Test
+    public void copyOf_list_sameElementsInOrder() {
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+        assertEquals(3, list.size());
+        assertEquals("b", list.get(1));
+        assertEquals(Arrays.asList("a", "b", "c").hashCode(), list.hashCode());
+    }
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> PersistentList.copyOf(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void plusFirst_element_originalUnchanged() {
+        PersistentList<String> prepended = list.plusFirst("z");
+        assertEquals(Arrays.asList("z", "a", "b", "c"), prepended);
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+    }
+
+    @Test
+    public void getElementsInFrontOf_prependedList_prependedElements() {
+        PersistentList<String> prepended = list.plusFirst("y").plusFirst("z");
+        assertEquals(Optional.of(Arrays.asList("z", "y")), prepended.getElementsInFrontOf(list));
+        assertEquals(Optional.of(Collections.emptyList()), list.getElementsInFrontOf(list));
+        assertEquals(Optional.of(list), list.getElementsInFrontOf(PersistentList.empty()));
+    }
+
+    @Test
+    public void getElementsInFrontOf_unrelatedList_empty() {
+        // equal elements are not enough, the nodes must be shared
+        PersistentList<String> copy = PersistentList.copyOf(Arrays.asList("a", "b", "c"));
+        assertFalse(copy.plusFirst("z").getElementsInFrontOf(list).isPresent());
+        assertFalse(list.getElementsInFrontOf(list.plusFirst("z")).isPresent());
+        assertFalse(PersistentList.<String>empty().plusFirst("a").getElementsInFrontOf(list).isPresent());
+    }
+
+    @Test
+    public void empty_isEmpty() {
+        assertTrue(PersistentList.empty().isEmpty());
+        assertEquals(Collections.emptyList(), PersistentList.empty());
+    }
+
+    @Test
+    public void lastIndexOf() {
+        List<String> expected = new LinkedList<>(Arrays.asList("a", "b", "a"));
+        PersistentList<String> actual = PersistentList.copyOf(expected);
+        assertEquals(expected.lastIndexOf("a"), actual.lastIndexOf("a"));
+        assertEquals(-1, actual.lastIndexOf("z"));
+    }
+
+    @Test
+    public void listIterator_backwardsFromEnd_elementsInReverseOrder() {
+        ListIterator<String> iterator = list.listIterator(list.size());
+        assertEquals(Arrays.asList("c", "b", "a"), Arrays.asList(iterator.previous(), iterator.previous(),
+                iterator.previous()));
+        assertFalse(iterator.hasPrevious());
+        assertEquals(-1, iterator.previousIndex());
+        Assert.assertThrows(NoSuchElementException.class, iterator::previous);
+    }
+
+    @Test
+    public void listIterator_forwardsAndBackwards_matchesLinkedList() {
+        ListIterator<String> expected = new LinkedList<>(list).listIterator(1);
+        ListIterator<String> actual = list.listIterator(1);
+        for (boolean forwards : new boolean[] {true, false, false, true, true, true, false, false, false}) {
+            assertEquals(expected.hasNext(), actual.hasNext());
+            assertEquals(expected.hasPrevious(), actual.hasPrevious());
+            assertEquals(expected.nextIndex(), actual.nextIndex());
+            if (forwards && expected.hasNext()) {
+                assertEquals(expected.next(), actual.next());
+            } else if (!forwards && expected.hasPrevious()) {
+                assertEquals(expected.previous(), actual.previous());
+            }
+        }
+    }
+
+    @Test
+    public void mutators_throwUnsupportedOperationException() {
+        Assert.assertThrows(UnsupportedOperationException.class, () -> list.add("d"));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> list.set(0, "d"));
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class PersistentSortedSetTest {
+
+    private final PersistentSortedSet<Integer> set = PersistentSortedSet.copyOf(Arrays.asList(30, 10, 20, 10));
+
+    @Test
+    public void copyOf_unsortedWithDuplicates_sortedAndDistinct() {
+        assertEquals(Arrays.asList(10, 20, 30), new ArrayList<>(set));
+        assertEquals(3, set.size());
+    }
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> PersistentSortedSet.copyOf(Arrays.asList(1, null)));
+    }
+
+    @Test
+    public void plus_newElement_originalUnchanged() {
+        PersistentSortedSet<Integer> added = set.plus(15);
+        assertEquals(Arrays.asList(10, 15, 20, 30), new ArrayList<>(added));
+        assertEquals(Arrays.asList(10, 20, 30), new ArrayList<>(set));
+    }
+
+    @Test
+    public void plus_existingElement_returnsSameSet() {
+        assertSame(set, set.plus(20));
+    }
+
+    @Test
+    public void minus_existingElement_originalUnchanged() {
+        PersistentSortedSet<Integer> removed = set.minus(20);
+        assertEquals(Arrays.asList(10, 30), new ArrayList<>(removed));
+        assertEquals(Arrays.asList(10, 20, 30), new ArrayList<>(set));
+    }
+
+    @Test
+    public void minus_missingElement_returnsSameSet() {
+        assertSame(set, set.minus(25));
+        assertSame(set, set.minus("not an integer"));
+    }
+
+    @Test
+    public void navigation() {
+        assertEquals(Integer.valueOf(20), set.floor(20));
+        assertEquals(Integer.valueOf(20), set.floor(25));
+        assertNull(set.floor(5));
+        assertEquals(Integer.valueOf(10), set.lower(20));
+        assertEquals(Integer.valueOf(20), set.ceiling(20));
+        assertEquals(Integer.valueOf(30), set.ceiling(25));
+        assertNull(set.ceiling(35));
+        assertEquals(Integer.valueOf(30), set.higher(20));
+        assertEquals(Integer.valueOf(10), set.first());
+        assertEquals(Integer.valueOf(30), set.last());
+    }
+
+    @Test
+    public void mutators_throwUnsupportedOperationException() {
+        Assert.assertThrows(UnsupportedOperationException.class, () -> set.add(40));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> set.remove(10));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> set.clear());
+    }
+
+    @Test
+    public void randomOperations_matchTreeSet() {
+        Random random = new Random(42);
+        TreeSet<Integer> expected = new TreeSet<>();
+        PersistentSortedSet<Integer> actual = PersistentSortedSet.empty();
+        List<PersistentSortedSet<Integer>> history = new ArrayList<>();
+        List<List<Integer>> expectedHistory = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int value = random.nextInt(200);
+            if (random.nextBoolean()) {
+                expected.add(value);
+                actual = actual.plus(value);
+            } else {
+                expected.remove(value);
+                actual = actual.minus(value);
+            }
+            assertEquals(expected.size(), actual.size());
+            assertEquals(expected.floor(value), actual.floor(value));
+            assertEquals(expected.higher(value), actual.higher(value));
+            history.add(actual);
+            expectedHistory.add(new ArrayList<>(expected));
+        }
+        assertEquals(expected, actual);
+        assertTrue(actual.containsAll(expected));
+        assertFalse(actual.contains(-1));
+
+        // earlier versions are unaffected by later changes
+        for (int i = 0; i < history.size(); i++) {
+            assertEquals(expectedHistory.get(i), new ArrayList<>(history.get(i)));
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package seedu.address.commons.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -209,6 +211,20 @@ public class XmlUtilTest {
         assertEquals(dataToWrite, dataFromFile);
     }
 
+    @Test
+    public void saveDataToFile_notFormatted_dataSavedOnOneLine() throws Exception {
+        FileUtil.createFile(TEMP_FILE);
+        XmlSerializableConcierge dataToWrite =
+                new XmlSerializableConcierge(TypicalConcierge.getTypicalConciergeClean());
+        XmlUtil.saveDataToFile(TEMP_FILE, dataToWrite, false);
+        assertEquals(1, Files.readAllLines(TEMP_FILE).size());
+        assertEquals(dataToWrite, XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableConcierge.class));
+
+        // marshallers are reused, so formatting must be set again on every save
+        XmlUtil.saveDataToFile(TEMP_FILE, dataToWrite);
+        assertTrue(Files.readAllLines(TEMP_FILE).size() > 1);
+    }
+
     /**
      * Test class annotated with {@code XmlRootElement} to allow unmarshalling of .xml data to {@code XmlAdaptedGuest}
      * objects.
@@ -0,0 +1,132 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.CommandExecutor.MESSAGE_UNEXPECTED_FAILURE;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+
+public class CommandExecutorTest {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+    private static final String LIST_ROOMS = ListCommand.COMMAND_WORD + " -r";
+    private static final String LIST_GUESTS = ListCommand.COMMAND_WORD + " -g";
+    private static final String INVALID_COMMAND = "uicfhmowqewca";
+    private static final String THROW_ERROR = "throw error";
+    private static final String THROW_RUNTIME_EXCEPTION = "throw runtime exception";
+
+    private final Logic logic = new LogicManager(new ModelManager());
+    private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void execute_inline_runsOnCallingThread() throws Exception {
+        CommandExecutor executor = new CommandExecutor(logic);
+        execute(executor, LIST_ROOMS);
+        execute(executor, INVALID_COMMAND);
+
+        assertEquals(Arrays.asList(ListCommand.MESSAGE_SUCCESS, MESSAGE_UNKNOWN_COMMAND), messages);
+        assertEquals(Arrays.asList(Thread.currentThread().getName(), Thread.currentThread().getName()), threadNames);
+        assertEquals(0, executor.getPendingCount());
+        assertTrue(executor.shutdown(SHUTDOWN_TIMEOUT));
+    }
+
+    @Test
+    public void execute_worker_runsInOrderOffCallingThread() throws Exception {
+        CommandExecutor executor = new CommandExecutor(logic, Runnable::run);
+        execute(executor, LIST_ROOMS);
+        execute(executor, INVALID_COMMAND);
+        execute(executor, LIST_GUESTS);
+        assertTrue(executor.shutdown(SHUTDOWN_TIMEOUT));
+
+        assertEquals(Arrays.asList(ListCommand.MESSAGE_SUCCESS, MESSAGE_UNKNOWN_COMMAND, ListCommand.MESSAGE_SUCCESS),
+                messages);
+        assertFalse(threadNames.contains(Thread.currentThread().getName()));
+        assertEquals(new ListElementPointer(Arrays.asList(LIST_ROOMS, INVALID_COMMAND, LIST_GUESTS)),
+                logic.getHistorySnapshot());
+    }
+
+    @Test
+    public void getPendingCount_callbacksNotRun_countsCommands() throws Exception {
+        ConcurrentLinkedQueue<Runnable> callbacks = new ConcurrentLinkedQueue<>();
+        Executor callbackExecutor = callbacks::add;
+        CommandExecutor executor = new CommandExecutor(logic, callbackExecutor);
+        execute(executor, LIST_ROOMS);
+        execute(executor, INVALID_COMMAND);
+        assertTrue(executor.shutdown(SHUTDOWN_TIMEOUT));
+
+        // the commands have run, but their results have not been handed over
+        assertEquals(2, executor.getPendingCount());
+        assertTrue(messages.isEmpty());
+
+        callbacks.poll().run();
+        assertEquals(1, executor.getPendingCount());
+        callbacks.poll().run();
+        assertEquals(0, executor.getPendingCount());
+        assertEquals(Arrays.asList(ListCommand.MESSAGE_SUCCESS, MESSAGE_UNKNOWN_COMMAND), messages);
+    }
+
+    @Test
+    public void execute_commandThrowsUnexpectedly_failureHandedOverThenRethrown() throws Exception {
+        AssertionError error = new AssertionError("model invariant broken");
+        IllegalStateException exception = new IllegalStateException("model in an unexpected state");
+        Logic throwingLogic = new LogicManager(new ModelManager()) {
+            @Override
+            public CommandResult execute(String commandText) throws CommandException, ParseException {
+                if (commandText.equals(THROW_ERROR)) {
+                    throw error;
+                } else if (commandText.equals(THROW_RUNTIME_EXCEPTION)) {
+                    throw exception;
+                }
+                return super.execute(commandText);
+            }
+        };
+        List<Throwable> rethrown = Collections.synchronizedList(new ArrayList<>());
+        CommandExecutor executor = new CommandExecutor(throwingLogic, callback -> {
+            try {
+                callback.run();
+            } catch (RuntimeException | Error e) {
+                rethrown.add(e);
+            }
+        });
+        execute(executor, THROW_ERROR);
+        execute(executor, THROW_RUNTIME_EXCEPTION);
+        execute(executor, LIST_ROOMS);
+        assertTrue(executor.shutdown(SHUTDOWN_TIMEOUT));
+
+        // every command finishes, so nothing is left pending, and the worker keeps running commands after an error
+        assertEquals(0, executor.getPendingCount());
+        assertEquals(Arrays.asList(String.format(MESSAGE_UNEXPECTED_FAILURE, error),
+                String.format(MESSAGE_UNEXPECTED_FAILURE, exception), ListCommand.MESSAGE_SUCCESS), messages);
+        assertEquals(Arrays.asList(error, exception), rethrown);
+    }
+
+    /**
+     * Executes {@code commandText}, recording its result or failure message and the thread it was handed over on.
+     */
+    private void execute(CommandExecutor executor, String commandText) {
+        executor.execute(commandText, result -> {
+            messages.add(result.feedbackToUser);
+            threadNames.add(Thread.currentThread().getName());
+        }, e -> {
+            messages.add(e.getMessage());
+            threadNames.add(Thread.currentThread().getName());
+        });
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.CommandStatistics.CommandTimes;
+import seedu.address.logic.CommandStatistics.Phase;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.model.Model;
+
+public class CommandStatisticsTest {
+
+    private final CommandStatistics statistics = CommandStatistics.getInstance();
+
+    @Test
+    public void getCommand_sameType_sameTimes() {
+        assertSame(statistics.getCommand(HistoryCommand.class), statistics.getCommand(HistoryCommand.class));
+    }
+
+    @Test
+    public void getReport_recordedCommand_showsCommandWordAndPhases() {
+        CommandTimes times = statistics.getCommand(HistoryCommand.class);
+        times.record(Phase.PARSE, 1_000);
+        times.record(Phase.EXECUTE, 2_000);
+
+        String report = statistics.getReport();
+        assertTrue(report.contains("\n  " + HistoryCommand.COMMAND_WORD + ": " + times.getRunCount() + " run"));
+        assertTrue(report.contains("\n    Parse: "));
+        assertTrue(report.contains("\n    Save (" + times.getPhaseTimes(Phase.SAVE).getCount() + "): "));
+    }
+
+    @Test
+    public void getCommand_noCommandWord_simpleNameUsed() {
+        statistics.getCommand(CommandWithoutWord.class).record(Phase.EXECUTE, 1_000);
+        assertTrue(statistics.getMetrics().containsKey("CommandWithoutWord"));
+    }
+
+    @Test
+    public void getMetrics_recordedCommand_savedAsJson() throws Exception {
+        statistics.getCommand(HistoryCommand.class).record(Phase.EXECUTE, 3_000);
+
+        Map<String, Map<Phase, LatencyHistogram.Metrics>> metrics = statistics.getMetrics();
+        assertEquals(Phase.values().length, metrics.get(HistoryCommand.COMMAND_WORD).size());
+        String json = JsonUtil.toJsonString(metrics);
+        assertTrue(json.contains("\"" + HistoryCommand.COMMAND_WORD + "\""));
+        assertTrue(json.contains("\"EXECUTE\""));
+        assertTrue(json.contains("\"p99Nanos\""));
+    }
+
+    /**
+     * A command that does not declare a {@code COMMAND_WORD}.
+     */
+    private static class CommandWithoutWord extends Command {
+        @Override
+        public CommandResult execute(Model model, CommandHistory history) {
+            return new CommandResult("");
+        }
+    }
+}
@@ -3,16 +3,27 @@ package seedu.address.logic;
 import static org.junit.Assert.assertEquals;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.HASHED_PASSWORD_1;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_USERNAME_1;
+import static seedu.address.model.login.PasswordHashListTest.getSamplePasswordHashList;
+
+import java.nio.file.Paths;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.storage.DataSavedEvent;
+import seedu.address.logic.CommandStatistics.CommandTimes;
+import seedu.address.logic.CommandStatistics.Phase;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Concierge;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
@@ -52,6 +63,38 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void execute_validCommand_phasesTimed() throws Exception {
+        CommandTimes times = CommandStatistics.getInstance().getCommand(ListCommand.class);
+        long runCount = times.getRunCount();
+        long parseCount = times.getPhaseTimes(Phase.PARSE).getCount();
+        long commitCount = times.getPhaseTimes(Phase.COMMIT).getCount();
+
+        logic.execute(ListCommand.COMMAND_WORD + " -r");
+        assertEquals(runCount + 1, times.getRunCount());
+        assertEquals(parseCount + 1, times.getPhaseTimes(Phase.PARSE).getCount());
+        // nothing was changed
+        assertEquals(commitCount, times.getPhaseTimes(Phase.COMMIT).getCount());
+    }
+
+    @Test
+    public void execute_changingCommand_commitAndSaveTimed() throws Exception {
+        EventsCenter.clearSubscribers();
+        Model signedInModel = new ModelManager(new Concierge(), new UserPrefs(), getSamplePasswordHashList());
+        signedInModel.signIn(VALID_USERNAME_1, HASHED_PASSWORD_1);
+        Logic signedInLogic = new LogicManager(signedInModel);
+        CommandTimes times = CommandStatistics.getInstance().getCommand(ClearCommand.class);
+        long commitCount = times.getPhaseTimes(Phase.COMMIT).getCount();
+        long saveCount = times.getPhaseTimes(Phase.SAVE).getCount();
+
+        signedInLogic.execute(ClearCommand.COMMAND_WORD);
+        assertEquals(commitCount + 1, times.getPhaseTimes(Phase.COMMIT).getCount());
+
+        // the save of the change is counted against the command
+        EventsCenter.getInstance().post(new DataSavedEvent(Paths.get("data", "concierge.xml"), 1_000_000));
+        assertEquals(saveCount + 1, times.getPhaseTimes(Phase.SAVE).getCount());
+        EventsCenter.clearSubscribers();
+    }
 
     @Test
     public void getFilteredGuestList_modifyList_throwsUnsupportedOperationException() {
@@ -122,7 +165,8 @@ public class LogicManagerTest {
         try {
             CommandResult result = logic.execute(HistoryCommand.COMMAND_WORD);
             String expectedMessage = String.format(
-                    HistoryCommand.MESSAGE_SUCCESS, String.join("\n", expectedCommands));
+                    HistoryCommand.MESSAGE_SUCCESS, String.join("\n", expectedCommands))
+                    + HistoryCommand.getUndoHistoryMessage(model.getUndoHistoryUsage());
             assertEquals(expectedMessage, result.feedbackToUser);
         } catch (ParseException | CommandException e) {
             throw new AssertionError("Parsing and execution of HistoryCommand.COMMAND_WORD should succeed.", e);
@@ -0,0 +1,109 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_ROOMS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.parser.CliSyntax.FLAG_ROOM;
+import static seedu.address.testutil.TypicalConcierge.getTypicalConcierge;
+import static seedu.address.testutil.TypicalRoomNumbers.ROOM_NUMBER_001;
+import static seedu.address.testutil.TypicalRoomNumbers.ROOM_NUMBER_010;
+import static seedu.address.testutil.TypicalRoomNumbers.ROOM_NUMBER_011;
+import static seedu.address.testutil.TypicalRoomNumbers.ROOM_NUMBER_020;
+import static seedu.address.testutil.TypicalRoomNumbers.ROOM_NUMBER_021;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.room.Room;
+import seedu.address.model.room.RoomNumber;
+import seedu.address.model.room.booking.BookingPeriod;
+import seedu.address.testutil.TypicalBookingPeriods;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for AvailableCommand.
+ */
+public class AvailableCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Before
+    public void setUp() {
+        model = new ModelManager(getTypicalConcierge(), new UserPrefs());
+        expectedModel = new ModelManager(model.getConcierge(), new UserPrefs());
+    }
+
+    @Test
+    public void equals() {
+        AvailableCommand firstCommand = new AvailableCommand(TypicalBookingPeriods.TODAY_TOMORROW);
+        AvailableCommand secondCommand = new AvailableCommand(TypicalBookingPeriods.TODAY_NEXTWEEK);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new AvailableCommand(TypicalBookingPeriods.TODAY_TOMORROW)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different booking period -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_todayTomorrow_listsRoomsWithoutOverlappingBookings() {
+        assertAvailableRoomsListed(TypicalBookingPeriods.TODAY_TOMORROW);
+
+        List<RoomNumber> availableRoomNumbers = getDisplayedRoomNumbers();
+        assertTrue(availableRoomNumbers.contains(ROOM_NUMBER_001)); // booking ended yesterday
+        assertTrue(availableRoomNumbers.contains(ROOM_NUMBER_010)); // booking ends today
+        assertFalse(availableRoomNumbers.contains(ROOM_NUMBER_011)); // booked today to tomorrow
+        assertFalse(availableRoomNumbers.contains(ROOM_NUMBER_020)); // booked today to next week
+        assertTrue(availableRoomNumbers.contains(ROOM_NUMBER_021)); // booking starts tomorrow
+    }
+
+    @Test
+    public void execute_todayNextWeek_listsRoomsWithoutOverlappingBookings() {
+        assertAvailableRoomsListed(TypicalBookingPeriods.TODAY_NEXTWEEK);
+
+        List<RoomNumber> availableRoomNumbers = getDisplayedRoomNumbers();
+        assertTrue(availableRoomNumbers.contains(ROOM_NUMBER_010));
+        assertFalse(availableRoomNumbers.contains(ROOM_NUMBER_021));
+    }
+
+    /**
+     * Executes an {@code AvailableCommand} for {@code bookingPeriod} and checks that it lists exactly the rooms
+     * without a booking overlapping {@code bookingPeriod}, found by scanning the bookings of every room.
+     */
+    private void assertAvailableRoomsListed(BookingPeriod bookingPeriod) {
+        Predicate<Room> isAvailable = room -> room.getBookings().getSortedBookingsSet().stream()
+                .noneMatch(booking -> booking.getBookingPeriod().isOverlapping(bookingPeriod));
+        expectedModel.updateFilteredRoomList(isAvailable);
+        expectedModel.setDisplayedListFlag(FLAG_ROOM);
+        String expectedMessage = String.format(MESSAGE_ROOMS_LISTED_OVERVIEW,
+                expectedModel.getFilteredRoomList().size());
+
+        assertCommandSuccess(new AvailableCommand(bookingPeriod), model, commandHistory, expectedMessage,
+                expectedModel);
+        assertEquals(expectedModel.getFilteredRoomList(), model.getFilteredRoomList());
+    }
+
+    private List<RoomNumber> getDisplayedRoomNumbers() {
+        return model.getFilteredRoomList().stream().map(Room::getRoomNumber).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalConcierge.getTypicalConcierge;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import seedu.address.commons.core.ConciergeFileFormat;
+import seedu.address.commons.events.storage.ExportConciergeRequestEvent;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Concierge;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class ExportCommandTest {
+    private static final Path FILE_PATH = Paths.get("data", "concierge.bin");
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private Model model = new ModelManager(getTypicalConcierge(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_export_exportRequested() {
+        CommandResult result = new ExportCommand(FILE_PATH, ConciergeFileFormat.BINARY)
+                .execute(model, commandHistory);
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, FILE_PATH, "binary"), result.feedbackToUser);
+
+        ExportConciergeRequestEvent event =
+                (ExportConciergeRequestEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(new Concierge(model.getConcierge()), new Concierge(event.data));
+        assertEquals(FILE_PATH, event.filePath);
+        assertEquals(ConciergeFileFormat.BINARY, event.format);
+        assertTrue(eventsCollectorRule.eventsCollector.getSize() == 1);
+    }
+
+    @Test
+    public void requiresSignIn_true() {
+        assertTrue(new ExportCommand(FILE_PATH, ConciergeFileFormat.XML).requiresSignIn());
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportXmlCommand = new ExportCommand(FILE_PATH, ConciergeFileFormat.XML);
+
+        // same object -> returns true
+        assertTrue(exportXmlCommand.equals(exportXmlCommand));
+
+        // same values -> returns true
+        assertTrue(exportXmlCommand.equals(new ExportCommand(Paths.get("data", "concierge.bin"),
+                ConciergeFileFormat.XML)));
+
+        // different types -> returns false
+        assertFalse(exportXmlCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportXmlCommand.equals(null));
+
+        // different format -> returns false
+        assertFalse(exportXmlCommand.equals(new ExportCommand(FILE_PATH, ConciergeFileFormat.BINARY)));
+
+        // different file path -> returns false
+        assertFalse(exportXmlCommand.equals(new ExportCommand(Paths.get("other.bin"), ConciergeFileFormat.XML)));
+    }
+}
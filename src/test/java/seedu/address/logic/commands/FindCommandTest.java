@@ -185,7 +185,7 @@ public class FindCommandTest {
         expectedModel.setDisplayedListFlag(displayedListFlag);
 
         assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
-        assertEquals("001", model.getFilteredRoomList().get(0).roomNumber.value);
+        assertEquals("001", model.getFilteredRoomList().get(0).roomNumber.toString());
     }
 
     /**
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 
 import org.junit.Test;
@@ -7,6 +8,7 @@ import org.junit.Test;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.UndoHistoryUsage;
 
 public class HistoryCommandTest {
     private CommandHistory history = new CommandHistory();
@@ -15,12 +17,14 @@ public class HistoryCommandTest {
 
     @Test
     public void execute() {
-        assertCommandSuccess(new HistoryCommand(), model, history, HistoryCommand.MESSAGE_NO_HISTORY, expectedModel);
+        String undoHistory = HistoryCommand.getUndoHistoryMessage(model.getUndoHistoryUsage());
+        assertCommandSuccess(new HistoryCommand(), model, history,
+                HistoryCommand.MESSAGE_NO_HISTORY + undoHistory, expectedModel);
 
         String command1 = "clear";
         history.add(command1);
         assertCommandSuccess(new HistoryCommand(), model, history,
-                String.format(HistoryCommand.MESSAGE_SUCCESS, command1), expectedModel);
+                String.format(HistoryCommand.MESSAGE_SUCCESS, command1) + undoHistory, expectedModel);
 
         String command2 = "randomCommand";
         String command3 = "select 1";
@@ -28,8 +32,16 @@ public class HistoryCommandTest {
         history.add(command3);
 
         String expectedMessage = String.format(HistoryCommand.MESSAGE_SUCCESS,
-                String.join("\n", command3, command2, command1));
+                String.join("\n", command3, command2, command1)) + undoHistory;
         assertCommandSuccess(new HistoryCommand(), model, history, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void getUndoHistoryMessage() {
+        assertEquals("\n\nUndo history: 2 of 100 states, using about 512 B of 16.0 MB.",
+                HistoryCommand.getUndoHistoryMessage(new UndoHistoryUsage(2, 100, 512, 16L * 1024 * 1024)));
+        assertEquals("\n\nUndo history: 0 of 5 states, using about 0 B of 1.5 KB.",
+                HistoryCommand.getUndoHistoryMessage(new UndoHistoryUsage(0, 5, 0, 1536)));
+    }
+
 }
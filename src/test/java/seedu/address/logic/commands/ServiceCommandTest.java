@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -18,6 +19,7 @@ import seedu.address.logic.parser.Prefix;
 import seedu.address.model.Menu;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyConcierge;
+import seedu.address.model.UndoHistoryUsage;
 import seedu.address.model.expenses.Expense;
 import seedu.address.model.expenses.ExpenseType;
 import seedu.address.model.expenses.Money;
@@ -25,6 +27,7 @@ import seedu.address.model.guest.Guest;
 import seedu.address.model.room.Room;
 import seedu.address.model.room.RoomNumber;
 import seedu.address.model.room.booking.Booking;
+import seedu.address.model.room.booking.BookingPeriod;
 import seedu.address.model.room.booking.exceptions.NoBookingException;
 import seedu.address.model.room.booking.exceptions.RoomNotCheckedInException;
 import seedu.address.model.tag.Tag;
@@ -180,6 +183,21 @@ public class ServiceCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long takeCommitNanos() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public UndoHistoryUsage getUndoHistoryUsage() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Room> getAvailableRooms(BookingPeriod bookingPeriod) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void checkInRoom(RoomNumber roomNumber) {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.ui.ExitAppRequestEvent;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.CommandStatistics;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    private Model model = new ModelManager();
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void execute_events_showsPostedEvents() {
+        EventsCenter.clearSubscribers();
+        EventsCenter.getInstance().post(new ExitAppRequestEvent());
+
+        CommandResult result = new StatsCommand(StatsCommand.Subject.EVENTS).execute(model, commandHistory);
+        assertTrue(result.feedbackToUser.startsWith("Event statistics since launch:\n"));
+        assertTrue(result.feedbackToUser.contains("ExitAppRequestEvent: 1 posted, 1 with no subscribers"));
+    }
+
+    @Test
+    public void execute_commands_showsCommandTimes() {
+        CommandStatistics.getInstance().getCommand(HistoryCommand.class).record(CommandStatistics.Phase.EXECUTE, 1000);
+
+        CommandResult result = new StatsCommand(StatsCommand.Subject.COMMANDS).execute(model, commandHistory);
+        assertTrue(result.feedbackToUser.startsWith("Command statistics since launch:\n"));
+        assertTrue(result.feedbackToUser.contains("\n  " + HistoryCommand.COMMAND_WORD + ": "));
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand statsEventsCommand = new StatsCommand(StatsCommand.Subject.EVENTS);
+
+        // same object -> returns true
+        assertTrue(statsEventsCommand.equals(statsEventsCommand));
+
+        // same values -> returns true
+        assertTrue(statsEventsCommand.equals(new StatsCommand(StatsCommand.Subject.EVENTS)));
+
+        // different types -> returns false
+        assertFalse(statsEventsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(statsEventsCommand.equals(null));
+
+        // different subject -> returns false
+        assertFalse(statsEventsCommand.equals(new StatsCommand(StatsCommand.Subject.COMMANDS)));
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.DATE_END_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.DATE_START_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_DATE_END_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_DATE_START_DESC;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.AvailableCommand;
+import seedu.address.model.room.booking.BookingPeriod;
+import seedu.address.testutil.TypicalBookingPeriods;
+
+public class AvailableCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, AvailableCommand.MESSAGE_USAGE);
+
+    private AvailableCommandParser parser = new AvailableCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsAvailableCommand() {
+        AvailableCommand expectedCommand = new AvailableCommand(TypicalBookingPeriods.BOOKING_PERIOD_AMY);
+        assertParseSuccess(parser, DATE_START_DESC_AMY + DATE_END_DESC_AMY, expectedCommand);
+
+        // prefixes in any order
+        assertParseSuccess(parser, DATE_END_DESC_AMY + DATE_START_DESC_AMY, expectedCommand);
+    }
+
+    @Test
+    public void parse_missingParts_failure() {
+        // empty string
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+
+        // missing start date
+        assertParseFailure(parser, DATE_END_DESC_AMY, MESSAGE_INVALID_FORMAT);
+
+        // missing end date
+        assertParseFailure(parser, DATE_START_DESC_AMY, MESSAGE_INVALID_FORMAT);
+
+        // non-empty preamble
+        assertParseFailure(parser, "some preamble" + DATE_START_DESC_AMY + DATE_END_DESC_AMY,
+                MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidDates_failure() {
+        assertParseFailure(parser, INVALID_DATE_START_DESC + DATE_END_DESC_AMY,
+                BookingPeriod.MESSAGE_BOOKING_PERIOD_CONSTRAINTS);
+        assertParseFailure(parser, DATE_START_DESC_AMY + INVALID_DATE_END_DESC,
+                BookingPeriod.MESSAGE_BOOKING_PERIOD_CONSTRAINTS);
+
+        // end date before start date
+        assertParseFailure(parser, " " + CliSyntax.PREFIX_DATE_START + "03/11/2018 "
+                + CliSyntax.PREFIX_DATE_END + "01/11/2018", BookingPeriod.MESSAGE_BOOKING_PERIOD_CONSTRAINTS);
+    }
+}
@@ -4,12 +4,16 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.DATE_END_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.DATE_START_DESC_AMY;
 import static seedu.address.logic.parser.CliSyntax.FLAG_GUEST;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.testutil.TypicalBookingPeriods.BOOKING_PERIOD_AMY;
 import static seedu.address.testutil.TypicalBookingPeriods.TODAY_NEXTWEEK;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.address.testutil.TypicalRoomNumbers.ROOM_NUMBER_002;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
@@ -21,10 +25,13 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.core.ConciergeFileFormat;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AvailableCommand;
 import seedu.address.logic.commands.CheckInCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
@@ -32,6 +39,7 @@ import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SelectCommand;
 import seedu.address.logic.commands.ServiceCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.guest.Guest;
@@ -76,6 +84,19 @@ public class ConciergeParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) parser.parseCommand(
+                ExportCommand.COMMAND_WORD + " binary data/concierge.bin");
+        assertEquals(new ExportCommand(Paths.get("data", "concierge.bin"), ConciergeFileFormat.BINARY), command);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        StatsCommand command = (StatsCommand) parser.parseCommand(StatsCommand.COMMAND_WORD + " events");
+        assertEquals(new StatsCommand(StatsCommand.Subject.EVENTS), command);
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
@@ -139,6 +160,13 @@ public class ConciergeParserTest {
                 Optional.empty()), commandWithoutCost);
     }
 
+    @Test
+    public void parseCommand_available() throws Exception {
+        AvailableCommand command = (AvailableCommand) parser.parseCommand(AvailableCommand.COMMAND_WORD
+                + DATE_START_DESC_AMY + DATE_END_DESC_AMY);
+        assertEquals(new AvailableCommand(BOOKING_PERIOD_AMY), command);
+    }
+
     @Test
     public void parseCommand_checkIn() throws Exception {
         CheckInCommand command = (CheckInCommand) parser.parseCommand(
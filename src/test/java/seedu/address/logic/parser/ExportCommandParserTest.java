@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.ConciergeFileFormat;
+import seedu.address.logic.commands.ExportCommand;
+
+public class ExportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " binary data/concierge.bin",
+                new ExportCommand(Paths.get("data", "concierge.bin"), ConciergeFileFormat.BINARY));
+        assertParseSuccess(parser, "  XML   data/my backup.xml ",
+                new ExportCommand(Paths.get("data", "my backup.xml"), ConciergeFileFormat.XML));
+        assertParseSuccess(parser, " sharded data/concierge",
+                new ExportCommand(Paths.get("data", "concierge"), ConciergeFileFormat.SHARDED));
+    }
+
+    @Test
+    public void parse_missingFilePath_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " binary", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_unknownFormat_throwsParseException() {
+        assertParseFailure(parser, " json data/concierge.json", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidFilePath_throwsParseException() {
+        assertParseFailure(parser, " xml data/\0concierge.xml", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.StatsCommand;
+
+public class StatsCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE);
+
+    private StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsStatsCommand() {
+        assertParseSuccess(parser, " events", new StatsCommand(StatsCommand.Subject.EVENTS));
+        assertParseSuccess(parser, "  EVENTS ", new StatsCommand(StatsCommand.Subject.EVENTS));
+        assertParseSuccess(parser, " commands", new StatsCommand(StatsCommand.Subject.COMMANDS));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " rooms", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -232,6 +232,24 @@ public class ConciergeTest {
         assertEquals(1, concierge.getGuestList().size());
     }
 
+    @Test
+    public void checkout_guestCheckedOutOfEveryRoom_checkedInGuestListModified() {
+        RoomNumber roomNumber = ROOM_NUMBER_050;
+        RoomNumber secondRoomNumber = ROOM_NUMBER_051;
+        Booking booking = TODAY_TOMORROW;
+
+        concierge.addBooking(roomNumber, booking);
+        concierge.checkInRoom(roomNumber);
+        concierge.addBooking(secondRoomNumber, booking);
+        concierge.checkInRoom(secondRoomNumber);
+
+        concierge.checkoutRoom(roomNumber);
+        concierge.checkoutRoom(secondRoomNumber);
+
+        assertEquals(0, concierge.getCheckedInGuestList().size());
+        assertEquals(1, concierge.getGuestList().size());
+    }
+
     @Test
     public void checkout_guestExistsInArchivedGuestList_archivedGuestListNotModified() {
         RoomNumber roomNumber = ROOM_NUMBER_050;
@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_GUESTS;
@@ -49,6 +50,14 @@ public class ModelManagerTest {
         modelManager.getFilteredGuestList().remove(0);
     }
 
+    @Test
+    public void takeCommitNanos_taken_countingStartsAgain() {
+        modelManager.addGuest(ALICE);
+        modelManager.commitConcierge();
+        assertTrue(modelManager.takeCommitNanos() >= 0);
+        assertEquals(0, modelManager.takeCommitNanos());
+    }
+
     /*===================== Rooms Test =========================================================== */
 
     // Note: no need to test the other room methods, because they only call the methods that belong to the following
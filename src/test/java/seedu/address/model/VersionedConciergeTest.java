@@ -6,7 +6,12 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.testutil.TypicalGuests.AMY;
 import static seedu.address.testutil.TypicalGuests.BOB;
+import static seedu.address.testutil.TypicalBookings.TODAY_TOMORROW;
+import static seedu.address.testutil.TypicalConcierge.getTypicalConcierge;
 import static seedu.address.testutil.TypicalGuests.CARL;
+import static seedu.address.testutil.TypicalRoomNumbers.ROOM_NUMBER_031;
+import static seedu.address.testutil.TypicalRoomNumbers.ROOM_NUMBER_050;
+import static seedu.address.testutil.TypicalRoomNumbers.ROOM_NUMBER_051;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -14,6 +19,8 @@ import java.util.List;
 
 import org.junit.Test;
 
+import seedu.address.model.expenses.ExpenseType;
+import seedu.address.model.expenses.Money;
 import seedu.address.testutil.ConciergeBuilder;
 
 public class VersionedConciergeTest {
@@ -207,6 +214,138 @@ public class VersionedConciergeTest {
         assertThrows(VersionedConcierge.NoRedoableStateException.class, versionedConcierge::redo);
     }
 
+    @Test
+    public void undo_removedGuest_guestRestoredAtOriginalPosition() {
+        ReadOnlyConcierge initialState = new ConciergeBuilder().withGuest(AMY).withGuest(BOB).withGuest(CARL).build();
+        VersionedConcierge versionedConcierge = new VersionedConcierge(initialState);
+        versionedConcierge.removeGuest(BOB);
+        versionedConcierge.commit();
+        ReadOnlyConcierge withoutBob = new Concierge(versionedConcierge);
+
+        versionedConcierge.undo();
+        assertEquals(initialState, new Concierge(versionedConcierge));
+
+        versionedConcierge.redo();
+        assertEquals(withoutBob, new Concierge(versionedConcierge));
+    }
+
+    @Test
+    public void undo_roomChanges_onlyChangedRoomsReverted() {
+        Concierge initialState = getTypicalConcierge();
+        VersionedConcierge versionedConcierge = new VersionedConcierge(initialState);
+        versionedConcierge.addBooking(ROOM_NUMBER_031, TODAY_TOMORROW);
+        versionedConcierge.checkInRoom(ROOM_NUMBER_031);
+        versionedConcierge.commit();
+        ReadOnlyConcierge checkedInState = new Concierge(versionedConcierge);
+
+        versionedConcierge.undo();
+        assertEquals(initialState, new Concierge(versionedConcierge));
+
+        versionedConcierge.redo();
+        assertEquals(checkedInState, new Concierge(versionedConcierge));
+    }
+
+    @Test
+    public void undo_checkout_checkedInBookingsOfGuestRestored() {
+        VersionedConcierge versionedConcierge = new VersionedConcierge(getTypicalConcierge());
+        versionedConcierge.addBooking(ROOM_NUMBER_050, TODAY_TOMORROW);
+        versionedConcierge.checkInRoom(ROOM_NUMBER_050);
+        versionedConcierge.addBooking(ROOM_NUMBER_051, TODAY_TOMORROW);
+        versionedConcierge.checkInRoom(ROOM_NUMBER_051);
+        versionedConcierge.commit();
+        versionedConcierge.checkoutRoom(ROOM_NUMBER_050);
+        versionedConcierge.commit();
+
+        versionedConcierge.undo();
+        versionedConcierge.checkoutRoom(ROOM_NUMBER_051);
+        assertTrue(versionedConcierge.hasCheckedInGuest(TODAY_TOMORROW.getGuest()));
+
+        versionedConcierge.checkoutRoom(ROOM_NUMBER_050);
+        assertFalse(versionedConcierge.hasCheckedInGuest(TODAY_TOMORROW.getGuest()));
+    }
+
+    @Test
+    public void undo_menuItemsAdded_addedItemsRemoved() {
+        Concierge initialState = getTypicalConcierge();
+        VersionedConcierge versionedConcierge = new VersionedConcierge(initialState);
+        ExpenseType addedItem = new ExpenseType("99", "Added item", new Money(1, 0));
+        versionedConcierge.setMenu(Collections.singletonMap(addedItem.getItemNumber(), addedItem));
+        versionedConcierge.commit();
+        ReadOnlyConcierge addedState = new Concierge(versionedConcierge);
+
+        versionedConcierge.undo();
+        assertFalse(versionedConcierge.getMenuMap().containsKey(addedItem.getItemNumber()));
+        assertEquals(initialState, new Concierge(versionedConcierge));
+
+        versionedConcierge.redo();
+        assertEquals(addedState, new Concierge(versionedConcierge));
+    }
+
+    @Test
+    public void undo_uncommittedChanges_changesDiscarded() {
+        VersionedConcierge versionedConcierge = prepareConciergeList(emptyConcierge, conciergeWithAmy);
+        versionedConcierge.addGuest(BOB);
+
+        versionedConcierge.undo();
+        assertEquals(emptyConcierge, new Concierge(versionedConcierge));
+    }
+
+    @Test
+    public void commit_moreStatesThanMaxStates_oldestStatesDropped() {
+        VersionedConcierge versionedConcierge = new VersionedConcierge(emptyConcierge, 2,
+                VersionedConcierge.DEFAULT_MAX_BYTES);
+        versionedConcierge.addGuest(AMY);
+        versionedConcierge.commit();
+        versionedConcierge.addGuest(BOB);
+        versionedConcierge.commit();
+        versionedConcierge.addGuest(CARL);
+        versionedConcierge.commit();
+        assertEquals(3, versionedConcierge.getGuestList().size());
+
+        versionedConcierge.undo();
+        versionedConcierge.undo();
+        assertFalse(versionedConcierge.canUndo());
+        assertTrue(versionedConcierge.canRedo());
+        assertEquals(conciergeWithAmy, new Concierge(versionedConcierge));
+
+        versionedConcierge.redo();
+        versionedConcierge.redo();
+        assertFalse(versionedConcierge.canRedo());
+        assertEquals(3, versionedConcierge.getGuestList().size());
+    }
+
+    @Test
+    public void commit_historyLargerThanMaxBytes_oldestStatesDropped() {
+        VersionedConcierge unbounded = new VersionedConcierge(emptyConcierge);
+        unbounded.addGuest(AMY);
+        unbounded.commit();
+        long bytesPerState = unbounded.getUndoHistoryUsage().getEstimatedBytes();
+        assertTrue(bytesPerState > 0);
+
+        VersionedConcierge versionedConcierge = new VersionedConcierge(emptyConcierge,
+                VersionedConcierge.DEFAULT_MAX_STATES, bytesPerState);
+        versionedConcierge.addGuest(AMY);
+        versionedConcierge.commit();
+        versionedConcierge.addGuest(BOB);
+        versionedConcierge.commit();
+        assertEquals(new UndoHistoryUsage(1, VersionedConcierge.DEFAULT_MAX_STATES, bytesPerState, bytesPerState),
+                versionedConcierge.getUndoHistoryUsage());
+
+        versionedConcierge.undo();
+        assertFalse(versionedConcierge.canUndo());
+        assertEquals(conciergeWithAmy, new Concierge(versionedConcierge));
+    }
+
+    @Test
+    public void resetUndoRedoHistory_historyCleared() {
+        VersionedConcierge versionedConcierge = prepareConciergeList(emptyConcierge, conciergeWithAmy);
+        versionedConcierge.undo();
+        versionedConcierge.resetUndoRedoHistory();
+        assertFalse(versionedConcierge.canUndo());
+        assertFalse(versionedConcierge.canRedo());
+        assertEquals(0, versionedConcierge.getUndoHistoryUsage().getEstimatedBytes());
+    }
+
     @Test
     public void equals() {
         VersionedConcierge versionedConcierge = prepareConciergeList(conciergeWithAmy, conciergeWithBob);
@@ -1,8 +1,12 @@
 package seedu.address.model.expenses;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.Optional;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -42,4 +46,18 @@ public class ExpensesTest {
         // cleared should have no expenses
         assertTrue(cleared.equals(new Expenses()));
     }
+
+    @Test
+    public void getExpensesAddedTo() {
+        Expense first = new Expense(new ExpenseType("1", "-", new Money(0, 0)));
+        Expense second = new Expense(new ExpenseType("2", "--", new Money(1, 0)));
+        Expenses earlier = new Expenses().addExpense(first);
+        Expenses later = earlier.addExpense(second).addExpense(first);
+
+        // newest first
+        assertEquals(Optional.of(Arrays.asList(first, second)), later.getExpensesAddedTo(earlier));
+
+        // cleared expenses were not made by adding to the earlier expenses
+        assertFalse(later.clearExpenses().addExpense(first).getExpensesAddedTo(earlier).isPresent());
+    }
 }
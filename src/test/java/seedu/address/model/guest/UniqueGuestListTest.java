@@ -3,6 +3,8 @@ package seedu.address.model.guest;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalGuests.ALICE;
 import static seedu.address.testutil.TypicalGuests.BOB;
@@ -50,6 +52,32 @@ public class UniqueGuestListTest {
         assertTrue(uniqueGuestList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_guestWithSameNameAndPhoneOnly_returnsTrue() {
+        uniqueGuestList.add(ALICE);
+        assertTrue(uniqueGuestList.contains(new GuestBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build()));
+    }
+
+    @Test
+    public void contains_guestWithSameNameAndEmailOnly_returnsTrue() {
+        uniqueGuestList.add(ALICE);
+        assertTrue(uniqueGuestList.contains(new GuestBuilder(ALICE).withPhone(VALID_PHONE_BOB).build()));
+    }
+
+    @Test
+    public void contains_guestWithSameNameOnly_returnsFalse() {
+        uniqueGuestList.add(ALICE);
+        assertFalse(uniqueGuestList.contains(new GuestBuilder(ALICE).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).build()));
+    }
+
+    @Test
+    public void contains_guestRemoved_returnsFalse() {
+        uniqueGuestList.add(ALICE);
+        uniqueGuestList.remove(ALICE);
+        assertFalse(uniqueGuestList.contains(ALICE));
+    }
+
     @Test
     public void add_nullGuest_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -121,6 +149,22 @@ public class UniqueGuestListTest {
         uniqueGuestList.setGuests(listWithDuplicateGuests);
     }
 
+    @Test
+    public void setGuests_listWithSameIdentityGuests_throwsDuplicateGuestException() {
+        Guest aliceWithOtherEmail = new GuestBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        List<Guest> listWithDuplicateGuests = Arrays.asList(ALICE, BOB, aliceWithOtherEmail);
+        thrown.expect(DuplicateGuestException.class);
+        uniqueGuestList.setGuests(listWithDuplicateGuests);
+    }
+
+    @Test
+    public void setGuests_list_replacesIdentityIndex() {
+        uniqueGuestList.add(ALICE);
+        uniqueGuestList.setGuests(Collections.singletonList(BOB));
+        assertFalse(uniqueGuestList.contains(ALICE));
+        assertTrue(uniqueGuestList.contains(BOB));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
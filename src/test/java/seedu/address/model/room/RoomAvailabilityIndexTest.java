@@ -0,0 +1,56 @@
+package seedu.address.model.room;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+
+import org.junit.Test;
+
+import seedu.address.testutil.TypicalBookingPeriods;
+import seedu.address.testutil.TypicalBookings;
+
+public class RoomAvailabilityIndexTest {
+
+    private final RoomAvailabilityIndex index = new RoomAvailabilityIndex();
+
+    @Test
+    public void getOccupiedRooms_noBookings_returnsEmptySet() {
+        assertTrue(index.getOccupiedRooms(TypicalBookingPeriods.TODAY_NEXTWEEK).isEmpty());
+    }
+
+    @Test
+    public void getOccupiedRooms_bookingsAdded_returnsOverlappingRoomsOnly() {
+        index.addBooking(0, TypicalBookings.TODAY_TOMORROW);
+        index.addBooking(2, TypicalBookings.TODAY_NEXTWEEK);
+
+        assertEquals(bitSetOf(0, 2), index.getOccupiedRooms(TypicalBookingPeriods.TODAY_TOMORROW));
+        assertEquals(bitSetOf(2), index.getOccupiedRooms(TypicalBookingPeriods.TOMORROW_NEXTWEEK));
+        assertTrue(index.getOccupiedRooms(TypicalBookingPeriods.YESTERDAY_TODAY).isEmpty());
+    }
+
+    @Test
+    public void removeBooking_otherRoomBookedOnSameNights_keepsOtherRoomOccupied() {
+        index.addBooking(0, TypicalBookings.TODAY_TOMORROW);
+        index.addBooking(1, TypicalBookings.TODAY_NEXTWEEK);
+        index.removeBooking(0, TypicalBookings.TODAY_TOMORROW);
+
+        assertEquals(bitSetOf(1), index.getOccupiedRooms(TypicalBookingPeriods.TODAY_TOMORROW));
+    }
+
+    @Test
+    public void removeBooking_allBookingsRemoved_equalsEmptyIndex() {
+        index.addBooking(0, TypicalBookings.TODAY_NEXTWEEK);
+        index.removeBooking(0, TypicalBookings.TODAY_NEXTWEEK);
+
+        assertEquals(new RoomAvailabilityIndex(), index);
+    }
+
+    private static BitSet bitSetOf(int... indices) {
+        BitSet bitSet = new BitSet();
+        for (int i : indices) {
+            bitSet.set(i);
+        }
+        return bitSet;
+    }
+}
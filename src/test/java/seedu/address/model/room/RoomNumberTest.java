@@ -1,14 +1,21 @@
 package seedu.address.model.room;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import org.junit.After;
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
 
 public class RoomNumberTest {
 
+    @After
+    public void tearDown() {
+        RoomNumber.setMaxRoomNumber(RoomNumber.DEFAULT_MAX_ROOM_NUMBER);
+    }
+
     @Test
     public void constructor_null_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> new RoomNumber(null));
@@ -33,10 +40,69 @@ public class RoomNumberTest {
         assertFalse(RoomNumber.isValidRoomNumber("room number")); // non-numeric
         assertFalse(RoomNumber.isValidRoomNumber("050a")); // alphabets within digits
         assertFalse(RoomNumber.isValidRoomNumber("0 01")); // spaces within digits
+        assertFalse(RoomNumber.isValidRoomNumber("-01")); // negative number
+        assertFalse(RoomNumber.isValidRoomNumber("0001")); // padded beyond 3 digits
+        assertFalse(RoomNumber.isValidRoomNumber("1234567890")); // too many digits
 
         // valid room numbers
         assertTrue(RoomNumber.isValidRoomNumber("001")); // exactly 3 digits and within 001 to 100
         assertTrue(RoomNumber.isValidRoomNumber("099"));
         assertTrue(RoomNumber.isValidRoomNumber("100"));
     }
+
+    @Test
+    public void isValidRoomNumber_largerInventory() {
+        RoomNumber.setMaxRoomNumber(10000);
+
+        // invalid room numbers
+        assertFalse(RoomNumber.isValidRoomNumber("10001")); // beyond inventory
+        assertFalse(RoomNumber.isValidRoomNumber("0101")); // padded beyond 3 digits
+
+        // valid room numbers
+        assertTrue(RoomNumber.isValidRoomNumber("001"));
+        assertTrue(RoomNumber.isValidRoomNumber("101"));
+        assertTrue(RoomNumber.isValidRoomNumber("1000"));
+        assertTrue(RoomNumber.isValidRoomNumber("10000"));
+    }
+
+    @Test
+    public void isValidStoredRoomNumber() {
+        // invalid room numbers
+        assertFalse(RoomNumber.isValidStoredRoomNumber("000")); // not a positive number
+        assertFalse(RoomNumber.isValidStoredRoomNumber("01")); // not 3 digits
+        assertFalse(RoomNumber.isValidStoredRoomNumber("0101")); // padded beyond 3 digits
+        assertFalse(RoomNumber.isValidStoredRoomNumber("1234567890")); // too many digits
+
+        // valid room numbers, within and beyond the inventory of 100 rooms
+        assertTrue(RoomNumber.isValidStoredRoomNumber("001"));
+        assertTrue(RoomNumber.isValidStoredRoomNumber("100"));
+        assertTrue(RoomNumber.isValidStoredRoomNumber("101"));
+        assertTrue(RoomNumber.isValidStoredRoomNumber("999999999"));
+    }
+
+    @Test
+    public void fromStored_beyondInventory_success() {
+        assertEquals("101", RoomNumber.fromStored(101).toString());
+        Assert.assertThrows(IllegalArgumentException.class, () -> RoomNumber.fromStored(0));
+    }
+
+    @Test
+    public void setMaxRoomNumber_nonPositive_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> RoomNumber.setMaxRoomNumber(0));
+    }
+
+    @Test
+    public void toString_paddedToThreeDigits() {
+        RoomNumber.setMaxRoomNumber(10000);
+        assertEquals("001", new RoomNumber(1).toString());
+        assertEquals("099", new RoomNumber("099").toString());
+        assertEquals("1234", new RoomNumber(1234).toString());
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(new RoomNumber("001").equals(new RoomNumber(1)));
+        assertFalse(new RoomNumber("001").equals(new RoomNumber(2)));
+        assertFalse(new RoomNumber("001").equals(null));
+    }
 }
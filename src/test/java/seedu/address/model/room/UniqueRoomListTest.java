@@ -1,19 +1,28 @@
 package seedu.address.model.room;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalRoomNumbers.ROOM_NUMBER_001;
 import static seedu.address.testutil.TypicalRoomNumbers.ROOM_NUMBER_002;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
+import org.junit.After;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.guest.Guest;
+import seedu.address.model.room.booking.Booking;
 import seedu.address.model.room.exceptions.DuplicateRoomException;
+import seedu.address.model.room.exceptions.RoomMissingException;
+import seedu.address.model.room.exceptions.RoomNotFoundException;
 import seedu.address.testutil.RoomBuilder;
+import seedu.address.testutil.TypicalBookingPeriods;
 import seedu.address.testutil.TypicalBookings;
 import seedu.address.testutil.TypicalRooms;
 
@@ -25,6 +34,19 @@ public class UniqueRoomListTest {
     private final Room room001 = TypicalRooms.getTypicalUniqueRoomListClean().getRoom(ROOM_NUMBER_001);
     private final Room room002 = TypicalRooms.getTypicalUniqueRoomListClean().getRoom(ROOM_NUMBER_002);
 
+    @After
+    public void tearDown() {
+        RoomNumber.setMaxRoomNumber(RoomNumber.DEFAULT_MAX_ROOM_NUMBER);
+    }
+
+    @Test
+    public void constructor_configuredInventory_createsAllRooms() {
+        RoomNumber.setMaxRoomNumber(1000);
+        UniqueRoomList largeRoomList = new UniqueRoomList();
+        assertEquals(1000, largeRoomList.asUnmodifiableObservableList().size());
+        assertEquals(Capacity.SUITE, largeRoomList.getRoom(new RoomNumber("1000")).getCapacity());
+    }
+
     @Test
     public void contains_nullRoom_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -49,6 +71,92 @@ public class UniqueRoomListTest {
         uniqueRoomList.getRoom(null);
     }
 
+    @Test
+    public void getRoom_roomInList_returnsRoom() {
+        assertEquals(room001, uniqueRoomList.getRoom(ROOM_NUMBER_001));
+    }
+
+    @Test
+    public void getRoom_afterSetRoom_returnsEditedRoom() {
+        Room editedRoom = new RoomBuilder(room001).withBookings(TypicalBookings.getTypicalBookingsTodayTomorrow())
+            .build();
+        uniqueRoomList.setRoom(room001, editedRoom);
+        assertSame(editedRoom, uniqueRoomList.getRoom(ROOM_NUMBER_001));
+    }
+
+    @Test
+    public void getAvailableRooms_noBookings_returnsAllRooms() {
+        assertEquals(uniqueRoomList.asUnmodifiableObservableList(),
+                uniqueRoomList.getAvailableRooms(TypicalBookingPeriods.TODAY_NEXTWEEK));
+    }
+
+    @Test
+    public void getAvailableRooms_afterSetRoom_excludesOverlappingRoomOnly() {
+        Room editedRoom = new RoomBuilder(room001).withBookings(TypicalBookings.getTypicalBookingsTodayTomorrow())
+            .build();
+        uniqueRoomList.setRoom(room001, editedRoom);
+
+        assertFalse(uniqueRoomList.getAvailableRooms(TypicalBookingPeriods.TODAY_NEXTWEEK).contains(editedRoom));
+        assertTrue(uniqueRoomList.getAvailableRooms(TypicalBookingPeriods.TODAY_NEXTWEEK).contains(room002));
+
+        // booking ends on the day the period starts
+        assertTrue(uniqueRoomList.getAvailableRooms(TypicalBookingPeriods.TOMORROW_NEXTWEEK).contains(editedRoom));
+
+        // booking starts on the day the period ends
+        assertTrue(uniqueRoomList.getAvailableRooms(TypicalBookingPeriods.YESTERDAY_TODAY).contains(editedRoom));
+    }
+
+    @Test
+    public void getAvailableRooms_afterBookingRemoved_includesRoom() {
+        Room editedRoom = new RoomBuilder(room001).withBookings(TypicalBookings.getTypicalBookingsTodayNextWeek())
+            .build();
+        uniqueRoomList.setRoom(room001, editedRoom);
+        Room rebookedRoom = new RoomBuilder(room001)
+            .withBookings(TypicalBookings.getTypicalBookingsTomorrowNextWeek()).build();
+        uniqueRoomList.setRoom(editedRoom, rebookedRoom);
+
+        assertTrue(uniqueRoomList.getAvailableRooms(TypicalBookingPeriods.TODAY_TOMORROW).contains(rebookedRoom));
+        assertFalse(uniqueRoomList.getAvailableRooms(TypicalBookingPeriods.TOMORROW_NEXTWEEK).contains(rebookedRoom));
+    }
+
+    @Test
+    public void getAvailableRooms_afterSetRooms_reflectsNewBookings() {
+        UniqueRoomList bookedRoomList = new UniqueRoomList();
+        Room editedRoom = new RoomBuilder(room001).withBookings(TypicalBookings.getTypicalBookingsTodayTomorrow())
+            .build();
+        bookedRoomList.setRoom(room001, editedRoom);
+
+        uniqueRoomList.setRooms(bookedRoomList.asUnmodifiableObservableList());
+        assertFalse(uniqueRoomList.getAvailableRooms(TypicalBookingPeriods.TODAY_TOMORROW).contains(editedRoom));
+
+        uniqueRoomList.setRooms(new UniqueRoomList().asUnmodifiableObservableList());
+        assertTrue(uniqueRoomList.getAvailableRooms(TypicalBookingPeriods.TODAY_TOMORROW).contains(room001));
+    }
+
+    @Test
+    public void hasCheckedInBooking_noCheckedInBookings_returnsFalse() {
+        Room editedRoom = new RoomBuilder(room001).withBookings(TypicalBookings.getTypicalBookingsTodayTomorrow())
+            .build();
+        uniqueRoomList.setRoom(room001, editedRoom);
+        assertFalse(uniqueRoomList.hasCheckedInBooking(TypicalBookings.TODAY_TOMORROW.getGuest()));
+    }
+
+    @Test
+    public void hasCheckedInBooking_checkedInBookingsAddedAndRemoved_tracksRemainingBookings() {
+        Room checkedInRoom001 = room001.addBooking(TypicalBookings.TODAY_TOMORROW).checkIn();
+        Room checkedInRoom002 = room002.addBooking(TypicalBookings.TODAY_TOMORROW).checkIn();
+        uniqueRoomList.setRoom(room001, checkedInRoom001);
+        uniqueRoomList.setRoom(room002, checkedInRoom002);
+        Guest guest = TypicalBookings.TODAY_TOMORROW.getGuest();
+        assertTrue(uniqueRoomList.hasCheckedInBooking(guest));
+
+        uniqueRoomList.setRoom(checkedInRoom001, room001);
+        assertTrue(uniqueRoomList.hasCheckedInBooking(guest));
+
+        uniqueRoomList.setRoom(checkedInRoom002, room002);
+        assertFalse(uniqueRoomList.hasCheckedInBooking(guest));
+    }
+
     @Test
     public void setRoom_nullTargetRoom_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -68,6 +176,66 @@ public class UniqueRoomListTest {
         assertEquals(expectedUniqueRoomList, uniqueRoomList);
     }
 
+    @Test
+    public void setRoom_targetRoomNotInList_throwsRoomNotFoundException() {
+        RoomNumber.setMaxRoomNumber(1000);
+        Room roomOutsideList = new Room(new RoomNumber("1000"), Capacity.SUITE);
+        thrown.expect(RoomNotFoundException.class);
+        uniqueRoomList.setRoom(roomOutsideList, roomOutsideList);
+    }
+
+    @Test
+    public void setRoom_targetWithOutdatedBookings_indexedByRoomInList() {
+        Room outdatedRoom = new RoomBuilder(room001).withBookings(TypicalBookings.getTypicalBookingsTodayTomorrow())
+            .build();
+        uniqueRoomList.setRoom(outdatedRoom, room001);
+        assertSame(room001, uniqueRoomList.getRoom(ROOM_NUMBER_001));
+        assertTrue(uniqueRoomList.getAvailableRooms(TypicalBookingPeriods.TODAY_TOMORROW).contains(room001));
+    }
+
+    @Test
+    public void setRoom_nullChangedBookings_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueRoomList.setRoom(room001, room001, null, Collections.emptyList());
+    }
+
+    @Test
+    public void setRoom_changedBookings_indexesChangedBookingsOnly() {
+        Room bookedRoom = room001.addBooking(TypicalBookings.TODAY_TOMORROW);
+        uniqueRoomList.setRoom(room001, bookedRoom, Collections.emptyList(),
+                Collections.singletonList(TypicalBookings.TODAY_TOMORROW));
+        Room rebookedRoom = bookedRoom.addBooking(TypicalBookings.TOMORROW_NEXTWEEK);
+        uniqueRoomList.setRoom(bookedRoom, rebookedRoom, Collections.emptyList(),
+                Collections.singletonList(TypicalBookings.TOMORROW_NEXTWEEK));
+        assertFalse(uniqueRoomList.getAvailableRooms(TypicalBookingPeriods.TODAY_TOMORROW).contains(rebookedRoom));
+        assertFalse(uniqueRoomList.getAvailableRooms(TypicalBookingPeriods.TOMORROW_NEXTWEEK).contains(rebookedRoom));
+
+        Room checkedOutRoom = rebookedRoom.checkout(TypicalBookings.TODAY_TOMORROW);
+        uniqueRoomList.setRoom(rebookedRoom, checkedOutRoom, Collections.singletonList(TypicalBookings.TODAY_TOMORROW),
+                Collections.emptyList());
+        assertTrue(uniqueRoomList.getAvailableRooms(TypicalBookingPeriods.TODAY_TOMORROW).contains(checkedOutRoom));
+        assertFalse(uniqueRoomList.getAvailableRooms(TypicalBookingPeriods.TOMORROW_NEXTWEEK)
+                .contains(checkedOutRoom));
+    }
+
+    @Test
+    public void setRoom_bookingCheckedInAndOut_tracksCheckedInBooking() {
+        Room bookedRoom = room001.addBooking(TypicalBookings.TODAY_TOMORROW);
+        uniqueRoomList.setRoom(room001, bookedRoom, Collections.emptyList(),
+                Collections.singletonList(TypicalBookings.TODAY_TOMORROW));
+        Room checkedInRoom = bookedRoom.checkIn();
+        Booking checkedInBooking = checkedInRoom.getBookings().getFirstBooking();
+        uniqueRoomList.setRoom(bookedRoom, checkedInRoom, Collections.singletonList(TypicalBookings.TODAY_TOMORROW),
+                Collections.singletonList(checkedInBooking));
+        Guest guest = TypicalBookings.TODAY_TOMORROW.getGuest();
+        assertTrue(uniqueRoomList.hasCheckedInBooking(guest));
+
+        Room checkedOutRoom = checkedInRoom.checkout(checkedInBooking);
+        uniqueRoomList.setRoom(checkedInRoom, checkedOutRoom, Collections.singletonList(checkedInBooking),
+                Collections.emptyList());
+        assertFalse(uniqueRoomList.hasCheckedInBooking(guest));
+    }
+
     @Test
     public void setRoom_editedRoomHasNonUniqueIdentity_throwsDuplicateRoomException() {
         thrown.expect(DuplicateRoomException.class);
@@ -88,6 +256,7 @@ public class UniqueRoomListTest {
         expectedUniqueRoomList.setRoom(room001, editedRoom);
         uniqueRoomList.setRooms(expectedUniqueRoomList.asUnmodifiableObservableList());
         assertEquals(expectedUniqueRoomList, uniqueRoomList);
+        assertEquals(editedRoom, uniqueRoomList.getRoom(ROOM_NUMBER_001));
     }
 
     @Test
@@ -97,6 +266,13 @@ public class UniqueRoomListTest {
         uniqueRoomList.setRooms(listWithDuplicateRooms);
     }
 
+    @Test
+    public void setRooms_listWithMissingRooms_throwsRoomMissingException() {
+        List<Room> listWithMissingRooms = Arrays.asList(room001, room002);
+        thrown.expect(RoomMissingException.class);
+        uniqueRoomList.setRooms(listWithMissingRooms);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -7,6 +7,7 @@ import static seedu.address.testutil.TypicalBookings.LASTWEEK_YESTERDAY;
 import static seedu.address.testutil.TypicalBookings.TODAY_NEXTWEEK;
 import static seedu.address.testutil.TypicalBookings.TODAY_TOMORROW;
 import static seedu.address.testutil.TypicalBookings.TOMORROW_NEXTWEEK;
+import static seedu.address.testutil.TypicalBookings.YESTERDAY_TODAY;
 import static seedu.address.testutil.TypicalGuests.BOB;
 
 import java.util.Optional;
@@ -46,6 +47,16 @@ public class BookingsTest {
         new Bookings(bookingsSet);
     }
 
+    @Test
+    public void constructor_nonOverlappingBookings_success() {
+        SortedSet<Booking> bookingsSet = new TreeSet<>();
+        bookingsSet.add(TOMORROW_NEXTWEEK);
+        bookingsSet.add(LASTWEEK_YESTERDAY);
+        bookingsSet.add(TODAY_TOMORROW);
+        Bookings expectedBookings = bookings.add(LASTWEEK_YESTERDAY).add(TODAY_TOMORROW).add(TOMORROW_NEXTWEEK);
+        assertEquals(expectedBookings, new Bookings(bookingsSet));
+    }
+
     @Test
     public void getSortedBookingsSet_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -90,6 +101,30 @@ public class BookingsTest {
         editedBookings.add(TODAY_NEXTWEEK);
     }
 
+    @Test
+    public void add_overlappingLaterBooking_throwsOverlappingBookingException() {
+        Bookings editedBookings = bookings.add(LASTWEEK_YESTERDAY).add(TOMORROW_NEXTWEEK);
+        thrown.expect(OverlappingBookingException.class);
+        editedBookings.add(TODAY_NEXTWEEK);
+    }
+
+    @Test
+    public void add_overlappingEarlierBooking_throwsOverlappingBookingException() {
+        Bookings editedBookings = bookings.add(TODAY_NEXTWEEK);
+        thrown.expect(OverlappingBookingException.class);
+        editedBookings.add(TOMORROW_NEXTWEEK);
+    }
+
+    @Test
+    public void add_bookingBetweenAdjacentBookings_success() {
+        Bookings editedBookings = bookings.add(YESTERDAY_TODAY).add(TOMORROW_NEXTWEEK).add(TODAY_TOMORROW);
+        SortedSet<Booking> expectedBookingsSet = new TreeSet<>();
+        expectedBookingsSet.add(YESTERDAY_TODAY);
+        expectedBookingsSet.add(TODAY_TOMORROW);
+        expectedBookingsSet.add(TOMORROW_NEXTWEEK);
+        assertEquals(expectedBookingsSet, editedBookings.getSortedBookingsSet());
+    }
+
     @Test
     public void add_validBooking_success() {
         Booking bookingToAdd = TODAY_TOMORROW;
@@ -138,6 +173,13 @@ public class BookingsTest {
         assertEquals(expectedbookings, editedBookings);
     }
 
+    @Test
+    public void updateBooking_editedBookingOverlapsOnlyTarget_success() {
+        Bookings editedBookings = bookings.add(TODAY_TOMORROW).updateBooking(TODAY_TOMORROW, TODAY_NEXTWEEK);
+        Bookings expectedbookings = new Bookings().add(TODAY_NEXTWEEK);
+        assertEquals(expectedbookings, editedBookings);
+    }
+
     @Test
     public void updateBooking_editedBookingHasNonUniqueIdentity_throwsOverlappingBookingException() {
         Bookings editedBookings = bookings.add(TODAY_TOMORROW).add(TOMORROW_NEXTWEEK);
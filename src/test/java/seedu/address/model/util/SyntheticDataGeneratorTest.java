@@ -0,0 +1,106 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.Concierge;
+import seedu.address.model.guest.Guest;
+import seedu.address.model.room.Room;
+import seedu.address.model.room.RoomNumber;
+import seedu.address.model.room.booking.Booking;
+
+public class SyntheticDataGeneratorTest {
+
+    private static final LocalDate START_DATE = LocalDate.now();
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void withGuestCount_negative_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new SyntheticDataGenerator(1).withGuestCount(-1);
+    }
+
+    @Test
+    public void withBookingHorizonDays_negative_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new SyntheticDataGenerator(1).withBookingHorizonDays(-1);
+    }
+
+    @Test
+    public void withCheckedInPercent_aboveHundred_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new SyntheticDataGenerator(1).withCheckedInPercent(101);
+    }
+
+    @Test
+    public void withExpensesPerCheckedInRoom_negative_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new SyntheticDataGenerator(1).withExpensesPerCheckedInRoom(-1);
+    }
+
+    @Test
+    public void getGuest_differentIndices_differentIdentities() {
+        for (int i = 1; i < 1000; i++) {
+            assertFalse(SyntheticDataGenerator.getGuest(0).isSameGuest(SyntheticDataGenerator.getGuest(i)));
+        }
+    }
+
+    @Test
+    public void generateConcierge_sameSeed_sameData() {
+        assertEquals(generator(7).generateConcierge(), generator(7).generateConcierge());
+        assertNotEquals(generator(7).generateConcierge(), generator(8).generateConcierge());
+    }
+
+    @Test
+    public void generateConcierge_fillsEveryRoom() {
+        Concierge concierge = generator(7).generateConcierge();
+        assertEquals(300, concierge.getGuestList().size());
+        assertEquals(RoomNumber.getMaxRoomNumber(), concierge.getRoomList().size());
+        assertFalse(concierge.getMenuMap().isEmpty());
+        for (Room room : concierge.getRoomList()) {
+            assertFalse(room.getBookings().getSortedBookingsSet().isEmpty());
+        }
+    }
+
+    @Test
+    public void generateConcierge_checkedInRooms_guestsCheckedInAndCharged() {
+        Concierge concierge = generator(7).withCheckedInPercent(100).withExpensesPerCheckedInRoom(5)
+                .generateConcierge();
+        for (Room room : concierge.getRoomList()) {
+            Booking firstBooking = room.getBookings().getFirstBooking();
+            assertTrue(firstBooking.getIsCheckedIn());
+            assertTrue(firstBooking.isActive());
+            assertTrue(concierge.getCheckedInGuestList().contains(firstBooking.getGuest()));
+            assertEquals(5, room.getExpenses().getExpensesList().size());
+        }
+    }
+
+    @Test
+    public void generate_noCheckedInRooms_noExpenses() {
+        List<Guest> guests = new ArrayList<>();
+        List<Room> rooms = new ArrayList<>();
+        generator(7).withCheckedInPercent(0).generate(guests::add, rooms::add);
+        assertEquals(300, guests.size());
+        for (Room room : rooms) {
+            assertTrue(room.getExpenses().getExpensesList().isEmpty());
+            assertFalse(room.getBookings().getFirstBooking().getIsCheckedIn());
+        }
+    }
+
+    private static SyntheticDataGenerator generator(long seed) {
+        return new SyntheticDataGenerator(seed).withGuestCount(300).withBookingHorizonDays(30)
+                .withStartDate(START_DATE);
+    }
+}
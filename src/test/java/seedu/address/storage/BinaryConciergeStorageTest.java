@@ -0,0 +1,170 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalConcierge.getTypicalConcierge;
+import static seedu.address.testutil.TypicalGuests.ALICE;
+import static seedu.address.testutil.TypicalRoomNumbers.ROOM_NUMBER_031;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Concierge;
+import seedu.address.model.room.booking.Booking;
+import seedu.address.model.room.booking.BookingPeriod;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+public class BinaryConciergeStorageTest {
+    private static final Path XML_FILE = Paths.get("src", "test", "data", "XmlConciergeStreamReaderTest",
+            "menuBeforeRoomsConcierge.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private BinaryConciergeStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempConcierge.bin");
+        storage = new BinaryConciergeStorage(filePath);
+    }
+
+    @Test
+    public void readConcierge_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.readConcierge(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readConcierge().isPresent());
+    }
+
+    @Test
+    public void readAndSaveConcierge_allInOrder_success() throws Exception {
+        Concierge original = getTypicalConcierge();
+        storage.saveConcierge(original);
+        assertTrue(BinaryConciergeStorage.isBinaryFile(filePath));
+        assertEquals(original, new Concierge(storage.readConcierge().get()));
+
+        original.removeGuest(original.getGuestList().get(0));
+        storage.saveConcierge(original);
+        assertEquals(original, new Concierge(storage.readConcierge().get()));
+    }
+
+    @Test
+    public void readAndSaveConcierge_largeFile_success() throws Exception {
+        Concierge original = new SyntheticDataGenerator(1).generateConcierge();
+        storage.saveConcierge(original);
+        assertTrue(Files.size(filePath) > 64 * 1024);
+        assertEquals(original, new Concierge(storage.readConcierge().get()));
+    }
+
+    @Test
+    public void readConcierge_xmlFile_readAsXml() throws Exception {
+        assertFalse(BinaryConciergeStorage.isBinaryFile(XML_FILE));
+        assertEquals(new Concierge(new XmlConciergeStorage(XML_FILE).readConcierge().get()),
+                new Concierge(storage.readConcierge(XML_FILE).get()));
+    }
+
+    @Test
+    public void readConcierge_binaryFileByXmlStorage_readAsBinary() throws Exception {
+        Concierge original = getTypicalConcierge();
+        storage.saveConcierge(original);
+        assertEquals(original, new Concierge(new XmlConciergeStorage(filePath).readConcierge().get()));
+    }
+
+    @Test
+    public void isBinaryFile_missingFile_false() {
+        assertFalse(BinaryConciergeStorage.isBinaryFile(filePath));
+    }
+
+    @Test
+    public void readConcierge_truncatedFile_throwsDataConversionException() throws Exception {
+        storage.saveConcierge(getTypicalConcierge());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        thrown.expect(DataConversionException.class);
+        storage.readConcierge();
+    }
+
+    @Test
+    public void readConcierge_roomEntryCorrupted_throwsDataConversionException() throws Exception {
+        storage.saveConcierge(getTypicalConcierge());
+        byte[] bytes = Files.readAllBytes(filePath);
+        // the last room's expense count now runs past the end of the room's entry
+        bytes[bytes.length - 1] = (byte) 0xFF;
+        Files.write(filePath, bytes);
+
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(BinaryConciergeStorage.MESSAGE_CORRUPTED);
+        storage.readConcierge();
+    }
+
+    @Test
+    public void readConcierge_dateOutOfRange_throwsDataConversionException() throws Exception {
+        // day 2^34 is stored zigzag-encoded as 80 80 80 80 80 01
+        LocalDate startDate = LocalDate.ofEpochDay(1L << 34);
+        Concierge concierge = getTypicalConcierge();
+        concierge.addBooking(ROOM_NUMBER_031, new Booking(ALICE, BookingPeriod.of(startDate, startDate.plusDays(1)),
+                false));
+        storage.saveConcierge(concierge);
+        byte[] bytes = Files.readAllBytes(filePath);
+        byte[] startDateBytes = {(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01};
+        int startDateIndex = Collections.indexOfSubList(toList(bytes), toList(startDateBytes));
+        assertTrue(startDateIndex >= 0);
+        // the start date is now 127 * 2^34 days after 1970, beyond the last date LocalDate can hold
+        bytes[startDateIndex + startDateBytes.length - 1] = 0x7F;
+        Files.write(filePath, bytes);
+
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(BinaryConciergeStorage.MESSAGE_CORRUPTED);
+        storage.readConcierge();
+    }
+
+    @Test
+    public void readConcierge_unsupportedVersion_throwsDataConversionException() throws Exception {
+        storage.saveConcierge(getTypicalConcierge());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[4] = BinaryConciergeStorage.FORMAT_VERSION + 1;
+        Files.write(filePath, bytes);
+
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(String.format(BinaryConciergeStorage.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryConciergeStorage.FORMAT_VERSION + 1));
+        storage.readConcierge();
+    }
+
+    @Test
+    public void saveConcierge_nullConcierge_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.saveConcierge(null);
+    }
+
+    private static List<Byte> toList(byte[] bytes) {
+        List<Byte> list = new ArrayList<>();
+        for (byte b : bytes) {
+            list.add(b);
+        }
+        return list;
+    }
+}
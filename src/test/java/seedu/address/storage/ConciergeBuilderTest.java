@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.storage.XmlSerializableConcierge.MESSAGE_ROOM_MISSING;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Concierge;
+import seedu.address.model.expenses.ExpenseType;
+import seedu.address.model.guest.Guest;
+import seedu.address.model.room.Room;
+import seedu.address.model.room.RoomNumber;
+import seedu.address.model.room.UniqueRoomList;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+public class ConciergeBuilderTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Concierge generated = new SyntheticDataGenerator(1).withGuestCount(200).generateConcierge();
+
+    @After
+    public void tearDown() {
+        RoomNumber.setMaxRoomNumber(RoomNumber.DEFAULT_MAX_ROOM_NUMBER);
+    }
+
+    @Test
+    public void addRooms_manyRooms_sameAsAddedInOrder() throws Exception {
+        List<XmlAdaptedRoom> rooms = toAdaptedRooms(generated.getRoomList());
+        assertTrue(rooms.size() >= ConciergeBuilder.MIN_PARALLEL_ROOMS);
+
+        ConciergeBuilder inOrder = createBuilderWithMenu();
+        for (XmlAdaptedRoom room : rooms) {
+            inOrder.addRoom(room.toModelType(inOrder.getMenu()));
+        }
+        Concierge expected = inOrder.build();
+
+        for (int i = 0; i < 5; i++) {
+            ConciergeBuilder builder = createBuilderWithMenu();
+            builder.addRooms(rooms, builder.getMenu());
+            Concierge converted = builder.build();
+            assertEquals(expected.getRoomList(), converted.getRoomList());
+            assertEquals(expected.getCheckedInGuestList(), converted.getCheckedInGuestList());
+        }
+    }
+
+    @Test
+    public void addRooms_invalidRooms_firstExceptionThrown() throws Exception {
+        List<XmlAdaptedRoom> rooms = toAdaptedRooms(generated.getRoomList());
+        rooms.set(10, new XmlAdaptedRoom("01", null, new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+        rooms.set(rooms.size() - 1, new XmlAdaptedRoom(null, null, new ArrayList<>(), new ArrayList<>(),
+                new ArrayList<>()));
+
+        ConciergeBuilder builder = createBuilderWithMenu();
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(RoomNumber.MESSAGE_ROOM_NUMBER_CONSTRAINTS);
+        builder.addRooms(rooms, builder.getMenu());
+    }
+
+    @Test
+    public void fitToRoomInventory_fewerRooms_emptyRoomsAdded() throws Exception {
+        List<Room> rooms = new ArrayList<>(generated.getRoomList());
+        RoomNumber.setMaxRoomNumber(rooms.size() + 20);
+
+        List<Room> fitted = ConciergeBuilder.fitToRoomInventory(rooms);
+        assertEquals(rooms.size() + 20, fitted.size());
+        assertEquals(rooms, fitted.subList(0, rooms.size()));
+        assertEquals(UniqueRoomList.createEmptyRoom(new RoomNumber(rooms.size() + 20)), fitted.get(fitted.size() - 1));
+    }
+
+    @Test
+    public void fitToRoomInventory_emptyRoomsBeyondInventory_leftOut() throws Exception {
+        RoomNumber.setMaxRoomNumber(120);
+        List<Room> rooms = new ArrayList<>(new UniqueRoomList().asUnmodifiableObservableList());
+        rooms.subList(0, 100).clear();
+        rooms.addAll(0, generated.getRoomList());
+        RoomNumber.setMaxRoomNumber(100);
+
+        assertEquals(generated.getRoomList(), ConciergeBuilder.fitToRoomInventory(rooms));
+        assertEquals(100, RoomNumber.getMaxRoomNumber());
+    }
+
+    @Test
+    public void fitToRoomInventory_roomsInUseBeyondInventory_inventoryNotShrunk() throws Exception {
+        RoomNumber.setMaxRoomNumber(120);
+        List<Room> rooms = new ArrayList<>(new SyntheticDataGenerator(1).withGuestCount(200).generateConcierge()
+                .getRoomList());
+        RoomNumber.setMaxRoomNumber(100);
+
+        assertEquals(rooms, ConciergeBuilder.fitToRoomInventory(rooms));
+        assertEquals(120, RoomNumber.getMaxRoomNumber());
+    }
+
+    @Test
+    public void fitToRoomInventory_roomMissingBeforeLastRoom_throwsIllegalValueException() throws Exception {
+        List<Room> rooms = new ArrayList<>(generated.getRoomList());
+        rooms.remove(49);
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(MESSAGE_ROOM_MISSING);
+        ConciergeBuilder.fitToRoomInventory(rooms);
+    }
+
+    private ConciergeBuilder createBuilderWithMenu() throws IllegalValueException {
+        ConciergeBuilder builder = new ConciergeBuilder();
+        for (Guest guest : generated.getGuestList()) {
+            builder.addGuest(guest);
+        }
+        for (ExpenseType item : generated.getMenuMap().values()) {
+            builder.addMenuItem(item);
+        }
+        return builder;
+    }
+
+    private static List<XmlAdaptedRoom> toAdaptedRooms(List<Room> rooms) {
+        return rooms.stream().map(XmlAdaptedRoom::new).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalConcierge.getTypicalConcierge;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Concierge;
+
+public class DataFileGenerationsTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private BinaryConciergeStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempConcierge.bin");
+        storage = new BinaryConciergeStorage(filePath);
+    }
+
+    @Test
+    public void save_manyTimes_keepsNewestGenerations() throws Exception {
+        Concierge concierge = getTypicalConcierge();
+        for (int i = 0; i <= DataFileGenerations.GENERATION_COUNT + 2; i++) {
+            storage.saveConcierge(concierge);
+        }
+        assertEquals(DataFileGenerations.GENERATION_COUNT, DataFileGenerations.getGenerationPaths(filePath).size());
+        assertEquals(DataFileGenerations.GENERATION_COUNT + 1, testFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void save_otherFile_noGenerationsKept() throws Exception {
+        Path exportPath = testFolder.getRoot().toPath().resolve("ExportedConcierge.bin");
+        Concierge concierge = getTypicalConcierge();
+        storage.saveConcierge(concierge, exportPath);
+        storage.saveConcierge(concierge, exportPath);
+
+        assertTrue(DataFileGenerations.getGenerationPaths(exportPath).isEmpty());
+        assertEquals(1, testFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void getGenerationPaths_savedInTurn_newestFirst() throws Exception {
+        Concierge concierge = getTypicalConcierge();
+        storage.saveConcierge(concierge);
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(1000));
+        storage.saveConcierge(concierge);
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(2000));
+        storage.saveConcierge(concierge);
+
+        assertEquals(Arrays.asList(DataFileGenerations.getGenerationPath(filePath, 2),
+                DataFileGenerations.getGenerationPath(filePath, 1)),
+                DataFileGenerations.getGenerationPaths(filePath));
+    }
+
+    @Test
+    public void readConcierge_corruptedFile_recoversNewestGeneration() throws Exception {
+        Concierge original = getTypicalConcierge();
+        storage.saveConcierge(original);
+        Concierge changed = getTypicalConcierge();
+        changed.removeGuest(changed.getGuestList().get(0));
+        storage.saveConcierge(changed);
+        storage.saveConcierge(getTypicalConcierge());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertEquals(changed, new Concierge(storage.readConcierge().get()));
+    }
+
+    @Test
+    public void readConcierge_missingFile_recoversNewestGeneration() throws Exception {
+        Concierge original = getTypicalConcierge();
+        storage.saveConcierge(original);
+        storage.saveConcierge(getTypicalConcierge());
+
+        Files.delete(filePath);
+        assertEquals(original, new Concierge(storage.readConcierge().get()));
+    }
+
+    @Test
+    public void readConcierge_noGenerationReadable_throwsDataConversionException() throws Exception {
+        storage.saveConcierge(getTypicalConcierge());
+        storage.saveConcierge(getTypicalConcierge());
+        Files.write(filePath, new byte[] {'C', 'N', 'C', 'G'});
+        Files.write(DataFileGenerations.getGenerationPath(filePath, 1), new byte[] {'C', 'N', 'C', 'G'});
+
+        thrown.expect(DataConversionException.class);
+        storage.readConcierge();
+    }
+
+    @Test
+    public void readConcierge_noFileOrGenerations_emptyResult() throws Exception {
+        assertFalse(storage.readConcierge().isPresent());
+    }
+}
@@ -0,0 +1,240 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalConcierge.getTypicalConcierge;
+import static seedu.address.testutil.TypicalConcierge.getTypicalConciergeClean;
+import static seedu.address.testutil.TypicalGuests.ALICE;
+import static seedu.address.testutil.TypicalGuests.DANIEL;
+import static seedu.address.testutil.TypicalGuests.ELLE;
+import static seedu.address.testutil.TypicalGuests.HOON;
+import static seedu.address.testutil.TypicalGuests.IDA;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Concierge;
+import seedu.address.model.ReadOnlyConcierge;
+import seedu.address.model.expenses.Expense;
+import seedu.address.model.room.RoomNumber;
+import seedu.address.testutil.ExpenseBuilder;
+import seedu.address.testutil.TypicalBookings;
+import seedu.address.testutil.TypicalRoomNumbers;
+import seedu.address.testutil.TypicalTags;
+
+public class JournalConciergeStorageTest {
+
+    private static final int MAX_ENTRIES = 3;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path journalFilePath;
+    private JournalConciergeStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempConcierge.xml");
+        journalFilePath = JournalConciergeStorage.getJournalFilePath(filePath);
+        storage = new JournalConciergeStorage(new XmlConciergeStorage(filePath), MAX_ENTRIES);
+    }
+
+    @After
+    public void tearDown() {
+        RoomNumber.setMaxRoomNumber(RoomNumber.DEFAULT_MAX_ROOM_NUMBER);
+    }
+
+    @Test
+    public void constructor_noEntries_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new JournalConciergeStorage(new XmlConciergeStorage(filePath), 0);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readConcierge().isPresent());
+    }
+
+    @Test
+    public void saveConcierge_changes_appendedToJournalOnly() throws Exception {
+        Concierge original = getTypicalConciergeClean();
+        storage.saveConcierge(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        original.addGuest(HOON);
+        storage.saveConcierge(original);
+        original.removeGuest(ALICE);
+        original.addBooking(TypicalRoomNumbers.ROOM_NUMBER_001, TypicalBookings.TODAY_TOMORROW);
+        storage.saveConcierge(original);
+        storage.saveConcierge(original); // unchanged, so nothing is appended
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, readFromNewStorage());
+    }
+
+    @Test
+    public void saveConcierge_roomChanges_onlyChangesJournalled() throws Exception {
+        storage = new JournalConciergeStorage(new XmlConciergeStorage(filePath), 2 * MAX_ENTRIES);
+        Concierge original = getTypicalConcierge();
+        storage.saveConcierge(original);
+        // whole seconds, as expenses are saved to the second
+        Expense expense = new ExpenseBuilder().withDateTime(LocalDateTime.of(2018, 11, 1, 12, 0)).build();
+
+        original.addExpense(TypicalRoomNumbers.ROOM_NUMBER_012, expense);
+        storage.saveConcierge(original);
+        original.addExpense(TypicalRoomNumbers.ROOM_NUMBER_012, expense);
+        storage.saveConcierge(original);
+        original.checkInRoom(TypicalRoomNumbers.ROOM_NUMBER_011);
+        storage.saveConcierge(original);
+        original.addRoomTags(TypicalRoomNumbers.ROOM_NUMBER_011, TypicalTags.ROOM_TAG_MAINTENANCE);
+        storage.saveConcierge(original);
+        original.checkoutRoom(TypicalRoomNumbers.ROOM_NUMBER_012);
+        storage.saveConcierge(original);
+
+        List<String> entries = Files.readAllLines(journalFilePath);
+        assertEquals(6, entries.size());
+        // adding an expense does not write the booking of the room
+        assertFalse(entries.get(1).contains(ELLE.getName().toString()));
+        assertFalse(entries.get(2).contains(ELLE.getName().toString()));
+        assertTrue(entries.get(3).contains(DANIEL.getName().toString()));
+        assertFalse(entries.get(4).contains(DANIEL.getName().toString()));
+        assertEquals(original, readFromNewStorage());
+    }
+
+    @Test
+    public void readConcierge_entryDoesNotFitRoom_throwsDataConversionException() throws Exception {
+        Concierge original = getTypicalConciergeClean();
+        storage.saveConcierge(original);
+        original.addBooking(TypicalRoomNumbers.ROOM_NUMBER_001, TypicalBookings.TODAY_TOMORROW);
+        storage.saveConcierge(original);
+
+        // adding the same booking again overlaps the booking that the entry added the first time
+        String entry = Files.readAllLines(journalFilePath).get(1);
+        Files.write(journalFilePath, (entry + "\n").getBytes(UTF_8), StandardOpenOption.APPEND);
+
+        thrown.expect(DataConversionException.class);
+        readFromNewStorage();
+    }
+
+    @Test
+    public void readConcierge_journalChangesRoomBeyondInventory_inventoryShrunkToThatRoom() throws Exception {
+        RoomNumber.setMaxRoomNumber(120);
+        Concierge original = new Concierge();
+        storage.saveConcierge(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        original.addRoomTags(new RoomNumber(110), TypicalTags.ROOM_TAG_MAINTENANCE);
+        storage.saveConcierge(original);
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+
+        // room 110 is empty in the data file, but not once the journal is replayed, so only the rooms after it go
+        RoomNumber.setMaxRoomNumber(100);
+        Concierge readBack = readFromNewStorage();
+        assertEquals(110, RoomNumber.getMaxRoomNumber());
+        assertEquals(original.getRoomList().subList(0, 110), readBack.getRoomList());
+    }
+
+    @Test
+    public void saveConcierge_journalFull_snapshotSaved() throws Exception {
+        Concierge original = getTypicalConciergeClean();
+        storage.saveConcierge(original);
+        original.addGuest(HOON);
+        storage.saveConcierge(original);
+        original.addGuest(IDA);
+        storage.saveConcierge(original);
+        original.removeGuest(ALICE);
+        storage.saveConcierge(original);
+        assertEquals(1 + MAX_ENTRIES, Files.readAllLines(journalFilePath).size());
+
+        original.addBooking(TypicalRoomNumbers.ROOM_NUMBER_001, TypicalBookings.TODAY_TOMORROW);
+        storage.saveConcierge(original);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new Concierge(new XmlConciergeStorage(filePath).readConcierge().get()));
+        assertEquals(original, readFromNewStorage());
+    }
+
+    @Test
+    public void readConcierge_thenSave_appendsToExistingJournal() throws Exception {
+        Concierge original = getTypicalConciergeClean();
+        storage.saveConcierge(original);
+        original.addGuest(HOON);
+        storage.saveConcierge(original);
+
+        JournalConciergeStorage newStorage = new JournalConciergeStorage(new XmlConciergeStorage(filePath),
+                MAX_ENTRIES);
+        Concierge readBack = new Concierge(newStorage.readConcierge().get());
+        readBack.addGuest(IDA);
+        newStorage.saveConcierge(readBack);
+
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+        assertEquals(readBack, readFromNewStorage());
+    }
+
+    @Test
+    public void readConcierge_journalOfOtherSnapshot_journalIgnored() throws Exception {
+        Concierge original = getTypicalConciergeClean();
+        storage.saveConcierge(original);
+        Concierge journalled = new Concierge(original);
+        journalled.addGuest(HOON);
+        storage.saveConcierge(journalled);
+
+        original.addGuest(IDA);
+        new XmlConciergeStorage(filePath).saveConcierge(original);
+        assertEquals(original, readFromNewStorage());
+    }
+
+    @Test
+    public void readConcierge_unreadableLastEntry_entryIgnored() throws Exception {
+        Concierge original = getTypicalConciergeClean();
+        storage.saveConcierge(original);
+        original.addGuest(HOON);
+        storage.saveConcierge(original);
+        Files.write(journalFilePath, "{\"rooms\":[".getBytes(UTF_8), StandardOpenOption.APPEND);
+        assertEquals(original, readFromNewStorage());
+    }
+
+    @Test
+    public void compactConcierge_journalledChanges_snapshotSaved() throws Exception {
+        Concierge original = getTypicalConciergeClean();
+        storage.saveConcierge(original);
+        original.addGuest(HOON);
+        storage.saveConcierge(original);
+
+        storage.compactConcierge(original);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new Concierge(new XmlConciergeStorage(filePath).readConcierge().get()));
+    }
+
+    @Test
+    public void saveConcierge_otherFilePath_savedInFull() throws Exception {
+        Path otherFilePath = testFolder.getRoot().toPath().resolve("OtherConcierge.xml");
+        Concierge original = getTypicalConciergeClean();
+        storage.saveConcierge(original, otherFilePath);
+        assertEquals(original, new Concierge(new XmlConciergeStorage(otherFilePath).readConcierge().get()));
+        assertFalse(Files.exists(JournalConciergeStorage.getJournalFilePath(otherFilePath)));
+    }
+
+    private Concierge readFromNewStorage() throws Exception {
+        ReadOnlyConcierge readBack = new JournalConciergeStorage(new XmlConciergeStorage(filePath), MAX_ENTRIES)
+                .readConcierge().get();
+        return new Concierge(readBack);
+    }
+}
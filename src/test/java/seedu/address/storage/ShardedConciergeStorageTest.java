@@ -0,0 +1,122 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalConcierge.getTypicalConciergeClean;
+import static seedu.address.testutil.TypicalGuests.ALICE;
+import static seedu.address.testutil.TypicalGuests.HOON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Concierge;
+import seedu.address.testutil.TypicalBookings;
+import seedu.address.testutil.TypicalRoomNumbers;
+
+public class ShardedConciergeStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path directoryPath;
+    private ShardedConciergeStorage storage;
+
+    @Before
+    public void setUp() {
+        directoryPath = testFolder.getRoot().toPath().resolve("concierge");
+        storage = new ShardedConciergeStorage(directoryPath);
+    }
+
+    @Test
+    public void read_missingDirectory_emptyResult() throws Exception {
+        assertFalse(storage.readConcierge().isPresent());
+    }
+
+    @Test
+    public void readAndSaveConcierge_allInOrder_success() throws Exception {
+        Concierge original = getTypicalConciergeClean();
+        storage.saveConcierge(original);
+        assertEquals(original, readFromNewStorage());
+
+        original.addGuest(HOON);
+        original.removeGuest(ALICE);
+        original.addBooking(TypicalRoomNumbers.ROOM_NUMBER_001, TypicalBookings.TODAY_TOMORROW);
+        storage.saveConcierge(original);
+        assertEquals(original, readFromNewStorage());
+    }
+
+    @Test
+    public void saveConcierge_oneRoomChanged_onlyThatShardWritten() throws Exception {
+        Concierge original = getTypicalConciergeClean();
+        storage.saveConcierge(original);
+        Path changedRoomFile = getRoomFile(TypicalRoomNumbers.ROOM_NUMBER_001.toString());
+        Path unchangedRoomFile = getRoomFile(TypicalRoomNumbers.ROOM_NUMBER_002.toString());
+        Path guestsFile = directoryPath.resolve("guests.json");
+        Files.delete(changedRoomFile);
+        Files.delete(unchangedRoomFile);
+        Files.delete(guestsFile);
+
+        original.addBooking(TypicalRoomNumbers.ROOM_NUMBER_001, TypicalBookings.TODAY_TOMORROW);
+        storage.saveConcierge(original);
+
+        assertTrue(Files.exists(changedRoomFile));
+        assertFalse(Files.exists(unchangedRoomFile));
+        assertFalse(Files.exists(guestsFile));
+    }
+
+    @Test
+    public void saveConcierge_otherDirectory_savedInFull() throws Exception {
+        Path otherDirectoryPath = testFolder.getRoot().toPath().resolve("other");
+        Concierge original = getTypicalConciergeClean();
+        storage.saveConcierge(original, otherDirectoryPath);
+        assertEquals(original, new Concierge(new ShardedConciergeStorage(otherDirectoryPath).readConcierge().get()));
+        assertFalse(Files.exists(directoryPath));
+    }
+
+    @Test
+    public void saveConcierge_unknownRoomShard_removed() throws Exception {
+        Path unknownRoomFile = getRoomFile("999");
+        Files.createDirectories(unknownRoomFile.getParent());
+        Files.write(unknownRoomFile, new byte[0]);
+
+        storage.saveConcierge(getTypicalConciergeClean());
+        assertFalse(Files.exists(unknownRoomFile));
+    }
+
+    @Test
+    public void readConcierge_missingRoomShard_throwsDataConversionException() throws Exception {
+        storage.saveConcierge(getTypicalConciergeClean());
+        Files.delete(getRoomFile(TypicalRoomNumbers.ROOM_NUMBER_002.toString()));
+
+        thrown.expect(DataConversionException.class);
+        readFromNewStorage();
+    }
+
+    @Test
+    public void readConcierge_invalidRoomShard_throwsDataConversionException() throws Exception {
+        storage.saveConcierge(getTypicalConciergeClean());
+        Files.write(getRoomFile(TypicalRoomNumbers.ROOM_NUMBER_002.toString()), "{\"roomNumber\":\"abc\"}".getBytes());
+
+        thrown.expect(DataConversionException.class);
+        readFromNewStorage();
+    }
+
+    private Path getRoomFile(String roomNumber) {
+        return directoryPath.resolve("rooms").resolve(roomNumber + ".json");
+    }
+
+    private Concierge readFromNewStorage() throws Exception {
+        return new Concierge(new ShardedConciergeStorage(directoryPath).readConcierge().get());
+    }
+}
@@ -4,10 +4,13 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalConcierge.getTypicalConciergeClean;
+import static seedu.address.testutil.TypicalGuests.HOON;
+import static seedu.address.testutil.TypicalGuests.IDA;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -15,6 +18,7 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.events.model.ConciergeChangedEvent;
+import seedu.address.commons.events.storage.DataSavedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.model.Concierge;
 import seedu.address.model.ReadOnlyConcierge;
@@ -23,6 +27,8 @@ import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class StorageManagerTest {
 
+    private static final Duration FLUSH_TIMEOUT = Duration.ofSeconds(10);
+
     @Rule
     public TemporaryFolder testFolder = new TemporaryFolder();
     @Rule
@@ -76,7 +82,7 @@ public class StorageManagerTest {
     }
 
     @Test
-    public void handleConciergeChangedEvent_exceptionThrown_eventRaised() {
+    public void handleConciergeChangedEvent_exceptionThrown_eventRaised() throws Exception {
         Path dummyPath = Paths.get("dummy");
         // Create a StorageManager while injecting a stub that  throws an exception when the save method is called
         Storage storage = new StorageManager(
@@ -84,9 +90,30 @@ public class StorageManagerTest {
                 new JsonUserPrefsStorage(dummyPath),
                 new JsonPasswordsStorage(dummyPath));
         storage.handleConciergeChangedEvent(new ConciergeChangedEvent(new Concierge()));
+        assertTrue(storage.flushConcierge(FLUSH_TIMEOUT));
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleConciergeChangedEvent_saved_eventRaised() throws Exception {
+        storageManager.handleConciergeChangedEvent(new ConciergeChangedEvent(getTypicalConciergeClean()));
+        assertTrue(storageManager.flushConcierge(FLUSH_TIMEOUT));
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavedEvent);
+        assertEquals(getTypicalConciergeClean(), new Concierge(storageManager.readConcierge().get()));
+    }
+
+    @Test
+    public void handleConciergeChangedEvent_laterChanges_latestSaved() throws Exception {
+        Concierge concierge = getTypicalConciergeClean();
+        storageManager.handleConciergeChangedEvent(new ConciergeChangedEvent(concierge));
+        concierge.addGuest(HOON);
+        storageManager.handleConciergeChangedEvent(new ConciergeChangedEvent(concierge));
+        concierge.addGuest(IDA);
+        storageManager.handleConciergeChangedEvent(new ConciergeChangedEvent(concierge));
+        assertTrue(storageManager.flushConcierge(FLUSH_TIMEOUT));
+        assertEquals(concierge, new Concierge(storageManager.readConcierge().get()));
+    }
+
 
     /**
      * A Stub class to throw an exception when the save method is called
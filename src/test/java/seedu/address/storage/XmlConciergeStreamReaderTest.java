@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Concierge;
+import seedu.address.model.expenses.Expense;
+import seedu.address.model.room.Room;
+import seedu.address.testutil.TypicalConcierge;
+
+public class XmlConciergeStreamReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlConciergeStreamReaderTest");
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "XmlSerializableConciergeTest");
+    private static final Path MENU_BEFORE_ROOMS_FILE = TEST_DATA_FOLDER.resolve("menuBeforeRoomsConcierge.xml");
+    private static final Path MENU_AFTER_ROOMS_FILE = TEST_DATA_FOLDER.resolve("menuAfterRoomsConcierge.xml");
+    private static final Path MENU_SPLIT_BY_ROOMS_FILE = TEST_DATA_FOLDER.resolve("menuSplitByRoomsConcierge.xml");
+    private static final Path NOT_XML_FILE = Paths.get("src", "test", "data", "XmlConciergeStorageTest",
+            "NotXmlFormatConcierge.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readConcierge_savedConcierge_sameConcierge() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempConcierge.xml");
+        Concierge original = TypicalConcierge.getTypicalConcierge();
+        new XmlConciergeStorage(filePath).saveConcierge(original);
+        assertEquals(original, XmlConciergeStreamReader.readConcierge(filePath));
+    }
+
+    @Test
+    public void readConcierge_menuBeforeRooms_expensesUseMenu() throws Exception {
+        Concierge concierge = XmlConciergeStreamReader.readConcierge(MENU_BEFORE_ROOMS_FILE);
+        assertEquals(7, concierge.getGuestList().size());
+        assertEquals(8, concierge.getMenuMap().size());
+        assertEquals(2, concierge.getCheckedInGuestList().size());
+
+        Room room = concierge.getRoomList().get(1);
+        Expense expense = room.getExpenses().getExpensesList().get(0);
+        assertEquals("Room service: Thai massage", expense.getExpenseType().getItemName());
+        assertTrue(concierge.getCheckedInGuestList().contains(room.getBookings().getFirstBooking().getGuest()));
+    }
+
+    @Test
+    public void readConcierge_menuAfterRooms_sameAsMenuBeforeRooms() throws Exception {
+        assertEquals(XmlConciergeStreamReader.readConcierge(MENU_BEFORE_ROOMS_FILE),
+                XmlConciergeStreamReader.readConcierge(MENU_AFTER_ROOMS_FILE));
+    }
+
+    @Test
+    public void readConcierge_menuSplitByRooms_sameAsMenuBeforeRooms() throws Exception {
+        assertEquals(XmlConciergeStreamReader.readConcierge(MENU_BEFORE_ROOMS_FILE),
+                XmlConciergeStreamReader.readConcierge(MENU_SPLIT_BY_ROOMS_FILE));
+    }
+
+    @Test
+    public void readConcierge_missingFile_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlConciergeStreamReader.readConcierge(TEST_DATA_FOLDER.resolve("NonExistentFile.xml"));
+    }
+
+    @Test
+    public void readConcierge_notXmlFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlConciergeStreamReader.readConcierge(NOT_XML_FILE);
+    }
+
+    @Test
+    public void readConcierge_invalidGuest_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        XmlConciergeStreamReader.readConcierge(SERIALIZABLE_TEST_DATA_FOLDER.resolve("invalidGuestConcierge.xml"));
+    }
+
+    @Test
+    public void readConcierge_duplicateGuests_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableConcierge.MESSAGE_DUPLICATE_GUEST);
+        XmlConciergeStreamReader.readConcierge(SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicateGuestConcierge.xml"));
+    }
+
+    @Test
+    public void readConcierge_duplicateItem_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableConcierge.MESSAGE_DUPLICATE_ITEM);
+        XmlConciergeStreamReader.readConcierge(SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicateItemConcierge.xml"));
+    }
+
+    @Test
+    public void readConcierge_duplicateRooms_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableConcierge.MESSAGE_DUPLICATE_ROOM);
+        XmlConciergeStreamReader.readConcierge(SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicateRoomConcierge.xml"));
+    }
+
+    @Test
+    public void readConcierge_missingRooms_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableConcierge.MESSAGE_ROOM_MISSING);
+        XmlConciergeStreamReader.readConcierge(SERIALIZABLE_TEST_DATA_FOLDER.resolve("missingRoomConcierge.xml"));
+    }
+
+    @Test
+    public void readConcierge_overlappingBooking_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlAdaptedRoom.MESSAGE_OVERLAPPING_BOOKING);
+        XmlConciergeStreamReader.readConcierge(
+                SERIALIZABLE_TEST_DATA_FOLDER.resolve("overlappingBookingConcierge.xml"));
+    }
+
+    @Test
+    public void readConcierge_invalidExpense_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlAdaptedExpense.MESSAGE_INVALID_COST);
+        XmlConciergeStreamReader.readConcierge(SERIALIZABLE_TEST_DATA_FOLDER.resolve("invalidExpenseConcierge.xml"));
+    }
+}
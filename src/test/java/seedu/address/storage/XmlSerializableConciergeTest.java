@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashSet;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -13,6 +14,7 @@ import org.junit.rules.ExpectedException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
 import seedu.address.model.Concierge;
+import seedu.address.model.util.SyntheticDataGenerator;
 import seedu.address.testutil.TypicalConcierge;
 
 public class XmlSerializableConciergeTest {
@@ -125,4 +127,15 @@ public class XmlSerializableConciergeTest {
         thrown.expectMessage(XmlAdaptedExpense.MESSAGE_INVALID_COST);
         dataFromFile.toModelType();
     }
+
+    @Test
+    public void toModelType_generatedConcierge_success() throws Exception {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1).withGuestCount(200);
+        Concierge expected = generator.generateConcierge();
+        Concierge converted = new XmlSerializableConcierge(generator).toModelType();
+        assertEquals(expected.getGuestList(), converted.getGuestList());
+        assertEquals(expected.getRoomList(), converted.getRoomList());
+        assertEquals(new HashSet<>(expected.getCheckedInGuestList()), new HashSet<>(converted.getCheckedInGuestList()));
+        assertEquals(expected.getMenuMap(), converted.getMenuMap());
+    }
 }
@@ -39,7 +39,7 @@ public class RoomUtil {
      * Returns the part of command string for the given {@code roomNumber}.
      */
     public static String getRoomDesc(RoomNumber roomNumber) {
-        return PREFIX_ROOM + " " + roomNumber.value;
+        return PREFIX_ROOM + " " + roomNumber;
     }
     /**
      * Returns the part of command string for the given {@code bookingPeriod}.
@@ -0,0 +1,119 @@
+package seedu.address.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.Queue;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class FxThreadListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("c", "a", "d", "b");
+    private final Queue<Runnable> pendingEdits = new LinkedList<>();
+    private boolean isFxThread = false;
+    private final FxThreadList<String> fxThreadList =
+            new FxThreadList<>(source, pendingEdits::add, () -> isFxThread);
+    private final ObservableList<String> copy = fxThreadList.asObservableList();
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void asObservableList_modify_throwsUnsupportedOperationException() {
+        copy.add("e");
+    }
+
+    @Test
+    public void constructor_copiesSource() {
+        assertEquals(source, copy);
+    }
+
+    @Test
+    public void sourceChanged_offFxThread_appliedOnlyWhenRun() {
+        source.add("e");
+        assertEquals(Arrays.asList("c", "a", "d", "b"), copy);
+
+        runPendingEdits();
+        assertEquals(source, copy);
+    }
+
+    @Test
+    public void sourceChanged_permutation_copyReordered() {
+        source.sort(Comparator.naturalOrder());
+        runPendingEdits();
+        assertEquals(Arrays.asList("a", "b", "c", "d"), copy);
+
+        FXCollections.reverse(source);
+        runPendingEdits();
+        assertEquals(Arrays.asList("d", "c", "b", "a"), copy);
+    }
+
+    @Test
+    public void sourceChanged_replace_copyItemReplaced() {
+        source.set(2, "e");
+        source.setAll("f", "g", "h", "i");
+        runPendingEdits();
+        assertEquals(Arrays.asList("f", "g", "h", "i"), copy);
+    }
+
+    @Test
+    public void sourceChanged_removeAndAdd_copyMatchesSource() {
+        source.remove(1);
+        source.add(0, "e");
+        source.addAll(2, Arrays.asList("f", "g"));
+        source.removeAll("c", "g");
+        source.remove(1, 3);
+        source.setAll("h");
+        source.addAll("i", "j");
+        runPendingEdits();
+        assertEquals(Arrays.asList("h", "i", "j"), copy);
+
+        source.clear();
+        runPendingEdits();
+        assertEquals(Collections.emptyList(), copy);
+    }
+
+    @Test
+    public void sourceChanged_onFxThreadWithNothingPending_appliedInline() {
+        isFxThread = true;
+        source.remove("a");
+        source.add("e");
+
+        assertTrue(pendingEdits.isEmpty());
+        assertEquals(Arrays.asList("c", "d", "b", "e"), copy);
+    }
+
+    @Test
+    public void sourceChanged_onFxThreadWithChangesPending_appliedAfterPendingChanges() {
+        // a command running off the JavaFX application thread removes an item
+        source.remove("a");
+
+        // the JavaFX application thread then changes the list before the removal is applied
+        isFxThread = true;
+        source.add(0, "e");
+        assertEquals(Arrays.asList("c", "a", "d", "b"), copy);
+        assertEquals(2, pendingEdits.size());
+
+        runPendingEdits();
+        assertEquals(Arrays.asList("e", "c", "d", "b"), copy);
+
+        // nothing is waiting any more, so changes are applied straight away again
+        source.remove("e");
+        assertTrue(pendingEdits.isEmpty());
+        assertEquals(source, copy);
+    }
+
+    /**
+     * Runs the edits waiting to be applied to the copy, in the order they were made.
+     */
+    private void runPendingEdits() {
+        while (!pendingEdits.isEmpty()) {
+            pendingEdits.poll().run();
+        }
+    }
+}
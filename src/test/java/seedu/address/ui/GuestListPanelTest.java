@@ -105,7 +105,7 @@ public class GuestListPanelTest extends GuiUnitTest {
             builder.append("<address>a</address>\n");
             builder.append("</guest>\n");
         }
-        for (int r = 1; r <= Integer.parseInt(RoomNumber.MAX_ROOM_NUMBER); r++) {
+        for (int r = 1; r <= RoomNumber.getMaxRoomNumber(); r++) {
             builder.append("<rooms>\n");
             builder.append("<roomNumber>").append(String.format("%03d", r)).append("</roomNumber>\n");
             builder.append("<capacity>SINGLE</capacity>\n");
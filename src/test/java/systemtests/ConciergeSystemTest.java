@@ -130,6 +130,7 @@ public abstract class ConciergeSystemTest {
         clockRule.setInjectedClockToCurrentTime();
 
         mainWindowHandle.getCommandBox().run(command);
+        testApp.flushStorage();
     }
 
     /**